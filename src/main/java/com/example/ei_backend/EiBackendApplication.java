@@ -4,11 +4,13 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import jakarta.annotation.PostConstruct;
 import java.util.TimeZone;
 
 @EnableJpaAuditing
+@EnableScheduling
 @SpringBootApplication
 @ConfigurationPropertiesScan(basePackages = "com.example.ei_backend")
 public class EiBackendApplication {
@@ -0,0 +1,263 @@
+package com.example.ei_backend.aws;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 대용량(영상) 파일용 S3 멀티파트 스트리밍 업로드.
+ * - 파일 전체를 힙에 올리지 않음: part 크기 버퍼를 업로드당 최대 concurrency 개만 사용
+ *   (Path 소스는 part 를 파일 구간에서 직접 읽어 버퍼 없음)
+ * - 실패 시 AbortMultipartUpload 로 미완료 part 정리
+ * - part 완료마다 진행 콜백
+ */
+@Service
+@Slf4j
+public class S3MultipartUploader {
+
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+    private static final long MAX_PART_SIZE = 512L * 1024 * 1024;
+
+    private final S3Client s3Client;
+    private final String bucketName;
+    private final String region;
+    private final long partSize;
+    private final int concurrency;
+    private final ExecutorService partExecutor;
+
+    public S3MultipartUploader(S3Client s3Client,
+                               S3UploadProperties props,
+                               @Value("${cloud.aws.s3.bucket}") String bucketName,
+                               @Value("${cloud.aws.region.static}") String region) {
+        this.s3Client = s3Client;
+        this.bucketName = bucketName;
+        this.region = region;
+        this.partSize = Math.min(MAX_PART_SIZE, Math.max(MIN_PART_SIZE, props.getPartSize().toBytes()));
+        this.concurrency = Math.max(1, props.getConcurrency());
+
+        AtomicInteger seq = new AtomicInteger();
+        this.partExecutor = Executors.newFixedThreadPool(Math.max(1, props.getThreads()), r -> {
+            Thread t = new Thread(r, "s3-part-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /** 업로드 파일(임시파일 기반 스트림) → S3. 반환: 공개 URL */
+    public String upload(MultipartFile file, String dirName, UploadProgressListener listener) throws IOException {
+        String key = dirName + "/" + UUID.randomUUID() + "_" + file.getOriginalFilename();
+        long size = file.getSize();
+
+        try (InputStream in = file.getInputStream()) {
+            upload(key, size, file.getContentType(), listener, (offset, length) -> {
+                byte[] buf = in.readNBytes((int) length); // 순차 읽기 (part 번호 순서대로 호출됨)
+                if (buf.length != length) throw new IOException("업로드 스트림이 예상보다 짧습니다: " + key);
+                return RequestBody.fromBytes(buf);
+            });
+        }
+        return getFileUrl(key);
+    }
+
+    /** 로컬 파일 → S3 (part 를 파일 구간에서 직접 스트리밍) */
+    public String upload(Path path, String key, String contentType, UploadProgressListener listener) throws IOException {
+        long size = Files.size(path);
+        upload(key, size, contentType, listener, (offset, length) ->
+                RequestBody.fromContentProvider(() -> openRange(path, offset, length), length,
+                        contentType != null ? contentType : "application/octet-stream"));
+        return getFileUrl(key);
+    }
+
+    public String getFileUrl(String key) {
+        return "https://" + bucketName + ".s3." + region + ".amazonaws.com/" + key;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        partExecutor.shutdownNow();
+    }
+
+    /* ===================== 내부 ===================== */
+
+    @FunctionalInterface
+    private interface PartBodies {
+        RequestBody next(long offset, long length) throws IOException;
+    }
+
+    private void upload(String key, long size, String contentType,
+                        UploadProgressListener listener, PartBodies bodies) throws IOException {
+        UploadProgressListener progress = listener != null ? listener : UploadProgressListener.NONE;
+
+        // part 1개 이하면 단일 PUT
+        if (size <= partSize) {
+            s3Client.putObject(b -> b.bucket(bucketName).key(key)
+                            .contentType(contentType)
+                            .contentLength(size)
+                            .acl(ObjectCannedACL.PUBLIC_READ),
+                    bodies.next(0, size));
+            progress.onProgress(size, size);
+            return;
+        }
+
+        String uploadId = s3Client.createMultipartUpload(b -> b.bucket(bucketName).key(key)
+                .contentType(contentType)
+                .acl(ObjectCannedACL.PUBLIC_READ)).uploadId();
+        log.info("[s3-multipart] start key={}, size={}, partSize={}, uploadId={}", key, size, partSize, uploadId);
+
+        Semaphore permits = new Semaphore(concurrency);
+        List<CompletableFuture<CompletedPart>> futures = new ArrayList<>();
+        AtomicLong transferred = new AtomicLong();
+        AtomicReference<Throwable> failure = new AtomicReference<>(); // 첫 part 실패 → 이후 part 제출 중단
+
+        try {
+            int partNumber = 1;
+            for (long offset = 0; offset < size; offset += partSize, partNumber++) {
+                long length = Math.min(partSize, size - offset);
+
+                permits.acquire(); // 버퍼 할당 전에 획득 → 업로드당 버퍼 수 상한
+                if (failure.get() != null) {
+                    permits.release();
+                    break;
+                }
+
+                RequestBody body;
+                try {
+                    body = bodies.next(offset, length);
+                } catch (IOException | RuntimeException e) {
+                    permits.release();
+                    throw e;
+                }
+
+                int pn = partNumber;
+                futures.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        String eTag = s3Client.uploadPart(b -> b.bucket(bucketName).key(key)
+                                .uploadId(uploadId)
+                                .partNumber(pn)
+                                .contentLength(length), body).eTag();
+                        long done = transferred.addAndGet(length);
+                        progress.onProgress(done, size);
+                        log.debug("[s3-multipart] part {} done ({}/{}) key={}", pn, done, size, key);
+                        return CompletedPart.builder().partNumber(pn).eTag(eTag).build();
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null, e);
+                        throw e;
+                    } finally {
+                        permits.release();
+                    }
+                }, partExecutor));
+            }
+
+            List<CompletedPart> parts = new ArrayList<>(futures.size());
+            for (CompletableFuture<CompletedPart> f : futures) {
+                parts.add(f.join());
+            }
+
+            s3Client.completeMultipartUpload(b -> b.bucket(bucketName).key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(m -> m.parts(parts)));
+            log.info("[s3-multipart] complete key={}, parts={}", key, parts.size());
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort(key, uploadId, futures);
+            throw new IOException("S3 멀티파트 업로드가 중단되었습니다: " + key, e);
+        } catch (IOException e) {
+            abort(key, uploadId, futures);
+            throw e;
+        } catch (RuntimeException e) {
+            abort(key, uploadId, futures);
+            Throwable cause = (e instanceof CompletionException && e.getCause() != null) ? e.getCause() : e;
+            throw new IOException("S3 멀티파트 업로드 실패: " + key, cause);
+        }
+    }
+
+    private void abort(String key, String uploadId, List<CompletableFuture<CompletedPart>> inFlight) {
+        // 진행 중인 part 가 끝난 뒤 abort 해야 잔여 part 가 남지 않음
+        try {
+            CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).handle((r, ex) -> null).join();
+        } catch (RuntimeException ignore) {
+            // 개별 실패는 이미 상위에서 처리
+        }
+        try {
+            s3Client.abortMultipartUpload(b -> b.bucket(bucketName).key(key).uploadId(uploadId));
+            log.warn("[s3-multipart] aborted key={}, uploadId={}", key, uploadId);
+        } catch (RuntimeException e) {
+            log.error("[s3-multipart] abort 실패 key={}, uploadId={} (버킷 lifecycle 로 정리 필요)", key, uploadId, e);
+        }
+    }
+
+    private static InputStream openRange(Path path, long offset, long length) {
+        try {
+            FileChannel ch = FileChannel.open(path, StandardOpenOption.READ);
+            ch.position(offset);
+            return new LimitedInputStream(Channels.newInputStream(ch), length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** 지정 길이까지만 읽는 스트림 */
+    private static final class LimitedInputStream extends FilterInputStream {
+        private long remaining;
+
+        LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) return -1;
+            int b = super.read();
+            if (b >= 0) remaining--;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) return -1;
+            int n = super.read(b, off, (int) Math.min(len, remaining));
+            if (n > 0) remaining -= n;
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(Math.min(n, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(super.available(), remaining);
+        }
+    }
+}
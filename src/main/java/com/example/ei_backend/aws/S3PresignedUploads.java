@@ -0,0 +1,137 @@
+package com.example.ei_backend.aws;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.awscore.presigner.PresignedRequest;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
+import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 클라이언트 → S3 직접 업로드용 presigned URL 발급 및 사후 처리(완료/HEAD/정리).
+ * - 단일 PUT: Content-Type, Content-Length 를 서명에 포함 → 다른 크기/타입으로는 업로드 불가
+ * - 멀티파트: 서버가 CreateMultipartUpload 후 part 별 UploadPart URL 발급, 완료는 confirm 시 서버가 수행
+ */
+@Component
+@Slf4j
+public class S3PresignedUploads {
+
+    private static final int MAX_PARTS = 10_000;
+    private static final long MB = 1024L * 1024;
+
+    private final S3Client s3Client;
+    private final S3Presigner presigner;
+    private final S3UploadProperties props;
+    private final String bucketName;
+
+    public S3PresignedUploads(S3Client s3Client,
+                              S3Presigner presigner,
+                              S3UploadProperties props,
+                              @Value("${cloud.aws.s3.bucket}") String bucketName) {
+        this.s3Client = s3Client;
+        this.presigner = presigner;
+        this.props = props;
+        this.bucketName = bucketName;
+    }
+
+    /** 단일 PUT presign */
+    public PresignedUpload presignPut(String key, String contentType, long size, Duration ttl) {
+        var presigned = presigner.presignPutObject(r -> r
+                .signatureDuration(ttl)
+                .putObjectRequest(b -> b.bucket(bucketName).key(key)
+                        .contentType(contentType)
+                        .contentLength(size)
+                        .acl(ObjectCannedACL.PUBLIC_READ)));
+        return new PresignedUpload(presigned.url().toString(), requiredHeaders(presigned));
+    }
+
+    /** 멀티파트 시작 (uploadId 반환) */
+    public String createMultipart(String key, String contentType) {
+        return s3Client.createMultipartUpload(b -> b.bucket(bucketName).key(key)
+                .contentType(contentType)
+                .acl(ObjectCannedACL.PUBLIC_READ)).uploadId();
+    }
+
+    /** part 별 UploadPart presign (각 part 길이도 서명에 포함) */
+    public List<String> presignParts(String key, String uploadId, long size, long partSize, Duration ttl) {
+        int count = (int) ((size + partSize - 1) / partSize);
+        List<String> urls = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int partNumber = i + 1;
+            long length = Math.min(partSize, size - (long) i * partSize);
+            var presigned = presigner.presignUploadPart(r -> r
+                    .signatureDuration(ttl)
+                    .uploadPartRequest(b -> b.bucket(bucketName).key(key)
+                            .uploadId(uploadId)
+                            .partNumber(partNumber)
+                            .contentLength(length)));
+            urls.add(presigned.url().toString());
+        }
+        return urls;
+    }
+
+    /** 크기에 맞는 part 크기 (설정값 이상, part 수 10,000 이하가 되도록 MB 단위 올림) */
+    public long partSizeFor(long size) {
+        long min = Math.max(5 * MB, props.getPartSize().toBytes());
+        long needed = (size + MAX_PARTS - 1) / MAX_PARTS;
+        long partSize = Math.max(min, needed);
+        return ((partSize + MB - 1) / MB) * MB;
+    }
+
+    public void completeMultipart(String key, String uploadId, List<CompletedPart> parts) {
+        s3Client.completeMultipartUpload(b -> b.bucket(bucketName).key(key)
+                .uploadId(uploadId)
+                .multipartUpload(m -> m.parts(parts)));
+    }
+
+    /** 객체 메타 조회 (없으면 empty) */
+    public Optional<HeadObjectResponse> head(String key) {
+        try {
+            return Optional.of(s3Client.headObject(b -> b.bucket(bucketName).key(key)));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) return Optional.empty();
+            throw e;
+        }
+    }
+
+    public void abortMultipart(String key, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(b -> b.bucket(bucketName).key(key).uploadId(uploadId));
+        } catch (NoSuchUploadException e) {
+            log.debug("[s3-presign] 이미 정리된 멀티파트 key={}, uploadId={}", key, uploadId);
+        }
+    }
+
+    /** 객체 삭제 (없어도 성공) */
+    public void delete(String key) {
+        s3Client.deleteObject(b -> b.bucket(bucketName).key(key));
+    }
+
+    /** 클라이언트가 그대로 보내야 하는 서명 헤더 (host 제외) */
+    private static Map<String, String> requiredHeaders(PresignedRequest presigned) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        presigned.signedHeaders().forEach((name, values) -> {
+            if (!"host".equalsIgnoreCase(name) && !values.isEmpty()) {
+                headers.put(name, String.join(",", values));
+            }
+        });
+        return headers;
+    }
+
+    public record PresignedUpload(String url, Map<String, String> headers) {}
+}
@@ -0,0 +1,36 @@
+package com.example.ei_backend.aws;
+
+import com.example.ei_backend.util.Mp4DurationReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.S3Client;
+
+/** S3 객체를 Range GET 으로 부분 읽기 (전체 다운로드 없이 헤더/메타 판독용) */
+@Component
+public class S3RangeReader {
+
+    private final S3Client s3Client;
+    private final String bucketName;
+
+    public S3RangeReader(S3Client s3Client, @Value("${cloud.aws.s3.bucket}") String bucketName) {
+        this.s3Client = s3Client;
+        this.bucketName = bucketName;
+    }
+
+    public Mp4DurationReader.RangeSource source(String key, long size) {
+        return new Mp4DurationReader.RangeSource() {
+            @Override
+            public long size() {
+                return size;
+            }
+
+            @Override
+            public byte[] read(long offset, int length) {
+                long last = Math.min(size, offset + length) - 1;
+                if (last < offset) return new byte[0];
+                return s3Client.getObjectAsBytes(b -> b.bucket(bucketName).key(key)
+                        .range("bytes=" + offset + "-" + last)).asByteArray();
+            }
+        };
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.ei_backend.aws;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "app.s3.upload")
+@Getter
+@Setter
+public class S3UploadProperties {
+
+    /** 멀티파트 part 크기 (S3 최소 5MB, 마지막 part 제외) */
+    private DataSize partSize = DataSize.ofMegabytes(5);
+
+    /** 업로드 1건당 동시에 전송하는 part 수 (= 메모리에 올라가는 part 버퍼 수 상한) */
+    private int concurrency = 2;
+
+    /** part 전송 스레드 풀 크기 (전체 업로드 공용) */
+    private int threads = 8;
+
+    /* ---------- presigned 직접 업로드 ---------- */
+
+    /** presigned URL 유효 시간 */
+    private Duration presignTtl = Duration.ofMinutes(30);
+
+    /** URL 만료 후 confirm 을 받아주는 여유 시간 (이후 미확정 업로드는 정리 대상) */
+    private Duration confirmGrace = Duration.ofMinutes(30);
+
+    /** 이 크기를 넘으면 단일 PUT 대신 멀티파트 presign */
+    private DataSize multipartThreshold = DataSize.ofMegabytes(100);
+
+    /** 영상 최대 크기 */
+    private DataSize maxVideoSize = DataSize.ofGigabytes(5);
+
+    /** 허용 Content-Type */
+    private List<String> allowedContentTypes = List.of("video/mp4", "video/webm", "video/quicktime");
+}
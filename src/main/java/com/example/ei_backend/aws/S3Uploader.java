@@ -11,6 +11,7 @@ import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.UUID;
 
 @Service
@@ -36,10 +37,13 @@ public class S3Uploader {
                 .acl(ObjectCannedACL.PUBLIC_READ)
                 .build();
 
-        s3Client.putObject(
-                putObjectRequest,
-                RequestBody.fromBytes(file.getBytes())
-        );
+        // 바이트 배열로 복사하지 않고 (임시파일 기반) 스트림으로 전송
+        try (InputStream in = file.getInputStream()) {
+            s3Client.putObject(
+                    putObjectRequest,
+                    RequestBody.fromInputStream(in, file.getSize())
+            );
+        }
 
         return getFileUrl(fileName);
     }
@@ -0,0 +1,10 @@
+package com.example.ei_backend.aws;
+
+/** 업로드 진행 콜백 (part 완료 시점마다 호출, 전송 스레드에서 실행될 수 있음) */
+@FunctionalInterface
+public interface UploadProgressListener {
+
+    UploadProgressListener NONE = (transferred, total) -> { };
+
+    void onProgress(long bytesTransferred, long totalBytes);
+}
@@ -0,0 +1,63 @@
+package com.example.ei_backend.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 상태 컬럼을 MySQL 네이티브 ENUM → VARCHAR(20) 으로 변환.
+ * ddl-auto=update 는 기존 컬럼 타입을 바꾸지 않으므로, 예전에 ENUM(...) 으로 만들어진 테이블에서는
+ * 이후 추가된 상태(결제 APPROVING/EXPIRED, 영상 PROCESSING 등) 저장이 "Data truncated" 로 실패한다
+ * → 기동 시 1회 확인 후 변환 (이미 VARCHAR 면 아무것도 안 함).
+ * EntityManagerFactory 주입으로 스키마 갱신 이후, 웹 서버 기동 이전에 실행된다.
+ * 엔티티 enum 컬럼을 {@code @JdbcTypeCode(SqlTypes.VARCHAR)} 로 바꿀 때 여기에 함께 추가.
+ */
+@Component
+@Slf4j
+public class EnumColumnMigration {
+
+    private static final List<Target> TARGETS = List.of(
+            new Target("pending_payment", "status"),
+            new Target("pending_payment_archive", "status"),
+            new Target("video_asset", "status"));
+
+    private static final String COLUMN_TYPE_SQL = """
+            SELECT DATA_TYPE, IS_NULLABLE FROM information_schema.COLUMNS
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND COLUMN_NAME = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EnumColumnMigration(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    void migrate() {
+        for (Target t : TARGETS) {
+            String ddl = null;
+            try {
+                List<String[]> rows = jdbcTemplate.query(COLUMN_TYPE_SQL,
+                        (rs, i) -> new String[]{rs.getString(1), rs.getString(2)}, t.table(), t.column());
+                if (rows.isEmpty() || !"enum".equalsIgnoreCase(rows.get(0)[0])) continue;
+
+                String nullability = "NO".equalsIgnoreCase(rows.get(0)[1]) ? " NOT NULL" : "";
+                ddl = "ALTER TABLE " + t.table() + " MODIFY " + t.column() + " VARCHAR(20)" + nullability;
+                jdbcTemplate.execute(ddl);
+                log.info("[enum-migration] {}.{} ENUM → VARCHAR(20)", t.table(), t.column());
+            } catch (DataAccessException e) {
+                // 변환 실패 시 새 상태 저장이 실패하므로 수동 조치가 필요함을 남김
+                log.error("[enum-migration] {}.{} 변환 실패 - 수동으로 {} 필요", t.table(), t.column(),
+                        ddl != null ? ddl : "ALTER TABLE " + t.table() + " MODIFY " + t.column() + " VARCHAR(20)", e);
+            }
+        }
+    }
+
+    /** 테이블/컬럼명은 코드 상수만 사용 (DDL 에 그대로 들어감) */
+    private record Target(String table, String column) {}
+}
@@ -2,23 +2,37 @@ package com.example.ei_backend.config;
 
 import com.example.ei_backend.websocket.JwtHandshakeInterceptor;
 import com.example.ei_backend.websocket.JwtStompChannelInterceptor;
+import com.example.ei_backend.websocket.OutboundBackpressure;
 import com.example.ei_backend.websocket.UserPrincipalHandshakeHandler;
+import com.example.ei_backend.websocket.WebSocketProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+import java.util.concurrent.RejectedExecutionException;
 
 @Configuration
 @EnableWebSocketMessageBroker
 @RequiredArgsConstructor
+@Slf4j
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final JwtHandshakeInterceptor jwtHandshakeInterceptor;
     private final UserPrincipalHandshakeHandler userPrincipalHandshakeHandler;
     private final JwtStompChannelInterceptor jwtStompChannelInterceptor;
+    private final WebSocketProperties webSocketProperties;
+    private final OutboundBackpressure outboundBackpressure;
+    private final MeterRegistry meterRegistry;
 
     // 운영에선 환경변수/설정으로 주입 추천
     private static final String[] ALLOWED_ORIGINS = {
@@ -55,13 +69,99 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .withSockJS();
     }
 
+    /**
+     * SIMPLE: 인메모리 브로커 (같은 JVM 에 붙은 세션에만 전달)
+     * RELAY : 외부 STOMP 브로커로 릴레이 → 여러 API 노드에 분산된 세션에도 /topic, /user 전달.
+     *         사용자 세션 레지스트리를 브로커 토픽으로 공유하고, 로컬에 없는 사용자 목적지는 다른 노드로 넘긴다.
+     */
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        registry.enableSimpleBroker("/topic", "/queue");
+        WebSocketProperties.Broker broker = webSocketProperties.getBroker();
+
+        if (broker.getMode() == WebSocketProperties.BrokerMode.RELAY) {
+            var relay = registry.enableStompBrokerRelay("/topic", "/queue")
+                    .setRelayHost(broker.getRelayHost())
+                    .setRelayPort(broker.getRelayPort())
+                    .setClientLogin(broker.getClientLogin())
+                    .setClientPasscode(broker.getClientPasscode())
+                    .setSystemLogin(broker.getSystemLogin())
+                    .setSystemPasscode(broker.getSystemPasscode())
+                    .setSystemHeartbeatSendInterval(broker.getSystemHeartbeatSendInterval())
+                    .setSystemHeartbeatReceiveInterval(broker.getSystemHeartbeatReceiveInterval())
+                    .setUserRegistryBroadcast(broker.getUserRegistryBroadcast())
+                    .setUserDestinationBroadcast(broker.getUserDestinationBroadcast());
+            if (broker.getVirtualHost() != null && !broker.getVirtualHost().isBlank()) {
+                relay.setVirtualHost(broker.getVirtualHost());
+            }
+            log.info("[ws] STOMP broker relay {}:{}", broker.getRelayHost(), broker.getRelayPort());
+        } else {
+            registry.enableSimpleBroker("/topic", "/queue");
+        }
+
         registry.setApplicationDestinationPrefixes("/app");
         registry.setUserDestinationPrefix("/user");
         registry.setPreservePublishOrder(true);
     }
 
-}
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor(channelExecutor("inbound", webSocketProperties.getInbound()));
+        registration.interceptors(jwtStompChannelInterceptor);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor(channelExecutor("outbound", webSocketProperties.getOutbound()));
+        registration.interceptors(outboundBackpressure);
+    }
 
+    /** 느린 클라이언트가 outbound 스레드를 오래 잡지 않도록 전송 시간/버퍼 상한 + 세션 전송 추적 */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        WebSocketProperties.Transport transport = webSocketProperties.getTransport();
+        registration.setSendTimeLimit((int) transport.getSendTimeLimit().toMillis())
+                .setSendBufferSizeLimit((int) transport.getSendBufferSizeLimit().toBytes())
+                .setMessageSizeLimit((int) transport.getMessageSizeLimit().toBytes())
+                .setTimeToFirstMessage((int) transport.getTimeToFirstMessage().toMillis())
+                .addDecoratorFactory(outboundBackpressure);
+    }
+
+    /** 채널 실행기 (대기열 길이/활성 스레드/거절 건수 메트릭 포함, 초기화는 Spring 이 bean 으로 수행) */
+    private ThreadPoolTaskExecutor channelExecutor(String channel, WebSocketProperties.ChannelPool pool) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(pool.getCoreSize());
+        executor.setMaxPoolSize(Math.max(pool.getCoreSize(), pool.getMaxSize()));
+        executor.setQueueCapacity(pool.getQueueCapacity());
+        executor.setKeepAliveSeconds(pool.getKeepAliveSeconds());
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setThreadNamePrefix("ws-" + channel + "-");
+        if (pool.isVirtualThreads()) {
+            executor.setThreadFactory(Thread.ofVirtual().name("ws-" + channel + "-vt-", 0).factory());
+        }
+
+        Counter rejected = Counter.builder("websocket.frames.dropped")
+                .tag("channel", channel)
+                .tag("reason", "rejected")
+                .register(meterRegistry);
+        executor.setRejectedExecutionHandler((task, threadPool) -> {
+            rejected.increment();
+            throw new RejectedExecutionException("WebSocket " + channel + " 채널 대기열이 가득 찼습니다.");
+        });
+
+        Gauge.builder("websocket.channel.queue", executor, WebSocketConfig::queueSize)
+                .tag("channel", channel)
+                .register(meterRegistry);
+        Gauge.builder("websocket.channel.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .tag("channel", channel)
+                .register(meterRegistry);
+        return executor;
+    }
+
+    private static int queueSize(ThreadPoolTaskExecutor executor) {
+        try {
+            return executor.getThreadPoolExecutor().getQueue().size();
+        } catch (IllegalStateException notInitialized) {
+            return 0;
+        }
+    }
+}
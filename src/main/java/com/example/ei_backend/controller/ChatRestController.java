@@ -1,11 +1,12 @@
 package com.example.ei_backend.controller;
 
+import com.example.ei_backend.domain.dto.chat.ChatMessagePage;
 import com.example.ei_backend.domain.dto.chat.ChatMessageResponseDto;
 import com.example.ei_backend.domain.dto.chat.ChatRoomSummaryDto;
 import com.example.ei_backend.domain.dto.chat.CloseRoomRequest;
 import com.example.ei_backend.domain.dto.chat.CloseRoomResponse;
+import com.example.ei_backend.domain.dto.chat.MarkReadRequest;
 import com.example.ei_backend.domain.entity.User;
-import com.example.ei_backend.domain.entity.chat.ChatMessage;
 import com.example.ei_backend.security.UserPrincipal;
 import com.example.ei_backend.service.ChatService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -62,9 +63,35 @@ public class ChatRestController {
         return ResponseEntity.ok(roomId);
     }
 
+    @Operation(
+            summary = "메시지 페이지 조회(커서)",
+            description = "before/after 커서 없이 호출하면 최신 limit 개, before=이전 응답의 before → 더 오래된 메시지, "
+                    + "after=이전 응답의 after → 이후 새 메시지(재연결 후 따라잡기). 메시지는 항상 오래된 순입니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "성공",
+                    content = @Content(schema = @Schema(implementation = ChatMessagePage.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 커서"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 필요"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 없음(해당 방 접근 불가)"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "채팅방 없음")
+    })
+    @GetMapping("/{roomId}/messages")
+    public ResponseEntity<ChatMessagePage> getMessagePage(
+            @Parameter(description = "채팅방 ID", example = "123")
+            @PathVariable Long roomId,
+            @Parameter(description = "이 커서보다 오래된 메시지") @RequestParam(required = false) String before,
+            @Parameter(description = "이 커서 이후 메시지") @RequestParam(required = false) String after,
+            @Parameter(description = "최대 개수(1~100)", example = "50") @RequestParam(defaultValue = "50") int limit,
+            @AuthenticationPrincipal UserPrincipal principal
+    ) {
+        return ResponseEntity.ok(chatService.getMessagePage(roomId, principal.getUserId(), principal.getUsername(), before, after, limit));
+    }
+
     @Operation(
             summary = "메시지 조회(오래된 순)",
-            description = "특정 채팅방의 메시지를 오래된 순서로 조회합니다."
+            description = "특정 채팅방의 메시지를 오래된 순서로 모두 조회합니다. (대화가 길면 응답이 커지므로 /messages 사용 권장)",
+            deprecated = true
     )
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "성공",
@@ -79,8 +106,26 @@ public class ChatRestController {
             @PathVariable Long roomId,
             @AuthenticationPrincipal UserPrincipal principal
     ) {
-        List<ChatMessage> messages = chatService.getMessages(roomId, principal.getUsername());
-        return ResponseEntity.ok(messages.stream().map(ChatMessageResponseDto::from).toList());
+        return ResponseEntity.ok(chatService.getMessages(roomId, principal.getUserId(), principal.getUsername()));
+    }
+
+    @Operation(
+            summary = "읽음 처리",
+            description = "요청자의 읽음 커서를 lastReadMessageId 까지 전진시키고 안 읽은 수를 갱신합니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 없음(해당 방 접근 불가)"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "채팅방 없음")
+    })
+    @PostMapping("/{roomId}/read")
+    public ResponseEntity<Void> markRead(
+            @PathVariable Long roomId,
+            @RequestBody @jakarta.validation.Valid MarkReadRequest req,
+            @AuthenticationPrincipal UserPrincipal principal
+    ) {
+        chatService.markRead(roomId, principal.getUserId(), principal.getUsername(), req.getLastReadMessageId());
+        return ResponseEntity.ok().build();
     }
 
     @io.swagger.v3.oas.annotations.Operation(
@@ -112,7 +157,7 @@ public class ChatRestController {
 
     @io.swagger.v3.oas.annotations.Operation(
             summary = "내 채팅방 목록(SUPPORT)",
-            description = "status=open|closed|all (기본 open), page/size/sort 지원"
+            description = "status=open|closed|all (기본 open), page/size/sort 지원 (sort=lastMessageAt,desc 로 최근 대화 순). 마지막 메시지 미리보기/안 읽은 수 포함"
     )
     @io.swagger.v3.oas.annotations.responses.ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -136,7 +181,7 @@ public class ChatRestController {
     }
 
     private Pageable sanitizeSort(Pageable pageable) {
-        var allowed = java.util.Set.of("createdAt", "closedAt", "id");
+        var allowed = java.util.Set.of("createdAt", "closedAt", "id", "lastMessageAt");
         Sort validSort = pageable.getSort().isUnsorted()
                 ? Sort.by(Sort.Direction.DESC, "createdAt")
                 : Sort.by(
@@ -1,9 +1,11 @@
 package com.example.ei_backend.controller;
 
 import com.example.ei_backend.domain.dto.chat.ChatMessageRequestDto;
+import com.example.ei_backend.security.UserPrincipal;
 import com.example.ei_backend.service.ChatService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import java.security.Principal;
 
@@ -15,6 +17,14 @@ public class ChatStompController {
 
     @MessageMapping("/chat.send")
     public void send(ChatMessageRequestDto reqDto, Principal principal) {
-        chatService.sendMessage(reqDto.getChatRoomId(), principal.getName(), reqDto.getMessage());
+        chatService.sendMessage(reqDto.getChatRoomId(), userIdOf(principal), principal.getName(), reqDto.getMessage());
+    }
+
+    /** 연결 시 심어둔 UserPrincipal 의 userId (폴백 principal 이면 null → 이메일로 판단) */
+    private static Long userIdOf(Principal principal) {
+        if (principal instanceof Authentication auth && auth.getPrincipal() instanceof UserPrincipal up) {
+            return up.getUserId();
+        }
+        return null;
     }
 }
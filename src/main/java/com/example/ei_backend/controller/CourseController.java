@@ -54,9 +54,8 @@ public class CourseController {
             @PathVariable Long courseId
     ) {
         Long userId = principal.getUserId();
-        double percent = courseProgressService.getCourseProgressPercent(userId, courseId);
-        var cnt = courseProgressService.getProgressCount(userId, courseId);
-        return ApiResponse.ok(CourseProgressDto.of(percent, cnt.completedLectures(), cnt.totalLectures(), completeThreshold));
+        var summary = courseProgressService.getSummary(userId, courseId);
+        return ApiResponse.ok(CourseProgressDto.of(summary.percent(), summary.completedLectures(), summary.totalLectures(), completeThreshold));
     }
 
     @Operation(
@@ -164,6 +164,55 @@ public class LectureController {
         return ApiResponse.ok(createWithVideoService.update(lectureId, req, video));
     }
 
+    /** ADMIN: S3 직접 업로드 (presign → 클라이언트 PUT → confirm) */
+    @Operation(
+            summary = "강의 영상 업로드 URL 발급(presigned)",
+            description = "영상 크기/Content-Type 을 검사한 뒤 S3 직접 업로드 URL 을 발급합니다. "
+                    + "multipart-threshold 초과 시 part 별 URL 을 발급합니다."
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200", description = "발급 성공",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = PresignResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "크기/형식 제한 위반"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 없음(ADMIN)"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "강의 없음")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/lectures/{lectureId}/video/presign")
+    public ApiResponse<PresignResponse> presignVideo(
+            @Parameter(description = "강의 ID", example = "1001") @PathVariable Long lectureId,
+            @RequestBody @Valid PresignRequest req
+    ) {
+        return ApiResponse.ok(lectureCommandService.presign(lectureId, req));
+    }
+
+    @Operation(
+            summary = "강의 영상 업로드 확정",
+            description = "S3 에 업로드된 객체를 확인(HEAD)한 뒤 영상을 READY 로 반영합니다. 멀티파트는 parts(ETag)가 필요합니다."
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200", description = "확정 성공",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = LectureDto.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "객체 없음/크기·형식 불일치"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 없음(ADMIN)"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "강의/업로드 세션 없음"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "만료되었거나 이미 처리된 업로드")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/lectures/{lectureId}/video/confirm")
+    public ApiResponse<LectureDto> confirmVideo(
+            @Parameter(description = "강의 ID", example = "1001") @PathVariable Long lectureId,
+            @RequestBody @Valid ConfirmVideoRequest req
+    ) {
+        return ApiResponse.ok(lectureCommandService.confirm(lectureId, req));
+    }
+
     @Operation(summary = "강의 삭제", description = "관리자가 특정 강의를 삭제합니다.")
     @io.swagger.v3.oas.annotations.responses.ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "삭제 성공"),
@@ -243,7 +292,8 @@ public class LectureController {
                 me.getUserId(),
                 lectureId,
                 req.getWatchedSec(),
-                req.isCompleted()
+                req.isCompleted(),
+                me.getUsername()
         );
         return ApiResponse.ok(dto);
     }
@@ -46,7 +46,7 @@ public class MyPageController {
             @Parameter(hidden = true) // Swagger UI 파라미터 목록에서 숨김
             @AuthenticationPrincipal UserPrincipal userPrincipal
     ) {
-        MyPageResponseDto dto = authService.getMyPageInfo(userPrincipal.getUser());
+        MyPageResponseDto dto = authService.getMyPageInfo(userPrincipal.getUserId());
         return ResponseEntity.ok(ApiResponse.ok(dto));
     }
 }
@@ -0,0 +1,15 @@
+package com.example.ei_backend.domain.dto;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class KakaoPayOrderRequestDto {
+
+    private String cid;              // 가맹점 코드
+    private String tid;              // 결제 고유번호
+}
@@ -0,0 +1,29 @@
+package com.example.ei_backend.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** 주문 조회 응답 (대사용으로 필요한 필드만) */
+@Getter @Setter
+@NoArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class KakaoPayOrderResponseDto {
+    private String tid;
+    private String cid;
+    /** READY, SEND_TMS, OPEN_PAYMENT, SELECT_METHOD, ARS_WAITING, AUTH_PASSWORD, ISSUED_SID,
+     *  SUCCESS_PAYMENT, PART_CANCEL_PAYMENT, CANCEL_PAYMENT, FAIL_AUTH_PASSWORD, QUIT_PAYMENT, FAIL_PAYMENT */
+    private String status;
+
+    private String partnerOrderId;
+    private String partnerUserId;
+
+    private KakaoPayApproveResponseDto.Amount amount;
+
+    private String createdAt;
+    private String approvedAt;
+}
@@ -0,0 +1,21 @@
+package com.example.ei_backend.domain.dto.chat;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * 채팅 메시지 keyset 페이지.
+ * - messages: 항상 오래된 순(id 오름차순)
+ * - before: 이 값을 before 로 넘기면 더 오래된 페이지 (더 없으면 null)
+ * - after : 이 값을 after 로 넘기면 이후 새 메시지 (재연결 후 따라잡기용, 항상 존재)
+ * - hasMore: 요청 방향(before/최신 → 과거, after → 최신)으로 남은 메시지가 있는지
+ */
+@Builder
+public record ChatMessagePage(
+        List<ChatMessageResponseDto> messages,
+        String before,
+        String after,
+        boolean hasMore
+) {
+}
@@ -0,0 +1,31 @@
+package com.example.ei_backend.domain.dto.chat;
+
+/**
+ * 채팅방 참여자 요약 (불변).
+ * 전송/조회 시 권한 체크와 수신자 결정을 ChatRoom/User 엔티티 로딩 없이 처리하기 위한 값.
+ */
+public record ChatRoomParticipants(
+        Long roomId,
+        Long memberId,
+        String memberEmail,
+        Long supportId,
+        String supportEmail,
+        boolean closed
+) {
+    /** userId 가 있으면 id 로, 없으면 이메일로 참여 여부 판단 */
+    public boolean includes(Long userId, String email) {
+        if (userId != null) {
+            return userId.equals(memberId) || userId.equals(supportId);
+        }
+        return email != null && (email.equals(memberEmail) || email.equals(supportEmail));
+    }
+
+    public boolean isMember(Long userId, String email) {
+        return userId != null ? userId.equals(memberId) : email != null && email.equals(memberEmail);
+    }
+
+    /** 상대방 이메일 (includes 통과한 사용자 기준) */
+    public String counterpartEmail(Long userId, String email) {
+        return isMember(userId, email) ? supportEmail : memberEmail;
+    }
+}
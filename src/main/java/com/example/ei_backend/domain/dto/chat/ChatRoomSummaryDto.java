@@ -17,6 +17,10 @@ public class ChatRoomSummaryDto {
     private String memberEmail;
     private java.time.LocalDateTime createdAt;
     private java.time.LocalDateTime closedAt;
+    private Long lastMessageId;
+    private java.time.LocalDateTime lastMessageAt;
+    private String lastMessagePreview;
+    private int unreadCount; // 상담자 기준 안 읽은 수
 
     public static ChatRoomSummaryDto from(ChatRoom r) {
         return ChatRoomSummaryDto.builder()
@@ -26,6 +30,10 @@ public class ChatRoomSummaryDto {
                 .memberEmail(r.getMember().getEmail())
                 .createdAt(r.getCreatedAt())
                 .closedAt(r.getClosedAt())
+                .lastMessageId(r.getLastMessageId())
+                .lastMessageAt(r.getLastMessageAt())
+                .lastMessagePreview(r.getLastMessageSnippet())
+                .unreadCount(r.getSupportUnread())
                 .build();
     }
 }
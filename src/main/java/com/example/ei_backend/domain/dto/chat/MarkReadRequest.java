@@ -0,0 +1,17 @@
+package com.example.ei_backend.domain.dto.chat;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MarkReadRequest {
+    /** 화면에 표시된 마지막 메시지 id (이 id 까지 읽음 처리) */
+    @NotNull
+    private Long lastReadMessageId;
+}
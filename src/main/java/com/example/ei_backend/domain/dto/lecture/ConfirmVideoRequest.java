@@ -1,5 +1,6 @@
 package com.example.ei_backend.domain.dto.lecture;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -7,6 +8,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.util.List;
+
 @Getter
 @Setter
 @NoArgsConstructor
@@ -16,9 +19,25 @@ public class ConfirmVideoRequest {
     @NotBlank
     private String storageKey;
 
-    @NotNull
+    /** 선택. 서버가 영상에서 길이를 판독하지 못한 경우에만 사용 */
     private Integer durationSec;
 
-    @NotNull
+    /** 참고용. 실제 크기는 S3 HEAD 결과를 사용 */
     private Long sizeBytes;
-}
\ No newline at end of file
+
+    /** 멀티파트 업로드일 때 part 번호별 ETag */
+    @Valid
+    private List<UploadedPart> parts;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class UploadedPart {
+        @NotNull
+        private Integer partNumber;
+
+        @NotBlank
+        private String etag;
+    }
+}
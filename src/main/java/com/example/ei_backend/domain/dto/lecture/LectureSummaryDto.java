@@ -20,4 +20,6 @@ public class LectureSummaryDto {
     private int durationSec;
     private double progress;
 
+    private String videoStatus; // UPLOADING / READY / FAILED, 영상 없으면 null
+
 }
\ No newline at end of file
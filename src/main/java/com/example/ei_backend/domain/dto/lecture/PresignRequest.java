@@ -2,6 +2,7 @@ package com.example.ei_backend.domain.dto.lecture;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -17,6 +18,11 @@ public class PresignRequest {
     private String fileName;
 
     @NotNull
+    @Positive
     private Long sizeBytes;
 
-}
\ No newline at end of file
+    /** 업로드할 영상의 Content-Type (허용 목록 검사, 서명에 포함됨) */
+    @NotBlank
+    private String contentType;
+
+}
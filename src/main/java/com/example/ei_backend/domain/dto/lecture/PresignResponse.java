@@ -1,12 +1,22 @@
 package com.example.ei_backend.domain.dto.lecture;
 
 import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 단일 PUT: uploadUrl + headers 로 업로드
+ * 멀티파트: parts[i].url 로 partSize 씩 PUT → 응답 ETag 를 모아 confirm 에 전달
+ */
 @Getter
 @Setter
+@Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class PresignResponse {
@@ -14,4 +24,24 @@ public class PresignResponse {
     private String uploadUrl;
     private String storageKey;
 
-}
\ No newline at end of file
+    /** 단일 PUT 시 그대로 보내야 하는 헤더 (Content-Type, x-amz-acl 등) */
+    private Map<String, String> headers;
+
+    /** 멀티파트일 때만 */
+    private String uploadId;
+    private Long partSize;
+    private List<PartUrl> parts;
+
+    /** confirm 마감 시각 */
+    private LocalDateTime expiresAt;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PartUrl {
+        private int partNumber;
+        private String url;
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.example.ei_backend.domain.dto.lecture;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** /topic/video/lecture/{lectureId} 로 전송되는 영상 업로드 상태 */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VideoUploadStatusDto {
+
+    private Long lectureId;
+
+    /** UPLOADING | PROCESSING | READY | FAILED */
+    private String status;
+
+    private long bytesTransferred;
+    private long totalBytes;
+
+    /** READY 일 때만 */
+    private String videoUrl;
+}
@@ -1,5 +1,5 @@
 package com.example.ei_backend.domain.entity;
 
 public enum PaymentStatus {
-    READY, APPROVED, CANCELLED, FAILED
+    READY, APPROVING, APPROVED, CANCELLED, FAILED, EXPIRED
 }
@@ -2,8 +2,18 @@ package com.example.ei_backend.domain.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
+import java.time.LocalDateTime;
+
+/**
+ * 결제 주문 상태: READY → APPROVING → APPROVED / FAILED (취소 시 CANCELLED).
+ * 전이는 조건부 UPDATE({@link com.example.ei_backend.repository.PendingPaymentRepository#transition})로만 진행해
+ * 동시 승인 요청 중 하나만 PG 를 호출한다.
+ */
 @Entity
+@Table(indexes = @Index(name = "idx_pending_payment_status", columnList = "status, status_changed_at"))
 @Getter
 @Setter
 @Builder
@@ -30,10 +40,17 @@ public class PendingPayment {
     @Column(nullable = false)
     private Integer amount;
 
-    @Enumerated(EnumType.STRING)
-    @Column(nullable = false)
+    // VARCHAR 로 고정: 상태 추가 시 MySQL ENUM 컬럼 DDL 변경이 필요 없도록 (기존 ENUM 컬럼은 EnumColumnMigration 이 변환)
+    @Enumerated(EnumType.STRING) @JdbcTypeCode(SqlTypes.VARCHAR) @Column(nullable = false, length = 20)
     private PaymentStatus status;
 
+    /** 마지막 상태 전이 시각 (APPROVING 장기 체류 감지용) */
+    private LocalDateTime statusChangedAt;
+
+    /** 승인 완료 응답 (재요청 시 PG 호출 없이 그대로 반환) */
+    @Column(length = 500)
+    private String approveResult;
+
     public void markApproved()   { this.status = PaymentStatus.APPROVED; }
     public void markCancelled()  { this.status = PaymentStatus.CANCELLED; }
     public void markFailed()     { this.status = PaymentStatus.FAILED; }
@@ -0,0 +1,52 @@
+package com.example.ei_backend.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * 종결(APPROVED/FAILED/CANCELLED/EXPIRED)된 지 오래된 결제 주문 보관 (append-only).
+ * PendingPaymentReaper 가 INSERT ... SELECT 후 원본 행을 같은 트랜잭션에서 삭제한다. id 는 원본 그대로.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "pending_payment_archive",
+        indexes = @Index(name = "idx_pending_archive_order", columnList = "order_id"))
+public class PendingPaymentArchive {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String orderId;
+
+    @Column(nullable = false)
+    private String tid;
+
+    @Column(nullable = false)
+    private String userEmail;
+
+    @Column(nullable = false)
+    private Long courseId;
+
+    @Column(nullable = false)
+    private Integer amount;
+
+    // pending_payment 와 같은 VARCHAR 매핑 (EXPIRED 등 상태 추가에 DDL 불필요)
+    @Enumerated(EnumType.STRING) @JdbcTypeCode(SqlTypes.VARCHAR) @Column(nullable = false, length = 20)
+    private PaymentStatus status;
+
+    private LocalDateTime statusChangedAt;
+
+    @Column(length = 500)
+    private String approveResult;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -3,6 +3,7 @@ package com.example.ei_backend.domain.entity;
 import com.example.ei_backend.domain.UserRole;
 import com.example.ei_backend.exception.CustomException;
 import com.example.ei_backend.exception.ErrorCode;
+import com.example.ei_backend.security.TokenVersionEvictionListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import lombok.*;
@@ -22,6 +23,7 @@ import java.util.UUID;
 @NoArgsConstructor @AllArgsConstructor
 @Builder
 @Table(name = "users")
+@EntityListeners(TokenVersionEvictionListener.class)
 public class User {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -87,6 +89,11 @@ public class User {
     @Column(name = "token_version", nullable = false)
     private int tokenVersion = 0;
 
+    /** 이번 트랜잭션에서 tokenVersion 을 올렸는지 (DB 컬럼 아님) */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean tokenVersionBumped;
+
 
     /**
      * 비즈니스 로직 - 비밀번호 암호화
@@ -98,7 +105,9 @@ public class User {
      * 비즈니스 로직 - 비밀번호 암호화
      */
     public void addRole(UserRole role) {
-        this.roles.add(role);
+        if (this.roles.add(role)) {
+            bumpTokenVersion(); // 권한 변경 → 기존 토큰의 roles 클레임 무효화
+        }
     }
     /**
      * 비즈니스 로직 - 비밀번호 암호화
@@ -133,6 +142,7 @@ public class User {
 
         // 3) 변경
         this.password = encoder.encode(newPassword);
+        bumpTokenVersion(); // 이전 비밀번호로 발급된 토큰 차단
     }
 
 
@@ -216,9 +226,17 @@ public class User {
         updateProfileImage(null);
     }
 
-    /** 이후 발급/검증에서 토큰 차단을 위한 버전 증가 */
+    /** 이후 발급/검증에서 토큰 차단을 위한 버전 증가 (UPDATE 커밋 이후 버전 캐시에서 자동 제거) */
     public void bumpTokenVersion() {
         this.tokenVersion++;
+        this.tokenVersionBumped = true;
+    }
+
+    /** 엔티티 리스너 전용: 버전 증가 여부를 읽고 초기화 */
+    public boolean consumeTokenVersionBump() {
+        boolean bumped = this.tokenVersionBumped;
+        this.tokenVersionBumped = false;
+        return bumped;
     }
 
 
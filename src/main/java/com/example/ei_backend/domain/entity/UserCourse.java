@@ -36,6 +36,27 @@ public class UserCourse {
 
     private LocalDateTime registeredAt;
 
+    /*
+     * 진행 요약(materialized) - 진도 flush / 강의 구성 변경 시 갱신.
+     * null 이면 아직 계산 전 → 조회 시 집계 쿼리로 대체
+     */
+    @Column(name = "watched_capped_sec")
+    private Long watchedCappedSec;   // 강의별 길이로 캡핑한 시청 초 합
+
+    @Column(name = "completed_lectures")
+    private Integer completedLectures;
+
+    @Column(name = "total_lectures")
+    private Integer totalLectures;
+
+    @Column(name = "total_duration_sec")
+    private Long totalDurationSec;
+
+    public boolean hasProgressSummary() {
+        return watchedCappedSec != null && completedLectures != null
+                && totalLectures != null && totalDurationSec != null;
+    }
+
     @PrePersist
     void onCreate() {
         if (registeredAt == null) registeredAt = LocalDateTime.now();
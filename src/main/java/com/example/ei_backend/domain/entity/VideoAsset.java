@@ -6,6 +6,10 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
 
 @Entity
 @Getter
@@ -14,8 +18,12 @@ import lombok.Setter;
 @Table(indexes = @Index(name="idx_video_lecture", columnList="lecture_id"))
 public class VideoAsset extends BaseTimeEntity {
 
+    /**
+     * UPLOADING(S3 전송 대기/중) → PROCESSING(전송 완료, 후처리) → READY | FAILED
+     * 이미 READY 인 영상을 교체할 때는 status/storageKey/url 을 그대로 두고 uploadKey 로만 추적한다.
+     */
     public enum Status {
-        UPLOADING, READY, FAILED
+        UPLOADING, PROCESSING, READY, FAILED
     }
 
     @Id
@@ -38,9 +46,21 @@ public class VideoAsset extends BaseTimeEntity {
     @Column(nullable=false)
     private int durationSec = 0;
 
-    @Enumerated(EnumType.STRING) @Column(nullable = false)
+    // VARCHAR 로 고정: 상태 추가 시 MySQL ENUM 컬럼 DDL 변경이 필요 없도록 (기존 ENUM 컬럼은 EnumColumnMigration 이 변환)
+    @Enumerated(EnumType.STRING) @JdbcTypeCode(SqlTypes.VARCHAR) @Column(nullable = false, length = 20)
     private Status status = Status.UPLOADING;
 
+    /** 진행 중인 업로드의 키 (없으면 null). 새 객체가 확인되기 전까지 storageKey/url 은 기존 영상 유지 */
+    @Column(length = 300)
+    private String uploadKey;
+
+    /** 업로드를 맡은 노드의 마지막 생존 신호 (끊기면 어느 노드든 FAILED 로 정리) */
+    private LocalDateTime uploadHeartbeatAt;
+
+    /** 직접 업로드 확정 / 파이프라인 완료 / 정리 작업이 같은 행을 동시에 바꾸면 나중 커밋이 실패 (기존 행은 0 으로 추가됨) */
+    @Version
+    private long version;
+
     public static VideoAsset of (String key) {
         var v = new VideoAsset();
         v.storageKey = key;
@@ -61,5 +81,58 @@ public class VideoAsset extends BaseTimeEntity {
         this.status = Status.READY;
     }
 
-    public void markFailed(){ this.status = Status.FAILED; }
+    /**
+     * 백그라운드 업로드 시작: uploadKey 로 추적.
+     * 공개 중(READY)인 영상이 있으면 교체 완료 전까지 그대로 노출, 없으면 최종 키/URL 을 미리 정해두고 UPLOADING.
+     */
+    public void startUpload(String key, String url, long size) {
+        this.uploadKey = key;
+        this.uploadHeartbeatAt = LocalDateTime.now();
+        if (this.status == Status.READY) return;
+        this.storageKey = key;
+        this.url = url;
+        this.sizeBytes = size;
+        this.status = Status.UPLOADING;
+    }
+
+    public boolean isUploading(String key) {
+        return key != null && key.equals(this.uploadKey);
+    }
+
+    public void markProcessing() {
+        this.uploadHeartbeatAt = LocalDateTime.now();
+        if (this.status != Status.READY) this.status = Status.PROCESSING;
+    }
+
+    /**
+     * 새 객체 확인 후 교체 → READY.
+     * 반환: 더 이상 쓰지 않는 이전 객체 키 (커밋 이후 삭제 대상, 없으면 null)
+     */
+    public String completeUpload(String url, int dur, long size) {
+        String key = this.uploadKey;
+        String previous = (this.status == Status.READY && !this.storageKey.equals(key)) ? this.storageKey : null;
+        this.storageKey = key;
+        this.uploadKey = null;
+        this.uploadHeartbeatAt = null;
+        markReady(url, dur, size);
+        return previous;
+    }
+
+    /**
+     * 직접 업로드(confirm) 객체로 교체 → READY.
+     * 진행 중인 백그라운드 업로드는 uploadKey 를 비워 무효화 → 그 작업은 결과를 반영하지 않고 자기 객체만 정리
+     */
+    public void confirmUpload(String key, String url, int dur, long size) {
+        this.storageKey = key;
+        this.uploadKey = null;
+        this.uploadHeartbeatAt = null;
+        markReady(url, dur, size);
+    }
+
+    /** 업로드 실패: 공개 중인 영상이 있으면 유지, 없으면 FAILED */
+    public void markFailed() {
+        this.uploadKey = null;
+        this.uploadHeartbeatAt = null;
+        if (this.status != Status.READY) this.status = Status.FAILED;
+    }
 }
@@ -0,0 +1,72 @@
+package com.example.ei_backend.domain.entity;
+
+import com.example.ei_backend.domain.entity.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * presigned 직접 업로드 세션.
+ * presign 시 PENDING 으로 생성 → confirm 시 CONFIRMED, 기한 내 확정되지 않으면 EXPIRED(객체/멀티파트 정리).
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_upload_session_status_expires", columnList = "status, expires_at"))
+public class VideoUploadSession extends BaseTimeEntity {
+
+    public enum Status {
+        PENDING, CONFIRMED, EXPIRED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "lecture_id", nullable = false)
+    private Long lectureId;
+
+    @Column(nullable = false, unique = true, length = 300)
+    private String storageKey;
+
+    @Column(nullable = false, length = 100)
+    private String contentType;
+
+    @Column(nullable = false)
+    private long expectedSize;
+
+    /** 멀티파트 업로드일 때만 */
+    @Column(length = 1024)
+    private String uploadId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status = Status.PENDING;
+
+    /** confirm 마감 (presigned URL 만료 + 여유) */
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public static VideoUploadSession pending(Long lectureId, String storageKey, String contentType,
+                                             long expectedSize, String uploadId, LocalDateTime expiresAt) {
+        var s = new VideoUploadSession();
+        s.lectureId = lectureId;
+        s.storageKey = storageKey;
+        s.contentType = contentType;
+        s.expectedSize = expectedSize;
+        s.uploadId = uploadId;
+        s.expiresAt = expiresAt;
+        return s;
+    }
+
+    public boolean isMultipart() { return uploadId != null; }
+
+    public boolean isExpired(LocalDateTime now) { return !expiresAt.isAfter(now); }
+
+    public void markConfirmed() { this.status = Status.CONFIRMED; }
+
+    public void markExpired() { this.status = Status.EXPIRED; }
+}
@@ -7,15 +7,17 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "chat_message")
+// 방별 keyset 페이지네이션 (where chat_room_id = ? and id < ? order by id desc)
+@Table(name = "chat_message",
+        indexes = @Index(name = "idx_chat_message_room_id", columnList = "chat_room_id, id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 public class ChatMessage {
 
+    // 시간 기반 ID 를 직접 부여 (ChatMessageWriter 의 다건 INSERT, 기존 AUTO_INCREMENT 값보다 항상 큼)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
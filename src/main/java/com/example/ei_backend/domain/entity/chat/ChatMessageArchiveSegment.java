@@ -0,0 +1,53 @@
+package com.example.ei_backend.domain.entity.chat;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 종료된 채팅방 메시지 보관 구간 (append-only, 압축).
+ * 한 구간 = 한 방의 연속된 메시지 [firstId, lastId] 를 ChatArchiveCodec 으로 묶어 압축한 것.
+ * 원본 chat_message 행은 구간 저장과 같은 트랜잭션에서 삭제된다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "chat_message_archive",
+        indexes = @Index(name = "idx_chat_archive_room_first", columnList = "chat_room_id, first_id"))
+public class ChatMessageArchiveSegment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "chat_room_id", nullable = false)
+    private Long roomId;
+
+    @Column(name = "first_id", nullable = false)
+    private long firstId;
+
+    @Column(name = "last_id", nullable = false)
+    private long lastId;
+
+    @Column(name = "message_count", nullable = false)
+    private int messageCount;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] payload;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    public ChatMessageArchiveSegment(Long roomId, long firstId, long lastId, int messageCount, byte[] payload) {
+        this.roomId = roomId;
+        this.firstId = firstId;
+        this.lastId = lastId;
+        this.messageCount = messageCount;
+        this.payload = payload;
+        this.archivedAt = LocalDateTime.now();
+    }
+}
@@ -3,12 +3,18 @@ package com.example.ei_backend.domain.entity.chat;
 import com.example.ei_backend.domain.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "chat_room")
+// 상담자/멤버 인박스: 담당 방을 최근 메시지 순으로
+@Table(name = "chat_room", indexes = {
+        @Index(name = "idx_chat_room_support_last", columnList = "support_id, last_message_at"),
+        @Index(name = "idx_chat_room_member_last", columnList = "member_id, last_message_at"),
+        @Index(name = "idx_chat_room_closed_at", columnList = "closed_at") // 보관 대상 방 탐색
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -41,6 +47,33 @@ public class ChatRoom {
     @Column(name = "closed_reason", length = 255)
     private String closedReason;
 
+    // ===== 인박스용 비정규화 (ChatMessageWriter 가 메시지 INSERT 와 같은 트랜잭션에서 갱신) =====
+    @Column(name = "last_message_id")
+    private Long lastMessageId;
+
+    @Column(name = "last_message_at")
+    private LocalDateTime lastMessageAt;
+
+    @Column(name = "last_message_snippet", length = 100)
+    private String lastMessageSnippet;
+
+    // ===== 참여자별 읽음 커서 + 안 읽은 수 (상대방이 보낸 메시지 기준) =====
+    @ColumnDefault("0")
+    @Column(name = "member_last_read_id", nullable = false)
+    private long memberLastReadId;
+
+    @ColumnDefault("0")
+    @Column(name = "member_unread", nullable = false)
+    private int memberUnread;
+
+    @ColumnDefault("0")
+    @Column(name = "support_last_read_id", nullable = false)
+    private long supportLastReadId;
+
+    @ColumnDefault("0")
+    @Column(name = "support_unread", nullable = false)
+    private int supportUnread;
+
     // ===== 도메인 메서드 =====
     public boolean isClosed() {
         return closedAt != null;
@@ -54,7 +87,7 @@ public class ChatRoom {
         }
     }
 
-    // 필요 시 재오픈 용(운영툴 등)
+    // 필요 시 재오픈 용(운영툴 등) - 호출 측에서 ChatRoomParticipantsCache.invalidate(id) 필요
     public void reopen() {
         this.closedAt = null;
         this.closedBy = null;
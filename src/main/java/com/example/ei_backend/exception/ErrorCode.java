@@ -30,6 +30,9 @@ public enum ErrorCode {
     // 강의 / 결제
     COURSE_NOT_FOUND("C404", HttpStatus.NOT_FOUND, "강의를 찾을 수 없습니다."),
     PAYMENT_FAILED("P400", HttpStatus.BAD_REQUEST, "결제 처리에 실패했습니다."),
+    PAYMENT_IN_PROGRESS("P409", HttpStatus.CONFLICT, "결제 승인이 진행 중입니다. 잠시 후 결제 상태를 확인해주세요."),
+    PAYMENT_GATEWAY_BUSY("P503", HttpStatus.SERVICE_UNAVAILABLE, "결제 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    VIDEO_UPLOAD_BUSY("V503", HttpStatus.SERVICE_UNAVAILABLE, "영상 업로드 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요."),
 
     // 🔹 채팅 관련 에러 추가
     CHAT_ROOM_NOT_FOUND("CH404", HttpStatus.NOT_FOUND, "채팅방을 찾을 수 없습니다."),
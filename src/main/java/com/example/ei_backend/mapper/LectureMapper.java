@@ -18,6 +18,7 @@ public interface LectureMapper {
     @Mapping(target = "durationSec", source = "e.durationSec")
     @Mapping(target = "progress", expression = "java(progress)")
     @Mapping(target = "isPublic", expression = "java(e.isPublic())")
+    @Mapping(target = "videoStatus", expression = "java(e.getVideo() != null ? e.getVideo().getStatus().name() : null)")
     LectureSummaryDto toSummary(Lecture e, double progress);
 
     @Mapping(target = "id", source = "e.id")
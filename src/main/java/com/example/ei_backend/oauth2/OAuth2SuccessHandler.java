@@ -40,8 +40,7 @@ public class OAuth2SuccessHandler implements AuthenticationSuccessHandler {
         User user = customUser.getUser();
 
         // 1) 토큰 발급 (AT + RT)
-        var roles = user.getRoles().stream().map(Enum::name).toList();
-        String accessToken  = jwtTokenProvider.generateAccessToken(user.getEmail(), roles);
+        String accessToken  = jwtTokenProvider.generateAccessToken(user);
         String refreshToken = jwtTokenProvider.generateRefreshToken(user.getEmail());
 
         // 2) RT 회전 저장
@@ -0,0 +1,148 @@
+package com.example.ei_backend.payment;
+
+import com.example.ei_backend.domain.dto.KakaoPayApproveRequestDto;
+import com.example.ei_backend.domain.dto.KakaoPayApproveResponseDto;
+import com.example.ei_backend.domain.dto.KakaoPayOrderRequestDto;
+import com.example.ei_backend.domain.dto.KakaoPayOrderResponseDto;
+import com.example.ei_backend.domain.dto.KakaoPayReadyRequestDto;
+import com.example.ei_backend.domain.dto.KakaoPayReadyResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카카오페이 PG 전용 클라이언트.
+ * - JDK HttpClient 1개를 공유 (keep-alive 커넥션 풀 재사용), 연결/호출별 응답 시간 상한
+ * - bulkhead: 동시 PG 호출 수 상한 → PG 가 느려져도 Tomcat 스레드가 전부 묶이지 않음
+ * - 호출별 지연 히스토그램 kakaopay.call{op, outcome}
+ * DB 트랜잭션 안에서 호출하지 말 것 (준비 → 호출 → 기록 순서로 분리)
+ */
+@Component
+@Slf4j
+public class KakaoPayClient {
+
+    private final HttpClient http;
+    private final ObjectMapper objectMapper;
+    private final KakaoPayProperties props;
+    private final String secretKey;
+    private final Semaphore inFlight;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejected;
+
+    public KakaoPayClient(ObjectMapper objectMapper,
+                          KakaoPayProperties props,
+                          MeterRegistry meterRegistry,
+                          @Value("${kakaopay.api.secret.key}") String secretKey) {
+        this.objectMapper = objectMapper;
+        this.props = props;
+        this.secretKey = secretKey;
+        this.meterRegistry = meterRegistry;
+        this.inFlight = new Semaphore(Math.max(1, props.getMaxInFlight()));
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(props.getConnectTimeout())
+                .build();
+
+        this.rejected = Counter.builder("kakaopay.bulkhead.rejected").register(meterRegistry);
+        int max = Math.max(1, props.getMaxInFlight());
+        Gauge.builder("kakaopay.inflight", inFlight, s -> max - s.availablePermits()).register(meterRegistry);
+    }
+
+    public KakaoPayReadyResponseDto ready(KakaoPayReadyRequestDto req) {
+        return call("ready", "/online/v1/payment/ready", req, props.getReadyTimeout(), KakaoPayReadyResponseDto.class);
+    }
+
+    public KakaoPayApproveResponseDto approve(KakaoPayApproveRequestDto req) {
+        return call("approve", "/online/v1/payment/approve", req, props.getApproveTimeout(), KakaoPayApproveResponseDto.class);
+    }
+
+    /** 주문 상태 조회 (대사용) */
+    public KakaoPayOrderResponseDto order(KakaoPayOrderRequestDto req) {
+        return call("order", "/online/v1/payment/order", req, props.getOrderTimeout(), KakaoPayOrderResponseDto.class);
+    }
+
+    /* ===================== 내부 ===================== */
+
+    private <T> T call(String op, String path, Object body, Duration timeout, Class<T> responseType) {
+        acquire(op);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "io_error";
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(props.getBaseUrl() + path))
+                    .timeout(timeout)
+                    .header("Content-Type", "application/json")
+                    .header("Accept", "application/json")
+                    .header("Authorization", "SECRET_KEY " + secretKey)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+
+            HttpResponse<byte[]> response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            int status = response.statusCode();
+            if (status / 100 != 2) {
+                outcome = "http_" + (status / 100) + "xx";
+                String text = new String(response.body(), StandardCharsets.UTF_8);
+                log.warn("[KAKAO][{}] HTTP {} body={}", op, status, text);
+                throw new PaymentGatewayException(op, PaymentGatewayException.Kind.HTTP_ERROR, status, text, null);
+            }
+
+            T parsed;
+            try {
+                parsed = objectMapper.readValue(response.body(), responseType);
+            } catch (IOException e) {
+                // PG 는 처리 완료(2xx) → 호출 실패(IO_ERROR)와 구분
+                outcome = "parse_error";
+                String text = new String(response.body(), StandardCharsets.UTF_8);
+                log.warn("[KAKAO][{}] 2xx 응답 파싱 실패 body={}", op, text);
+                throw new PaymentGatewayException(op, PaymentGatewayException.Kind.PARSE_ERROR, status, text, e);
+            }
+            outcome = "success";
+            return parsed;
+
+        } catch (HttpTimeoutException e) {
+            outcome = "timeout";
+            throw new PaymentGatewayException(op, PaymentGatewayException.Kind.TIMEOUT, null, null, e);
+        } catch (IOException e) {
+            throw new PaymentGatewayException(op, PaymentGatewayException.Kind.IO_ERROR, null, null, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PaymentGatewayException(op, PaymentGatewayException.Kind.IO_ERROR, null, null, e);
+        } finally {
+            inFlight.release();
+            sample.stop(Timer.builder("kakaopay.call")
+                    .tag("op", op)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    private void acquire(String op) {
+        boolean acquired;
+        try {
+            acquired = inFlight.tryAcquire(props.getBulkheadWait().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejected.increment();
+            throw new PaymentGatewayException(op, PaymentGatewayException.Kind.BUSY, null, null, null);
+        }
+    }
+}
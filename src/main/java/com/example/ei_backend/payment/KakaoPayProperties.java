@@ -0,0 +1,34 @@
+package com.example.ei_backend.payment;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "kakaopay.client")
+@Getter
+@Setter
+public class KakaoPayProperties {
+
+    /** PG API 주소 (로컬 스텁 서버로 바꿔 지연/오류 주입 테스트 가능) */
+    private String baseUrl = "https://open-api.kakaopay.com";
+
+    private Duration connectTimeout = Duration.ofSeconds(3);
+
+    /* ---------- 호출별 응답 대기 상한 ---------- */
+
+    private Duration readyTimeout = Duration.ofSeconds(5);
+    private Duration approveTimeout = Duration.ofSeconds(10);
+    private Duration orderTimeout = Duration.ofSeconds(5);
+
+    /** 같은 주문을 다른 요청이 승인 중일 때 결과를 기다리는 상한 */
+    private Duration approveWait = Duration.ofSeconds(15);
+
+    /* ---------- bulkhead ---------- */
+
+    /** 동시에 진행 중인 PG 호출 상한 (초과분은 bulkhead-wait 만큼만 기다리고 거절) */
+    private int maxInFlight = 50;
+
+    private Duration bulkheadWait = Duration.ofMillis(200);
+}
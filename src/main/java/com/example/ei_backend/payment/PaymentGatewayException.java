@@ -0,0 +1,34 @@
+package com.example.ei_backend.payment;
+
+import lombok.Getter;
+
+/** PG 호출 실패 (kind 로 재시도/상태 처리 구분) */
+@Getter
+public class PaymentGatewayException extends RuntimeException {
+
+    public enum Kind {
+        /** bulkhead 초과로 호출하지 않음 */
+        BUSY,
+        /** 응답 대기 시간 초과 → PG 측 처리 여부 알 수 없음 */
+        TIMEOUT,
+        /** PG 가 2xx 이외로 응답 */
+        HTTP_ERROR,
+        /** 연결 실패/전송 중 끊김 등 (요청이 PG 에 도달했는지 알 수 없음) */
+        IO_ERROR,
+        /** PG 가 2xx 로 응답했으나 본문 해석 실패 → PG 측은 처리 완료 */
+        PARSE_ERROR
+    }
+
+    private final String operation;
+    private final Kind kind;
+    private final Integer status;
+    private final String responseBody;
+
+    public PaymentGatewayException(String operation, Kind kind, Integer status, String responseBody, Throwable cause) {
+        super("[" + operation + "] " + kind + (status != null ? " status=" + status : ""), cause);
+        this.operation = operation;
+        this.kind = kind;
+        this.status = status;
+        this.responseBody = responseBody;
+    }
+}
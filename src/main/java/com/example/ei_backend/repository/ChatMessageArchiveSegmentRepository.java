@@ -0,0 +1,19 @@
+package com.example.ei_backend.repository;
+
+import com.example.ei_backend.domain.entity.chat.ChatMessageArchiveSegment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ChatMessageArchiveSegmentRepository extends JpaRepository<ChatMessageArchiveSegment, Long> {
+
+    boolean existsByRoomId(Long roomId);
+
+    /** beforeId 보다 오래된 메시지를 가진 구간 중 가장 최신 구간 */
+    Optional<ChatMessageArchiveSegment> findFirstByRoomIdAndFirstIdLessThanOrderByFirstIdDesc(Long roomId, long beforeId);
+
+    /** afterId 이후 메시지를 가진 구간 중 가장 오래된 구간 */
+    Optional<ChatMessageArchiveSegment> findFirstByRoomIdAndLastIdGreaterThanOrderByFirstIdAsc(Long roomId, long afterId);
+}
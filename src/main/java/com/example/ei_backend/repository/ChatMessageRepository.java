@@ -1,10 +1,14 @@
 package com.example.ei_backend.repository;
 
+import com.example.ei_backend.domain.dto.chat.ChatMessageResponseDto;
 import com.example.ei_backend.domain.entity.chat.ChatMessage;
 import com.example.ei_backend.domain.entity.chat.ChatRoom;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -18,4 +22,41 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
     // 닫힌 채팅방인 경우 보내기 차단
     Page<ChatMessage> findByChatRoomOrderBySentAtAsc(ChatRoom room, Pageable pageable);
 
+    // ===== keyset 페이지네이션 (idx_chat_message_room_id) : DTO 로 바로 조회해 sender 지연로딩 없음 =====
+
+    /** 최신 메시지부터 (id 내림차순) */
+    @Query("""
+        select new com.example.ei_backend.domain.dto.chat.ChatMessageResponseDto(m.id, m.chatRoom.id, s.email, m.message, m.sentAt)
+        from ChatMessage m join m.sender s
+        where m.chatRoom.id = :roomId
+        order by m.id desc
+    """)
+    List<ChatMessageResponseDto> findLatest(@Param("roomId") Long roomId, Pageable limit);
+
+    /** beforeId 보다 오래된 메시지 (id 내림차순) */
+    @Query("""
+        select new com.example.ei_backend.domain.dto.chat.ChatMessageResponseDto(m.id, m.chatRoom.id, s.email, m.message, m.sentAt)
+        from ChatMessage m join m.sender s
+        where m.chatRoom.id = :roomId and m.id < :beforeId
+        order by m.id desc
+    """)
+    List<ChatMessageResponseDto> findBefore(@Param("roomId") Long roomId,
+                                            @Param("beforeId") Long beforeId,
+                                            Pageable limit);
+
+    /** afterId 이후 메시지 (id 오름차순, 재연결 후 따라잡기) */
+    @Query("""
+        select new com.example.ei_backend.domain.dto.chat.ChatMessageResponseDto(m.id, m.chatRoom.id, s.email, m.message, m.sentAt)
+        from ChatMessage m join m.sender s
+        where m.chatRoom.id = :roomId and m.id > :afterId
+        order by m.id asc
+    """)
+    List<ChatMessageResponseDto> findAfter(@Param("roomId") Long roomId,
+                                           @Param("afterId") Long afterId,
+                                           Pageable limit);
+
+    /** 보관 완료된 구간의 hot 행 삭제 (ChatMessageArchiver) */
+    @Modifying
+    @Query("delete from ChatMessage m where m.chatRoom.id = :roomId and m.id between :fromId and :toId")
+    int deleteRange(@Param("roomId") Long roomId, @Param("fromId") long fromId, @Param("toId") long toId);
 }
@@ -1,10 +1,12 @@
 package com.example.ei_backend.repository;
 
+import com.example.ei_backend.domain.dto.chat.ChatRoomParticipants;
 import com.example.ei_backend.domain.entity.User;
 import com.example.ei_backend.domain.entity.chat.ChatRoom;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -24,6 +26,7 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     Page<ChatRoom> findAllBySupportId(Long supportId, Pageable pageable);
 
     Page<ChatRoom> findAllByMemberId(Long memberId, Pageable pageable);
+    @org.springframework.data.jpa.repository.EntityGraph(attributePaths = {"member"})
     Page<ChatRoom> findAllBySupportIdAndClosedAtIsNotNull(Long supportId, Pageable pageable);
 
     @Query("""
@@ -42,12 +45,60 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     List<ChatRoom> findAllBySupportIdAndClosedAtIsNull(Long supportId);
     List<ChatRoom> findAllByMemberIdAndClosedAtIsNull(Long memberId);
 
+    @org.springframework.data.jpa.repository.EntityGraph(attributePaths = {"member"})
     Page<ChatRoom> findAllBySupportIdAndClosedAtIsNull(Long supportId, Pageable pageable);
     Page<ChatRoom> findAllByMemberIdAndClosedAtIsNull(Long memberId, Pageable pageable);
 
     // ===== 신규: 열린 방 단건 조회 (서비스에서 close 전에 검증 용) =====
     Optional<ChatRoom> findByIdAndClosedAtIsNull(Long id);
 
+    // ===== 참여자 요약 (ChatRoomParticipantsCache 로딩용, 엔티티 로딩 없이 1회 조회) =====
+    @Query("""
+    select new com.example.ei_backend.domain.dto.chat.ChatRoomParticipants(
+        r.id, m.id, m.email, s.id, s.email, case when r.closedAt is null then false else true end)
+    from ChatRoom r
+    join r.member m
+    left join r.support s
+    where r.id = :roomId
+""")
+    Optional<ChatRoomParticipants> findParticipants(@Param("roomId") Long roomId);
+
+    // ===== 읽음 처리: 커서 전진 + 남은 안 읽은 수 재계산 ((chat_room_id, id) 인덱스로 커서 이후만 스캔) =====
+    // 커서는 마지막 메시지 id 를 넘지 않음. 방 행을 먼저 잠가 ChatMessageWriter 의 갱신과 직렬화
+    @Modifying
+    @Query(value = """
+    update chat_room r
+    set r.member_unread = (select count(*) from chat_message m
+                           where m.chat_room_id = r.id
+                             and m.id > greatest(r.member_last_read_id, least(:readId, coalesce(r.last_message_id, :readId)))
+                             and m.sender_id <> r.member_id),
+        r.member_last_read_id = greatest(r.member_last_read_id, least(:readId, coalesce(r.last_message_id, :readId)))
+    where r.id = :roomId
+""", nativeQuery = true)
+    int markReadByMember(@Param("roomId") Long roomId, @Param("readId") long readId);
+
+    @Modifying
+    @Query(value = """
+    update chat_room r
+    set r.support_unread = (select count(*) from chat_message m
+                            where m.chat_room_id = r.id
+                              and m.id > greatest(r.support_last_read_id, least(:readId, coalesce(r.last_message_id, :readId)))
+                              and m.sender_id <> r.support_id),
+        r.support_last_read_id = greatest(r.support_last_read_id, least(:readId, coalesce(r.last_message_id, :readId)))
+    where r.id = :roomId
+""", nativeQuery = true)
+    int markReadBySupport(@Param("roomId") Long roomId, @Param("readId") long readId);
+
+    // ===== 보관 대상: 종료 후 cutoff 가 지났고 hot 테이블에 메시지가 남은 방 =====
+    @Query("""
+    select r.id
+    from ChatRoom r
+    where r.closedAt < :cutoff
+      and exists (select 1 from ChatMessage m where m.chatRoom.id = r.id)
+    order by r.closedAt asc
+""")
+    List<Long> findArchivableRoomIds(@Param("cutoff") java.time.LocalDateTime cutoff, Pageable limit);
+
     // ===== (옵션) 통계/필터링에 유용 =====
     long countBySupportIdAndClosedAtIsNull(Long supportId);
     long countByMemberIdAndClosedAtIsNull(Long memberId);
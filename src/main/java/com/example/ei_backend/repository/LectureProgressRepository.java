@@ -14,6 +14,22 @@ public interface LectureProgressRepository extends JpaRepository<LectureProgress
 
     Optional<LectureProgress> findByUserIdAndLectureId(Long userId, Long lectureId);
 
+    // 코스 내 사용자 진도 일괄 조회 (강의 목록 화면: lectureId 기준 매핑)
+    @Query("""
+      select lp.lecture.id as lectureId, lp.watchedSec as watchedSec, lp.completed as completed
+      from LectureProgress lp
+      where lp.user.id = :userId
+        and lp.lecture.course.id = :courseId
+    """)
+    List<ProgressView> findViewsByUserAndCourse(@Param("userId") Long userId,
+                                                @Param("courseId") Long courseId);
+
+    interface ProgressView {
+        Long getLectureId();
+        int getWatchedSec();
+        boolean isCompleted();
+    }
+
     @Query("""
         select count (1)
         from Lecture l
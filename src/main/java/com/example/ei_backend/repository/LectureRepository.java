@@ -7,15 +7,38 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface LectureRepository extends JpaRepository<Lecture, Long> {
 
     List<Lecture> findByCourseIdOrderByOrderIndexAsc(Long courseId);
 
+    // 커리큘럼 목록용: 비디오(OneToOne mappedBy → 지연로딩 불가)까지 한 번에
+    @Query("select l from Lecture l left join fetch l.video where l.course.id = :courseId order by l.orderIndex asc")
+    List<Lecture> findWithVideoByCourseIdOrderByOrderIndexAsc(@Param("courseId") Long courseId);
+
     long countByCourseId(Long courseId);
 
     @Query("select coalesce(sum(l.durationSec), 0) from Lecture l where l.course.id = :courseId")
     int sumDurationByCourseId(@Param("courseId") Long courseId);
 
+    /** 진행도 집계용 최소 정보 (엔티티/연관 로딩 없이) */
+    @Query("select l.course.id as courseId, l.durationSec as durationSec from Lecture l where l.id = :lectureId")
+    Optional<LectureMeta> findMetaById(@Param("lectureId") Long lectureId);
+
+    interface LectureMeta {
+        Long getCourseId();
+        int getDurationSec();
+    }
+
+    /** lectureId → courseId 조회표(LectureCourseLookup) 적재용 */
+    @Query("select l.id as lectureId, l.course.id as courseId from Lecture l")
+    List<LectureCourseId> findAllCourseIds();
+
+    interface LectureCourseId {
+        Long getLectureId();
+        Long getCourseId();
+    }
+
 }
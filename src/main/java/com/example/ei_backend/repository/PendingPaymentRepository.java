@@ -1,12 +1,106 @@
 package com.example.ei_backend.repository;
 
+import com.example.ei_backend.domain.entity.PaymentStatus;
 import com.example.ei_backend.domain.entity.PendingPayment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PendingPaymentRepository extends JpaRepository<PendingPayment, Long> {
     Optional<PendingPayment> findByOrderId(String orderId);
-}
\ No newline at end of file
+
+    // ===== 상태 전이: 현재 상태가 from 일 때만 성공 (1 = 전이함, 0 = 다른 요청이 먼저 전이) =====
+    @Modifying(clearAutomatically = true)
+    @Query("""
+    update PendingPayment p
+    set p.status = :to, p.statusChangedAt = :now
+    where p.orderId = :orderId and p.status = :from
+""")
+    int transition(@Param("orderId") String orderId,
+                   @Param("from") PaymentStatus from,
+                   @Param("to") PaymentStatus to,
+                   @Param("now") LocalDateTime now);
+
+    // 승인 완료 + 응답 저장 (APPROVING 에서만)
+    @Modifying(clearAutomatically = true)
+    @Query("""
+    update PendingPayment p
+    set p.status = com.example.ei_backend.domain.entity.PaymentStatus.APPROVED,
+        p.approveResult = :result, p.statusChangedAt = :now
+    where p.orderId = :orderId
+      and p.status = com.example.ei_backend.domain.entity.PaymentStatus.APPROVING
+""")
+    int completeApproval(@Param("orderId") String orderId,
+                         @Param("result") String result,
+                         @Param("now") LocalDateTime now);
+
+    // ===== 스칼라 조회 (영속성 컨텍스트 캐시를 거치지 않고 최신 값 확인) =====
+    @Query("select p.status from PendingPayment p where p.orderId = :orderId")
+    Optional<PaymentStatus> findStatusByOrderId(@Param("orderId") String orderId);
+
+    @Query("select p.approveResult from PendingPayment p where p.orderId = :orderId")
+    Optional<String> findApproveResultByOrderId(@Param("orderId") String orderId);
+
+    // ===== 정리 작업 (PendingPaymentReaper) — status_changed_at 이 없는 이전 행은 오래된 것으로 간주 =====
+
+    // 오래된 READY → EXPIRED (최대 :limit 건)
+    @Modifying
+    @Query(value = """
+    update pending_payment
+    set status = 'EXPIRED', status_changed_at = :now
+    where status = 'READY'
+      and (status_changed_at < :cutoff or status_changed_at is null)
+    limit :limit
+""", nativeQuery = true)
+    int expireReady(@Param("cutoff") LocalDateTime cutoff, @Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // 대사 대상: 상태가 cutoff 이전부터 유지된 주문 (오래된 것부터)
+    @Query("""
+    select p from PendingPayment p
+    where p.status = :status
+      and (p.statusChangedAt < :cutoff or p.statusChangedAt is null)
+    order by p.id asc
+""")
+    List<PendingPayment> findStale(@Param("status") PaymentStatus status,
+                                   @Param("cutoff") LocalDateTime cutoff,
+                                   Pageable pageable);
+
+    // 대사 지연 지표: 해당 상태로 가장 오래 머문 주문의 전이 시각
+    @Query("select min(p.statusChangedAt) from PendingPayment p where p.status = :status")
+    Optional<LocalDateTime> findOldestStatusChangedAt(@Param("status") PaymentStatus status);
+
+    // 보관 대상 id (종결 상태 + retention 경과)
+    @Query(value = """
+    select id from pending_payment
+    where status in (:statuses)
+      and (status_changed_at < :cutoff or status_changed_at is null)
+    order by id
+    limit :limit
+""", nativeQuery = true)
+    List<Long> findArchivableIds(@Param("statuses") Collection<String> statuses,
+                                 @Param("cutoff") LocalDateTime cutoff,
+                                 @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = """
+    insert into pending_payment_archive
+        (id, order_id, tid, user_email, course_id, amount, status, status_changed_at, approve_result, archived_at)
+    select id, order_id, tid, user_email, course_id, amount, status, status_changed_at, approve_result, :now
+    from pending_payment
+    where id in (:ids)
+""", nativeQuery = true)
+    int copyToArchive(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "delete from pending_payment where id in (:ids)", nativeQuery = true)
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+}
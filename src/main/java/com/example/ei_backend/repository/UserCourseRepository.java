@@ -5,16 +5,22 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserCourseRepository extends JpaRepository<UserCourse, Long> {
 
     boolean existsByUserIdAndCourseId(Long userId, Long courseId);
 
+    // 수강 인덱스(EnrollmentIndex) 로딩용: 사용자의 수강 코스 id 만
+    @Query("select uc.course.id from UserCourse uc where uc.user.id = :userId")
+    List<Long> findCourseIdsByUserId(@Param("userId") Long userId);
+
     @EntityGraph(attributePaths = {"course"})
     Page<UserCourse> findByUser_Id(Long userId, Pageable pageable);
 
@@ -33,4 +39,34 @@ public interface UserCourseRepository extends JpaRepository<UserCourse, Long> {
 
     // ✅ 8주 시작일 조회용: 엔티티 자체를 가져옵니다.
     Optional<UserCourse> findByUser_IdAndCourse_Id(Long userId, Long courseId);
+
+    /* ===================== 진행 요약 갱신 ===================== */
+
+    /** 진행 요약 전체 재계산 SET 절 (WHERE 는 각 쿼리에서 지정) */
+    String REFRESH_SUMMARY_SET = """
+            UPDATE user_courses uc
+            SET uc.total_lectures     = (SELECT COUNT(*) FROM lecture l WHERE l.course_id = uc.course_id),
+                uc.total_duration_sec = (SELECT COALESCE(SUM(l.duration_sec), 0) FROM lecture l WHERE l.course_id = uc.course_id),
+                uc.watched_capped_sec = (SELECT COALESCE(SUM(LEAST(lp.watched_sec, l.duration_sec)), 0)
+                                         FROM lecture_progress lp JOIN lecture l ON l.lecture_id = lp.lecture_id
+                                         WHERE l.course_id = uc.course_id AND lp.user_id = uc.user_id),
+                uc.completed_lectures = (SELECT COUNT(*)
+                                         FROM lecture_progress lp JOIN lecture l ON l.lecture_id = lp.lecture_id
+                                         WHERE l.course_id = uc.course_id AND lp.user_id = uc.user_id AND lp.completed = TRUE)
+            """;
+
+    // 강의 추가/삭제/길이 변경 → 해당 코스 수강생 전체
+    @Modifying(flushAutomatically = true)
+    @Query(value = REFRESH_SUMMARY_SET + " WHERE uc.course_id = :courseId", nativeQuery = true)
+    int refreshSummaryByCourse(@Param("courseId") Long courseId);
+
+    // 수강 등록 직후 1건
+    @Modifying(flushAutomatically = true)
+    @Query(value = REFRESH_SUMMARY_SET + " WHERE uc.user_id = :userId AND uc.course_id = :courseId", nativeQuery = true)
+    int refreshSummary(@Param("userId") Long userId, @Param("courseId") Long courseId);
+
+    // 컬럼 추가 이전 데이터 백필
+    @Modifying(flushAutomatically = true)
+    @Query(value = REFRESH_SUMMARY_SET + " WHERE uc.watched_capped_sec IS NULL OR uc.total_lectures IS NULL", nativeQuery = true)
+    int refreshMissingSummaries();
 }
\ No newline at end of file
@@ -3,6 +3,8 @@ package com.example.ei_backend.repository;
 import com.example.ei_backend.domain.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -17,4 +19,8 @@ public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificat
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    /** 토큰 버전만 조회 (탈퇴 회원 제외) */
+    @Query("select u.tokenVersion from User u where u.id = :id and u.isDeleted = false")
+    Optional<Integer> findActiveTokenVersionById(@Param("id") Long id);
 }
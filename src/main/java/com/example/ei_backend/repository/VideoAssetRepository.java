@@ -2,11 +2,34 @@ package com.example.ei_backend.repository;
 
 import com.example.ei_backend.domain.entity.VideoAsset;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface VideoAssetRepository extends JpaRepository<VideoAsset, Long> {
     Optional<VideoAsset> findByLectureId(Long lectureId);
+
+    /**
+     * 담당 노드의 생존 신호가 끊긴 업로드 (재기동/장애로 작업 유실).
+     * uploadKey 가 없는 진행 중 행은 컬럼 추가 이전 데이터 → 수정 시각 기준.
+     */
+    @Query("""
+        select v from VideoAsset v
+        where (v.uploadKey is not null and (v.uploadHeartbeatAt is null or v.uploadHeartbeatAt < :before))
+           or (v.uploadKey is null and v.status in :inFlight and v.updatedAt < :before)
+    """)
+    List<VideoAsset> findStaleUploads(@Param("inFlight") Collection<VideoAsset.Status> inFlight,
+                                      @Param("before") LocalDateTime before);
+
+    /** 이 노드가 진행 중인 업로드의 생존 신호 갱신 */
+    @Modifying
+    @Query("update VideoAsset v set v.uploadHeartbeatAt = :now where v.uploadKey in :keys")
+    int touchUploads(@Param("keys") Collection<String> keys, @Param("now") LocalDateTime now);
 }
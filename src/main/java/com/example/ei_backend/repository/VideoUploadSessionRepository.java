@@ -0,0 +1,19 @@
+package com.example.ei_backend.repository;
+
+import com.example.ei_backend.domain.entity.VideoUploadSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface VideoUploadSessionRepository extends JpaRepository<VideoUploadSession, Long> {
+
+    Optional<VideoUploadSession> findByStorageKey(String storageKey);
+
+    /** 정리 대상: 기한이 지난 미확정 세션 (배치 단위) */
+    List<VideoUploadSession> findTop100ByStatusAndExpiresAtBeforeOrderByIdAsc(
+            VideoUploadSession.Status status, LocalDateTime now);
+}
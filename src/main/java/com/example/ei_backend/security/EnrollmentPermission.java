@@ -1,34 +1,29 @@
 package com.example.ei_backend.security;
 
-import com.example.ei_backend.repository.LectureRepository;
-import com.example.ei_backend.repository.UserCourseRepository;
+import com.example.ei_backend.service.EnrollmentIndex;
+import com.example.ei_backend.service.LectureCourseLookup;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 @Component("enrollPerm")
 @RequiredArgsConstructor
 public class EnrollmentPermission {
 
-    private final UserCourseRepository userCourseRepository;
-    private final LectureRepository lectureRepository;
+    private final EnrollmentIndex enrollmentIndex;
+    private final LectureCourseLookup lectureCourseLookup;
 
     /**
-     * 코스 접근 가능?(결제/등록 여부
+     * 코스 접근 가능?(결제/등록 여부, 인메모리 인덱스)
      */
-    @Transactional(readOnly = true)
     public boolean canAccessCourse(Long userId, Long courseId) {
-        return userCourseRepository.existsByUserIdAndCourseId(userId, courseId);
+        return enrollmentIndex.isEnrolled(userId, courseId);
     }
 
     /**
-     * 강의 접근 가능(LectureId -> courseId 역추적)
+     * 강의 접근 가능(LectureId -> courseId 역추적, 엔티티 로딩 없이)
      */
-    @Transactional(readOnly = true)
     public boolean canAccessLecture(Long userId, Long lectureId) {
-        Long courseId = lectureRepository.findById(lectureId)
-                .map(l -> l.getCourse().getId())
-                .orElse(null);
+        Long courseId = lectureCourseLookup.courseIdOf(lectureId);
         return courseId != null && canAccessCourse(userId, courseId);
 
     }
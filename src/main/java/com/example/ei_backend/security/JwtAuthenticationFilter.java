@@ -1,6 +1,5 @@
 package com.example.ei_backend.security;
 
-import com.example.ei_backend.repository.UserRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -9,12 +8,10 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import java.io.IOException;
 import java.util.Arrays;
@@ -24,11 +21,11 @@ import java.util.Arrays;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
+    private final JwtPrincipalResolver principalResolver;
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, UserRepository userRepository) {
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, JwtPrincipalResolver principalResolver) {
         this.jwtTokenProvider = jwtTokenProvider;
-        this.userRepository = userRepository;
+        this.principalResolver = principalResolver;
         log.info("JwtAuthenticationFilter 생성됨");
     }
 
@@ -78,18 +75,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             if (token != null && jwtTokenProvider.validateToken(token)) {
                 String email = jwtTokenProvider.getEmail(token);
 
-                userRepository.findByEmail(email).ifPresentOrElse(user -> {
-                    UserPrincipal principal = new UserPrincipal(user);
-
-                    // 권한은 DB의 역할 값을 사용 (Enum -> "ROLE_XXX")
-                    var authorities = user.getRoles().stream()
-                            .map(Enum::name)
-                            .map(SimpleGrantedAuthority::new)
-                            .map(GrantedAuthority.class::cast)
-                            .toList();
-
+                // stateless 모드면 클레임으로, 아니면 DB 조회로 principal 구성 (토큰 버전 검사 포함)
+                principalResolver.resolve(token).ifPresentOrElse(principal -> {
                     var auth = new UsernamePasswordAuthenticationToken(
-                            principal, null, authorities
+                            principal, null, principal.getAuthorities()
                     );
                     auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
@@ -98,7 +87,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     log.info("인증 완료: {}", email);
 
                 }, () -> {
-                    log.info("유저를 찾을 수 없습니다: {}", email);
+                    log.info("유저를 찾을 수 없거나 무효화된 토큰입니다: {}", email);
                     SecurityContextHolder.clearContext();
                 });
 
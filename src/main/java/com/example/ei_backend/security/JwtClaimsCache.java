@@ -0,0 +1,103 @@
+package com.example.ei_backend.security;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서명 검증이 끝난 JWT Claims 캐시.
+ * - 키: 토큰 원문의 SHA-256 digest (토큰 원문은 보관하지 않음)
+ * - 만료: 토큰의 exp 시각에 맞춰 무효화
+ * - 크기: max-size 초과 시 만료분 → 임의 항목 순으로 정리
+ */
+@Component
+@Slf4j
+public class JwtClaimsCache {
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public JwtClaimsCache(@Value("${app.jwt.claims-cache.max-size:10000}") int maxSize,
+                          MeterRegistry meterRegistry) {
+        this.maxSize = Math.max(1, maxSize);
+        this.hitCounter = Counter.builder("jwt.claims.cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("jwt.claims.cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("jwt.claims.cache.size", entries, ConcurrentHashMap::size)
+                .register(meterRegistry);
+    }
+
+    /** 캐시 조회 (exp 지난 항목은 제거 후 miss 처리) */
+    public Claims get(String token) {
+        String key = digest(token);
+        Entry e = entries.get(key);
+        if (e == null) {
+            missCounter.increment();
+            return null;
+        }
+        if (e.expiresAtMillis() <= System.currentTimeMillis()) {
+            entries.remove(key, e);
+            missCounter.increment();
+            return null;
+        }
+        hitCounter.increment();
+        return e.claims();
+    }
+
+    /** 검증 완료된 Claims 저장 (exp 없는 토큰은 캐시하지 않음) */
+    public void put(String token, Claims claims) {
+        Date exp = claims.getExpiration();
+        if (exp == null || exp.getTime() <= System.currentTimeMillis()) return;
+
+        if (entries.size() >= maxSize) {
+            evict();
+        }
+        entries.put(digest(token), new Entry(claims, exp.getTime()));
+    }
+
+    public long getHitCount()  { return (long) hitCounter.count(); }
+    public long getMissCount() { return (long) missCounter.count(); }
+    public int size()          { return entries.size(); }
+
+    /** 1) 만료 항목 제거 → 2) 그래도 가득 차 있으면 10% 정도 임의 제거 */
+    private void evict() {
+        long now = System.currentTimeMillis();
+        entries.entrySet().removeIf(en -> en.getValue().expiresAtMillis() <= now);
+
+        int overflow = entries.size() - maxSize + Math.max(1, maxSize / 10);
+        Iterator<String> it = entries.keySet().iterator();
+        while (overflow-- > 0 && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private record Entry(Claims claims, long expiresAtMillis) {}
+}
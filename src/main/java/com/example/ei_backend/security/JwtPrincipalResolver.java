@@ -0,0 +1,63 @@
+package com.example.ei_backend.security;
+
+import com.example.ei_backend.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 검증된 액세스 토큰 → UserPrincipal 변환.
+ * - stateless-principal=true 이고 토큰에 uid/ver 클레임이 있으면 DB 조회 없이 클레임으로 구성
+ * - 그 외(구버전 토큰 포함)는 기존처럼 이메일로 사용자 조회
+ * - 두 경로 모두 토큰 버전이 현재 값과 다르면 empty (무효화된 토큰)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JwtPrincipalResolver {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final UserRepository userRepository;
+    private final TokenVersionRegistry tokenVersionRegistry;
+
+    @Value("${app.security.stateless-principal:false}")
+    private boolean statelessPrincipal;
+
+    public Optional<UserPrincipal> resolve(String token) {
+        return resolve(token, statelessPrincipal);
+    }
+
+    /**
+     * WebSocket 연결(핸드셰이크/CONNECT)용: 설정과 무관하게 uid/ver 클레임이 있으면 클레임으로 구성.
+     * 배포 직후 재연결 폭주가 DB 조회로 이어지지 않도록 함 (Claims 는 JwtClaimsCache 공유)
+     */
+    public Optional<UserPrincipal> resolveForConnection(String token) {
+        return resolve(token, true);
+    }
+
+    private Optional<UserPrincipal> resolve(String token, boolean fromClaims) {
+        Claims claims = jwtTokenProvider.parseClaims(token);
+        String email = claims.getSubject();
+        Long userId = claims.get(JwtTokenProvider.CLAIM_USER_ID, Long.class);
+        Integer version = claims.get(JwtTokenProvider.CLAIM_TOKEN_VERSION, Integer.class);
+
+        if (fromClaims && userId != null && version != null) {
+            if (!tokenVersionRegistry.isCurrent(userId, version)) {
+                log.info("무효화된 토큰(버전 불일치): userId={}", userId);
+                return Optional.empty();
+            }
+            @SuppressWarnings("unchecked")
+            List<String> roles = claims.get("roles", List.class);
+            return Optional.of(new UserPrincipal(userId, email, roles));
+        }
+
+        return userRepository.findByEmail(email)
+                .filter(user -> version == null || user.getTokenVersion() == version)
+                .map(UserPrincipal::new);
+    }
+}
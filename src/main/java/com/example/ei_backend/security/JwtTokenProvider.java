@@ -1,10 +1,14 @@
 package com.example.ei_backend.security;
 
+import com.example.ei_backend.domain.entity.User;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.oauth2.jwt.JwtException;
@@ -17,12 +21,20 @@ import java.util.List;
 
 @Component
 @Slf4j
+@RequiredArgsConstructor
 public class JwtTokenProvider {
 
     @Value("${jwt.secret}")
     private String secretKey;
 
     private Key key;
+    private JwtParser parser; // 불변 + thread-safe → 한 번만 생성
+    private final JwtClaimsCache claimsCache;
+
+    /** 액세스 토큰 클레임: 사용자 PK / 토큰 버전 (DB 조회 없는 principal 구성 + 무효화 검사용) */
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_TOKEN_VERSION = "ver";
+
     private final long accessTokenValidity = 30 * 60 * 1000L;  // 30분
     private final long refreshTokenValidity = 14 * 24 * 60 * 60 * 1000L;  // 2주
 
@@ -36,35 +48,36 @@ public class JwtTokenProvider {
 
         this.secretKey = envSecret;
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
         log.info(" JWT_SECRET Loaded from ENV: {}", secretKey);
     }
 
+    /**
+     * 서명 검증된 Claims 반환.
+     * 한 번 검증된 토큰은 exp 까지 캐시되어 재요청 시 파싱/HMAC 검증을 생략한다.
+     */
+    public Claims parseClaims(String token) {
+        Claims cached = claimsCache.get(token);
+        if (cached != null) return cached;
+
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        claimsCache.put(token, claims);
+        return claims;
+    }
+
     @SuppressWarnings("unchecked")
     public List<String> getRoles(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .get("roles", List.class);
+        return parseClaims(token).get("roles", List.class);
     }
 
 
     public String getEmail(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return parseClaims(token).getSubject();
     }
 
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
+            parseClaims(token);
             return true;
         } catch (ExpiredJwtException e) {
             log.warn(" AccessToken 만료됨: {}", e.getMessage());
@@ -85,6 +98,19 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    /** uid/ver 클레임을 포함한 액세스 토큰 발급 */
+    public String generateAccessToken(User user) {
+        return Jwts.builder()
+                .setSubject(user.getEmail())
+                .claim("roles", user.getRoles().stream().map(Enum::name).toList())
+                .claim(CLAIM_USER_ID, user.getId())
+                .claim(CLAIM_TOKEN_VERSION, user.getTokenVersion())
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + accessTokenValidity))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
     public String generateRefreshToken(String email) {
         return Jwts.builder()
                 .setSubject(email)
@@ -95,22 +121,12 @@ public class JwtTokenProvider {
     }
 
     public long getRemainingTime(String token) {
-        Date expiration = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getExpiration();
+        Date expiration = parseClaims(token).getExpiration();
         return expiration.getTime() - System.currentTimeMillis();
     }
 
     public String getUsername(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return parseClaims(token).getSubject();
     }
 
 }
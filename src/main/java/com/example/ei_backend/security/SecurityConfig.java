@@ -46,7 +46,7 @@ public class SecurityConfig {
     private final CustomOAuth2UserService oAuth2UserService;
     private final OAuth2SuccessHandler oAuth2SuccessHandler;
     private final CustomOAuth2FailureHandler customOAuth2FailureHandler;
-    private final UserRepository userRepository;
+    private final JwtPrincipalResolver jwtPrincipalResolver;
 
     private final JsonAuthenticationEntryPoint jsonAuthenticationEntryPoint;
     private final JsonAccessDeniedHandler jsonAccessDeniedHandler;
@@ -57,8 +57,8 @@ public class SecurityConfig {
     }
 
     @Bean
-    public JwtAuthenticationFilter jwtAuthenticationFilter(UserRepository userRepository) {
-        return new JwtAuthenticationFilter(jwtTokenProvider, userRepository);
+    public JwtAuthenticationFilter jwtAuthenticationFilter(JwtPrincipalResolver principalResolver) {
+        return new JwtAuthenticationFilter(jwtTokenProvider, principalResolver);
     }
 
     @Bean
@@ -130,7 +130,7 @@ public class SecurityConfig {
                 )
 
 
-                .addFilterBefore(jwtAuthenticationFilter(userRepository),
+                .addFilterBefore(jwtAuthenticationFilter(jwtPrincipalResolver),
                         UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
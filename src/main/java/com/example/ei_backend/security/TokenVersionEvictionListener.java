@@ -0,0 +1,26 @@
+package com.example.ei_backend.security;
+
+import com.example.ei_backend.domain.entity.User;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * User 엔티티 리스너: tokenVersion 이 올라간 채로 UPDATE 되면 커밋 이후 {@link TokenVersionRegistry} 에서 제거.
+ * 권한 변경/비밀번호 변경/탈퇴 등 버전을 올리는 모든 경로가 호출 측 처리 없이 즉시 반영된다.
+ * (Hibernate 가 SpringBeanContainer 로 생성, 순환 참조를 피하려고 레지스트리는 지연 조회)
+ */
+public class TokenVersionEvictionListener {
+
+    private final ObjectProvider<TokenVersionRegistry> registry;
+
+    public TokenVersionEvictionListener(ObjectProvider<TokenVersionRegistry> registry) {
+        this.registry = registry;
+    }
+
+    @PostUpdate
+    public void afterUpdate(User user) {
+        if (!user.consumeTokenVersionBump()) return;
+        TokenVersionRegistry r = registry.getIfAvailable();
+        if (r != null) r.evictAfterCommit(user.getId());
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.ei_backend.security;
+
+import com.example.ei_backend.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 토큰 버전(User.tokenVersion) 메모리 캐시.
+ * - 액세스 토큰의 "ver" 클레임과 비교해 비밀번호 변경/탈퇴/권한 변경 이후 발급 이전 토큰을 차단
+ * - 값 변경 시 커밋 이후 evict ({@link TokenVersionEvictionListener}), 다중 인스턴스 환경의 지연은 TTL 로 상한
+ */
+@Component
+@Slf4j
+public class TokenVersionRegistry {
+
+    /** 탈퇴/미존재 사용자 표식 (실제 버전은 0 이상) */
+    private static final int REVOKED = -1;
+
+    private final ConcurrentHashMap<Long, Entry> versions = new ConcurrentHashMap<>();
+    private final UserRepository userRepository;
+    private final long ttlMillis;
+    private final int maxSize;
+
+    public TokenVersionRegistry(UserRepository userRepository,
+                                @Value("${app.security.token-version.ttl-seconds:60}") long ttlSeconds,
+                                @Value("${app.security.token-version.max-size:100000}") int maxSize) {
+        this.userRepository = userRepository;
+        this.ttlMillis = ttlSeconds * 1000L;
+        this.maxSize = Math.max(1, maxSize);
+    }
+
+    /** 토큰의 버전이 현재 사용자 버전과 일치하는지 */
+    public boolean isCurrent(Long userId, int tokenVersion) {
+        return currentVersion(userId) == tokenVersion;
+    }
+
+    public int currentVersion(Long userId) {
+        long now = System.currentTimeMillis();
+        Entry e = versions.get(userId);
+        if (e != null && e.loadedAtMillis() + ttlMillis > now) {
+            return e.version();
+        }
+
+        int version = userRepository.findActiveTokenVersionById(userId).orElse(REVOKED);
+        if (versions.size() >= maxSize) evict(now);
+        versions.put(userId, new Entry(version, now));
+        return version;
+    }
+
+    /** 버전 변경 트랜잭션 커밋 이후 캐시 제거 (트랜잭션 밖이면 즉시) */
+    public void evictAfterCommit(Long userId) {
+        if (userId == null) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            versions.remove(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                versions.remove(userId);
+                log.debug("[token-version] evicted userId={}", userId);
+            }
+        });
+    }
+
+    /** 1) 만료 항목 제거 → 2) 그래도 가득 차 있으면 가장 오래 전에 읽은 10% 제거 */
+    private void evict(long now) {
+        versions.entrySet().removeIf(en -> en.getValue().loadedAtMillis() + ttlMillis <= now);
+        if (versions.size() < maxSize) return;
+
+        int toRemove = Math.max(1, maxSize / 10);
+        versions.entrySet().stream()
+                .sorted(Comparator.comparingLong(en -> en.getValue().loadedAtMillis()))
+                .limit(toRemove)
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(versions::remove);
+    }
+
+    private record Entry(int version, long loadedAtMillis) {}
+}
@@ -2,44 +2,56 @@ package com.example.ei_backend.security;
 
 import com.example.ei_backend.domain.entity.User;
 import lombok.Getter;
+import org.springframework.lang.Nullable;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
+import java.util.List;
 
 @Getter
 public class UserPrincipal implements UserDetails {
 
+    private final Long userId;
+    private final String email;
+    private final List<String> roles;
+
+    /** DB 에서 로딩한 경우에만 존재 (토큰 클레임으로 구성한 경우 null) */
+    @Nullable
     private final User user;
 
     public UserPrincipal(User user) {
         this.user = user;
+        this.userId = user.getId();
+        this.email = user.getEmail();
+        this.roles = user.getRoles().stream().map(Enum::name).toList();
     }
 
-    public Long getUserId() {
-        return user.getId();
-    }
-
-    public User getUser() {
-        return this.user;
+    /** 서명 검증된 토큰 클레임으로 구성 (DB 조회 없음) */
+    public UserPrincipal(Long userId, String email, @Nullable List<String> roles) {
+        this.user = null;
+        this.userId = userId;
+        this.email = email;
+        this.roles = roles != null ? List.copyOf(roles) : List.of();
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return user.getRoles().stream()
-                .map(role -> (GrantedAuthority) () -> role.name())
-                .toList(); // 또는 .collect(Collectors.toList());
+        return roles.stream()
+                .map(SimpleGrantedAuthority::new)
+                .toList();
     }
 
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return user != null ? user.getPassword() : null;
     }
 
     @Override
     public String getUsername() {
-        return user.getEmail();
+        return email;
     }
 
     @Override
@@ -59,6 +71,7 @@ public class UserPrincipal implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return !user.isDeleted();
+        // 클레임 기반 principal 은 토큰 버전 검사(탈퇴 시 증가)를 통과한 상태
+        return user == null || !user.isDeleted();
     }
-}
\ No newline at end of file
+}
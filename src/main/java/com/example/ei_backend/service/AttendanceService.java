@@ -2,8 +2,6 @@ package com.example.ei_backend.service;
 
 import com.example.ei_backend.domain.entity.Attendance;
 import com.example.ei_backend.repository.AttendanceRepository;
-import com.example.ei_backend.repository.LectureRepository;
-import com.example.ei_backend.repository.UserCourseRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,8 +22,8 @@ public class AttendanceService {
     private static final ZoneId KST = ZoneId.of("Asia/Seoul");
 
     private final AttendanceRepository attendanceRepository;
-    private final LectureRepository lectureRepository;
-    private final UserCourseRepository userCourseRepository;
+    private final LectureCourseLookup lectureCourseLookup;
+    private final EnrollmentIndex enrollmentIndex;
 
     /**
      * 강의 재생 시작 시 호출: 코스별 1일 1회 출석 생성
@@ -33,12 +31,13 @@ public class AttendanceService {
     @Transactional
     public void markIfFirstPlayback(Long userId, Long lectureId, String ip, String ua) {
         // 1) lectureId -> courseId
-        Long courseId = lectureRepository.findById(lectureId)
-                .map(l -> l.getCourse().getId())
-                .orElseThrow(() -> new EntityNotFoundException("Lecture not found: " + lectureId));
+        Long courseId = lectureCourseLookup.courseIdOf(lectureId);
+        if (courseId == null) {
+            throw new EntityNotFoundException("Lecture not found: " + lectureId);
+        }
 
         // 2) 수강권 검증
-        boolean owned = userCourseRepository.existsByUserIdAndCourseId(userId, courseId);
+        boolean owned = enrollmentIndex.isEnrolled(userId, courseId);
         if (!owned) {
             throw new AccessDeniedException("Not enrolled in course: " + courseId);
         }
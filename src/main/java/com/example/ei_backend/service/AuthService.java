@@ -137,10 +137,7 @@ public class AuthService {
         }
 
         // 6) 토큰 발급
-        String token = jwtTokenProvider.generateAccessToken(
-                user.getEmail(),
-                user.getRoles().stream().map(Enum::name).toList()
-        );
+        String token = jwtTokenProvider.generateAccessToken(user);
         return UserDto.Response.fromEntity(user, token);
     }
 
@@ -164,8 +161,7 @@ public class AuthService {
 
         userRepository.saveAndFlush(user);
 
-        String token = jwtTokenProvider.generateAccessToken(
-                user.getEmail(), user.getRoles().stream().map(Enum::name).toList());
+        String token = jwtTokenProvider.generateAccessToken(user);
         return UserDto.Response.fromEntity(user, token);
     }
 
@@ -229,9 +225,7 @@ public class AuthService {
             throw new CustomException(ErrorCode.INVALID_CREDENTIALS);
         }
 
-        var roles = user.getRoles().stream().map(Enum::name).toList();
-
-        String accessToken  = jwtTokenProvider.generateAccessToken(user.getEmail(), roles);
+        String accessToken  = jwtTokenProvider.generateAccessToken(user);
         String refreshToken = jwtTokenProvider.generateRefreshToken(user.getEmail());
 
         // ✅ RT 회전 저장 (email 기준 1개 유지)
@@ -328,7 +322,9 @@ public class AuthService {
 
     /** 마이페이지 묶음 조회 */
     @Transactional(readOnly = true)
-    public MyPageResponseDto getMyPageInfo(User user) {
+    public MyPageResponseDto getMyPageInfo(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
         UserDto.Response userDto = userMapper.toResponse(user);
 
         var paymentDtos = paymentRepository.findApprovedByUserIdWithCourse(user.getId())
@@ -0,0 +1,88 @@
+package com.example.ei_backend.service;
+
+import com.example.ei_backend.domain.dto.chat.ChatMessageResponseDto;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 보관 구간 직렬화: [version][GZIP( count, (id, sender, epochSec, nano, message)* )].
+ * 같은 방의 연속 메시지라 발신자 이메일/시각 앞자리가 반복되어 압축률이 높다.
+ */
+final class ChatArchiveCodec {
+
+    private static final byte VERSION = 1;
+
+    private ChatArchiveCodec() {}
+
+    /** id 오름차순 메시지 목록 → 압축 바이트 */
+    static byte[] encode(List<ChatMessageResponseDto> messages) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(messages.size() * 64);
+        bytes.write(VERSION);
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(bytes, 8192))) {
+            out.writeInt(messages.size());
+            for (ChatMessageResponseDto m : messages) {
+                out.writeLong(m.id());
+                writeString(out, m.senderEmail());
+                out.writeLong(m.sentAt().toEpochSecond(ZoneOffset.UTC));
+                out.writeInt(m.sentAt().getNano());
+                writeString(out, m.message());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /** 압축 바이트 → id 오름차순 메시지 목록 */
+    static List<ChatMessageResponseDto> decode(Long roomId, byte[] payload) {
+        if (payload.length == 0 || payload[0] != VERSION) {
+            throw new IllegalStateException("지원하지 않는 보관 구간 형식입니다. roomId=" + roomId);
+        }
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(
+                new ByteArrayInputStream(payload, 1, payload.length - 1), 8192))) {
+            int count = in.readInt();
+            List<ChatMessageResponseDto> messages = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                long id = in.readLong();
+                String sender = readString(in);
+                LocalDateTime sentAt = LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+                String message = readString(in);
+                messages.add(new ChatMessageResponseDto(id, roomId, sender, message, sentAt));
+            }
+            return messages;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        if (s == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] b = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(b.length);
+        out.write(b);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int len = in.readInt();
+        if (len < 0) return null;
+        byte[] b = in.readNBytes(len);
+        if (b.length != len) throw new EOFException("보관 구간이 잘려 있습니다.");
+        return new String(b, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.ei_backend.service;
+
+import com.example.ei_backend.exception.CustomException;
+import com.example.ei_backend.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 채팅 페이지 커서 (불투명 문자열).
+ * "v1:{roomId}:{messageId}" 를 Base64url 로 인코딩 → 다른 방의 커서는 거부.
+ */
+final class ChatCursor {
+
+    private static final String VERSION = "v1";
+
+    private ChatCursor() {}
+
+    static String encode(Long roomId, long messageId) {
+        String raw = VERSION + ":" + roomId + ":" + messageId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /** 커서 → 메시지 id (형식 오류/다른 방 커서면 INVALID_INPUT) */
+    static long decode(String cursor, Long roomId) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            String[] parts = raw.split(":");
+            if (parts.length == 3 && VERSION.equals(parts[0]) && roomId.equals(Long.valueOf(parts[1]))) {
+                return Long.parseLong(parts[2]);
+            }
+        } catch (IllegalArgumentException ignore) {
+            // 아래에서 공통 처리 (NumberFormatException 포함)
+        }
+        throw new CustomException(ErrorCode.INVALID_INPUT, "잘못된 커서입니다.");
+    }
+}
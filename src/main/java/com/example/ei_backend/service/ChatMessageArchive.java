@@ -0,0 +1,59 @@
+package com.example.ei_backend.service;
+
+import com.example.ei_backend.domain.dto.chat.ChatMessageResponseDto;
+import com.example.ei_backend.domain.entity.chat.ChatMessageArchiveSegment;
+import com.example.ei_backend.repository.ChatMessageArchiveSegmentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 보관 구간 읽기 (히스토리 API 가 hot 테이블 결과가 모자랄 때 이어서 조회).
+ * 구간은 (chat_room_id, first_id) 인덱스로 필요한 것만 하나씩 읽어 풀어낸다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatMessageArchive {
+
+    private final ChatMessageArchiveSegmentRepository segmentRepository;
+
+    public boolean hasArchive(Long roomId) {
+        return segmentRepository.existsByRoomId(roomId);
+    }
+
+    /** beforeId 보다 오래된 보관 메시지 최대 n 개 (id 내림차순) */
+    public List<ChatMessageResponseDto> before(Long roomId, long beforeId, int n) {
+        List<ChatMessageResponseDto> rows = new ArrayList<>(n);
+        long cursor = beforeId;
+        while (rows.size() < n) {
+            Optional<ChatMessageArchiveSegment> seg =
+                    segmentRepository.findFirstByRoomIdAndFirstIdLessThanOrderByFirstIdDesc(roomId, cursor);
+            if (seg.isEmpty()) break;
+            List<ChatMessageResponseDto> asc = ChatArchiveCodec.decode(roomId, seg.get().getPayload());
+            for (int i = asc.size() - 1; i >= 0 && rows.size() < n; i--) {
+                if (asc.get(i).id() < cursor) rows.add(asc.get(i));
+            }
+            cursor = seg.get().getFirstId();
+        }
+        return rows;
+    }
+
+    /** afterId 이후 보관 메시지 최대 n 개 (id 오름차순) */
+    public List<ChatMessageResponseDto> after(Long roomId, long afterId, int n) {
+        List<ChatMessageResponseDto> rows = new ArrayList<>(n);
+        long cursor = afterId;
+        while (rows.size() < n) {
+            Optional<ChatMessageArchiveSegment> seg =
+                    segmentRepository.findFirstByRoomIdAndLastIdGreaterThanOrderByFirstIdAsc(roomId, cursor);
+            if (seg.isEmpty()) break;
+            for (ChatMessageResponseDto m : ChatArchiveCodec.decode(roomId, seg.get().getPayload())) {
+                if (m.id() > cursor && rows.size() < n) rows.add(m);
+            }
+            cursor = seg.get().getLastId();
+        }
+        return rows;
+    }
+}
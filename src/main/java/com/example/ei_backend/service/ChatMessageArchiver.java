@@ -0,0 +1,143 @@
+package com.example.ei_backend.service;
+
+import com.example.ei_backend.domain.dto.chat.ChatMessageResponseDto;
+import com.example.ei_backend.domain.entity.chat.ChatMessageArchiveSegment;
+import com.example.ei_backend.repository.ChatMessageArchiveSegmentRepository;
+import com.example.ei_backend.repository.ChatMessageRepository;
+import com.example.ei_backend.repository.ChatRoomRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 종료 후 closed-age-days 가 지난 채팅방 메시지를 보관 구간(chat_message_archive)으로 이동.
+ * - 방마다 오래된 메시지부터 chunk-size 개씩: 압축 구간 저장 + hot 행 삭제를 한 트랜잭션으로
+ * - max-rows-per-sec 를 넘지 않도록 청크 사이에 쉬어 운영 트래픽과 경합을 줄임
+ * - 처리량은 chat.archive.rows (rows/sec 는 rate 로), 실행마다 로그로도 남김
+ */
+@Component
+@Slf4j
+public class ChatMessageArchiver {
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageArchiveSegmentRepository segmentRepository;
+    private final TransactionTemplate tx;
+
+    private final boolean enabled;
+    private final long closedAgeDays;
+    private final int chunkSize;
+    private final int maxRowsPerSec;
+    private final int roomsPerRun;
+
+    private final Counter archivedRows;
+    private final Counter archivedBytes;
+
+    public ChatMessageArchiver(ChatRoomRepository chatRoomRepository,
+                               ChatMessageRepository chatMessageRepository,
+                               ChatMessageArchiveSegmentRepository segmentRepository,
+                               TransactionTemplate transactionTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.chat.archive.enabled:true}") boolean enabled,
+                               @Value("${app.chat.archive.closed-age-days:30}") long closedAgeDays,
+                               @Value("${app.chat.archive.chunk-size:2000}") int chunkSize,
+                               @Value("${app.chat.archive.max-rows-per-sec:5000}") int maxRowsPerSec,
+                               @Value("${app.chat.archive.rooms-per-run:100}") int roomsPerRun) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.chatMessageRepository = chatMessageRepository;
+        this.segmentRepository = segmentRepository;
+        this.tx = transactionTemplate;
+        this.enabled = enabled;
+        this.closedAgeDays = Math.max(0, closedAgeDays);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxRowsPerSec = Math.max(1, maxRowsPerSec);
+        this.roomsPerRun = Math.max(1, roomsPerRun);
+
+        this.archivedRows = Counter.builder("chat.archive.rows").register(meterRegistry);
+        this.archivedBytes = Counter.builder("chat.archive.bytes").baseUnit("bytes").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.chat.archive.interval-ms:600000}",
+               initialDelayString = "${app.chat.archive.interval-ms:600000}")
+    public void archiveClosedRooms() {
+        if (!enabled) return;
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(closedAgeDays);
+        List<Long> roomIds = chatRoomRepository.findArchivableRoomIds(cutoff, PageRequest.of(0, roomsPerRun));
+        if (roomIds.isEmpty()) return;
+
+        long started = System.nanoTime();
+        long rows = 0;
+        int rooms = 0;
+        try {
+            for (Long roomId : roomIds) {
+                int chunk;
+                do {
+                    chunk = archiveChunk(roomId, cutoff);
+                    rows += chunk;
+                    throttle(rows, started);
+                } while (chunk == chunkSize);
+                rooms++;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            // 남은 방은 다음 주기에 재시도
+            log.warn("[chat-archive] 보관 중 오류, 다음 주기에 재시도", e);
+        }
+
+        double seconds = Math.max(1e-3, (System.nanoTime() - started) / 1e9);
+        log.info("[chat-archive] rooms={}, rows={}, {} rows/s", rooms, rows, Math.round(rows / seconds));
+    }
+
+    /* ===================== 내부 ===================== */
+
+    /** 가장 오래된 메시지 chunk-size 개 → 압축 구간 1개 저장 + hot 행 삭제. 반환: 이동한 행 수 */
+    private int archiveChunk(Long roomId, LocalDateTime cutoff) {
+        Integer moved = tx.execute(status -> {
+            // 그 사이 재오픈된 방은 건너뜀
+            boolean stillClosed = chatRoomRepository.findById(roomId)
+                    .map(r -> r.getClosedAt() != null && r.getClosedAt().isBefore(cutoff))
+                    .orElse(false);
+            if (!stillClosed) return 0;
+
+            List<ChatMessageResponseDto> rows =
+                    chatMessageRepository.findAfter(roomId, 0L, PageRequest.of(0, chunkSize));
+            if (rows.isEmpty()) return 0;
+
+            long firstId = rows.get(0).id();
+            long lastId = rows.get(rows.size() - 1).id();
+            byte[] payload = ChatArchiveCodec.encode(rows);
+            segmentRepository.save(new ChatMessageArchiveSegment(roomId, firstId, lastId, rows.size(), payload));
+
+            int deleted = chatMessageRepository.deleteRange(roomId, firstId, lastId);
+            if (deleted != rows.size()) {
+                // 조회 이후 범위 안에 행이 생기거나 사라짐 → 되돌리고 다음 주기에 재시도
+                throw new IllegalStateException("보관 대상 행 수 불일치 roomId=%d, read=%d, deleted=%d"
+                        .formatted(roomId, rows.size(), deleted));
+            }
+            archivedBytes.increment(payload.length);
+            return rows.size();
+        });
+        int n = moved != null ? moved : 0;
+        archivedRows.increment(n);
+        return n;
+    }
+
+    /** 누적 처리량이 max-rows-per-sec 를 넘으면 그만큼 대기 */
+    private void throttle(long rows, long startedNanos) throws InterruptedException {
+        long expectedNanos = TimeUnit.SECONDS.toNanos(rows) / maxRowsPerSec;
+        long aheadNanos = expectedNanos - (System.nanoTime() - startedNanos);
+        if (aheadNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(aheadNanos);
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package com.example.ei_backend.service;
+
+import com.example.ei_backend.domain.dto.chat.ChatMessageResponseDto;
+import com.example.ei_backend.util.MonotonicIdGenerator;
+import com.example.ei_backend.websocket.WebSocketProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지 group commit 기록기.
+ * - 여러 방의 전송 요청을 최대 max-delay-ms 동안(또는 batch-size 까지) 모아 다건 INSERT 1회 + 커밋 1회
+ * - ID/보낸 시각은 기록 스레드가 대기열에서 꺼낸 순서대로 {@link MonotonicIdGenerator} 로 부여
+ *   (IDENTITY 미사용 → 다건 INSERT 가능, 대기열 순 = id 순 = 발행 순)
+ * - node-id 는 인스턴스별 고유값: RELAY(다중 노드) 모드에서 미설정이면 기동 실패
+ * - 커밋 이후 접수 순서대로 최근 메시지 캐시 반영 + /user/queue/messages 발행 → 방 안 순서 유지
+ * - 같은 트랜잭션에서 방별 인박스 요약(마지막 메시지, 읽음 커서/안 읽은 수)도 갱신 (방 행을 먼저 잠가 읽음 처리와 직렬화)
+ * - 다건 INSERT 실패 시 건별 INSERT 로 재시도해 문제 건만 실패 처리
+ */
+@Component
+@Slf4j
+public class ChatMessageWriter {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO chat_message (id, chat_room_id, sender_id, message, sent_at) VALUES ";
+    private static final String ROW = "(?, ?, ?, ?, ?)";
+    private static final int SNIPPET_LENGTH = 100;
+
+    /** 보낸 쪽은 자기 메시지까지 읽은 것으로, 받는 쪽은 안 읽은 수 증가 */
+    private static final String UPDATE_ROOM = """
+            UPDATE chat_room SET
+                last_message_id = ?, last_message_at = ?, last_message_snippet = ?,
+                member_last_read_id = GREATEST(member_last_read_id, ?),
+                member_unread = CASE WHEN ? THEN ? ELSE member_unread + ? END,
+                support_last_read_id = GREATEST(support_last_read_id, ?),
+                support_unread = CASE WHEN ? THEN ? ELSE support_unread + ? END
+            WHERE id = ?""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate tx;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatRecentMessageCache recentCache;
+    private final MonotonicIdGenerator idGenerator;
+
+    private final BlockingQueue<Request> queue;
+    private final int batchSize;
+    private final long maxDelayNanos;
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    private final DistributionSummary batchSizes;
+    private final Timer flushTimer;
+
+    public ChatMessageWriter(JdbcTemplate jdbcTemplate,
+                             TransactionTemplate transactionTemplate,
+                             SimpMessagingTemplate messagingTemplate,
+                             ChatRecentMessageCache recentCache,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.chat.writer.node-id:}") String nodeId,
+                             @Value("${app.websocket.broker.mode:SIMPLE}") WebSocketProperties.BrokerMode brokerMode,
+                             @Value("${app.chat.writer.batch-size:200}") int batchSize,
+                             @Value("${app.chat.writer.max-delay-ms:5}") long maxDelayMs,
+                             @Value("${app.chat.writer.queue-capacity:10000}") int queueCapacity) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tx = transactionTemplate;
+        this.messagingTemplate = messagingTemplate;
+        this.recentCache = recentCache;
+        this.idGenerator = new MonotonicIdGenerator(resolveNodeId(nodeId, brokerMode));
+        this.batchSize = Math.max(1, batchSize);
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, maxDelayMs));
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+
+        Gauge.builder("chat.writer.queue", queue, BlockingQueue::size).register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("chat.writer.batch.size").register(meterRegistry);
+        this.flushTimer = Timer.builder("chat.writer.flush").register(meterRegistry);
+
+        this.worker = new Thread(this::loop, "chat-writer");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * 메시지 접수 (검증은 호출 측에서 끝낸 상태).
+     * 커밋 + 발행까지 끝나면 완료되는 future 반환, 대기열이 가득 차면 즉시 실패.
+     */
+    public CompletableFuture<ChatMessageResponseDto> submit(Long roomId, Long senderId, boolean fromMember,
+                                                            String senderEmail, String recipientEmail, String message) {
+        Request r = new Request(roomId, senderId, fromMember, senderEmail, recipientEmail, message, new CompletableFuture<>());
+        if (!running || !queue.offer(r)) {
+            r.future().completeExceptionally(new IllegalStateException("채팅 메시지 기록 대기열이 가득 찼습니다."));
+        }
+        return r.future();
+    }
+
+    /** 미설정이면 SIMPLE(단일 노드)은 0, RELAY 는 노드 간 id 충돌 위험이 있어 기동 실패 */
+    static int resolveNodeId(String nodeId, WebSocketProperties.BrokerMode brokerMode) {
+        if (nodeId == null || nodeId.isBlank()) {
+            if (brokerMode == WebSocketProperties.BrokerMode.RELAY) {
+                throw new IllegalStateException("RELAY 모드에서는 app.chat.writer.node-id(CHAT_NODE_ID)를 인스턴스별로 지정해야 합니다.");
+            }
+            return 0;
+        }
+        try {
+            return Integer.parseInt(nodeId.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("app.chat.writer.node-id 는 0~" + MonotonicIdGenerator.MAX_NODE + " 정수여야 합니다: " + nodeId);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false; // 루프는 poll 타임아웃(1초) 안에 현재 배치를 마치고 종료
+        worker.join(TimeUnit.SECONDS.toMillis(10));
+        // 남은 요청 마저 기록
+        List<Request> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        for (int i = 0; i < rest.size(); i += batchSize) {
+            flush(stamp(rest.subList(i, Math.min(rest.size(), i + batchSize))));
+        }
+    }
+
+    /* ===================== 내부 ===================== */
+
+    private void loop() {
+        List<Request> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                Request first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) continue;
+                batch.add(first);
+
+                // 짧게 더 모으기 (여러 방/사용자 메시지를 한 번에)
+                long deadline = System.nanoTime() + maxDelayNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) break;
+                    Request next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+                flush(stamp(batch));
+            } catch (InterruptedException e) {
+                if (!batch.isEmpty()) flush(stamp(batch));
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("[chat-writer] 예기치 못한 오류", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /** 기록 스레드에서만 호출: 꺼낸 순서대로 id/보낸 시각 부여 */
+    private List<Pending> stamp(List<Request> requests) {
+        List<Pending> stamped = new ArrayList<>(requests.size());
+        for (Request r : requests) {
+            ChatMessageResponseDto dto = ChatMessageResponseDto.builder()
+                    .id(idGenerator.nextId())
+                    .chatRoomId(r.roomId())
+                    .senderEmail(r.senderEmail())
+                    .message(r.message())
+                    .sentAt(LocalDateTime.now())
+                    .build();
+            stamped.add(new Pending(dto, r.senderId(), r.fromMember(), r.recipientEmail(), r.future()));
+        }
+        return stamped;
+    }
+
+    private void flush(List<Pending> batch) {
+        if (batch.isEmpty()) return;
+        batchSizes.record(batch.size());
+        long started = System.nanoTime();
+        try {
+            tx.executeWithoutResult(s -> persist(batch));
+            batch.forEach(this::publish);
+        } catch (RuntimeException e) {
+            log.warn("[chat-writer] 다건 INSERT 실패(size={}) → 건별 재시도", batch.size(), e);
+            for (Pending p : batch) {
+                try {
+                    tx.executeWithoutResult(s -> persist(List.of(p)));
+                    publish(p);
+                } catch (RuntimeException single) {
+                    log.error("[chat-writer] 메시지 기록 실패 roomId={}", p.dto().chatRoomId(), single);
+                    p.future().completeExceptionally(single);
+                }
+            }
+        } finally {
+            flushTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void persist(List<Pending> rows) {
+        updateRooms(rows);
+        insertMultiRow(rows);
+    }
+
+    /** 방별로 모아 chat_room 요약 갱신 (배치 안의 순서대로 커서/안 읽은 수 계산) */
+    private void updateRooms(List<Pending> rows) {
+        Map<Long, RoomDelta> deltas = new LinkedHashMap<>();
+        for (Pending p : rows) {
+            deltas.computeIfAbsent(p.dto().chatRoomId(), id -> new RoomDelta()).add(p);
+        }
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((roomId, d) -> args.add(new Object[]{
+                d.last.id(), Timestamp.valueOf(d.last.sentAt()), snippet(d.last.message()),
+                d.memberReadId, d.memberRead, d.memberUnread, d.memberUnread,
+                d.supportReadId, d.supportRead, d.supportUnread, d.supportUnread,
+                roomId
+        }));
+        jdbcTemplate.batchUpdate(UPDATE_ROOM, args);
+    }
+
+    private static String snippet(String message) {
+        if (message == null) return null;
+        return message.length() <= SNIPPET_LENGTH ? message : message.substring(0, SNIPPET_LENGTH);
+    }
+
+    private void insertMultiRow(List<Pending> rows) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows.size() * (ROW.length() + 1))
+                .append(INSERT_PREFIX);
+        Object[] args = new Object[rows.size() * 5];
+        int i = 0;
+        for (Pending p : rows) {
+            if (i > 0) sql.append(',');
+            sql.append(ROW);
+            ChatMessageResponseDto m = p.dto();
+            args[i++] = m.id();
+            args[i++] = m.chatRoomId();
+            args[i++] = p.senderId();
+            args[i++] = m.message();
+            args[i++] = Timestamp.valueOf(m.sentAt());
+        }
+        jdbcTemplate.update(sql.toString(), args);
+    }
+
+    /** 커밋 이후: 캐시 반영 → 수신자/발신자 발행 → future 완료 (접수 순서대로) */
+    private void publish(Pending p) {
+        ChatMessageResponseDto payload = p.dto();
+        try {
+            recentCache.append(payload);
+            messagingTemplate.convertAndSendToUser(p.recipientEmail(), "/queue/messages", payload);
+            messagingTemplate.convertAndSendToUser(payload.senderEmail(), "/queue/messages", payload);
+            log.debug("[chat] committed => to={}, from={}, msgId={}", p.recipientEmail(), payload.senderEmail(), payload.id());
+        } catch (RuntimeException e) {
+            log.warn("[chat] 발행 실패 msgId={}", payload.id(), e);
+        }
+        p.future().complete(payload);
+    }
+
+    private record Request(Long roomId, Long senderId, boolean fromMember, String senderEmail, String recipientEmail,
+                           String message, CompletableFuture<ChatMessageResponseDto> future) {}
+
+    private record Pending(ChatMessageResponseDto dto, Long senderId, boolean fromMember, String recipientEmail,
+                           CompletableFuture<ChatMessageResponseDto> future) {}
+
+    /** 한 방의 배치 내 변화량 (read=true 면 해당 참여자 안 읽은 수를 unread 로 재설정, 아니면 unread 만큼 증가) */
+    private static final class RoomDelta {
+        private ChatMessageResponseDto last;
+        private long memberReadId;
+        private boolean memberRead;
+        private int memberUnread;
+        private long supportReadId;
+        private boolean supportRead;
+        private int supportUnread;
+
+        void add(Pending p) {
+            last = p.dto();
+            if (p.fromMember()) {
+                memberReadId = p.dto().id();
+                memberRead = true;
+                memberUnread = 0;
+                supportUnread++;
+            } else {
+                supportReadId = p.dto().id();
+                supportRead = true;
+                supportUnread = 0;
+                memberUnread++;
+            }
+        }
+    }
+}
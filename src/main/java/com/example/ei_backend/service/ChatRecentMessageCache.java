@@ -0,0 +1,262 @@
+package com.example.ei_backend.service;
+
+import com.example.ei_backend.domain.dto.chat.ChatMessageResponseDto;
+import com.example.ei_backend.repository.ChatMessageRepository;
+import com.example.ei_backend.websocket.WebSocketProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 자주 열리는 채팅방의 최근 메시지 링 버퍼 (인프로세스).
+ * - 방마다 최근 ring-size 개를 id 오름차순으로 보관 (방 안에서는 오래된 것부터 밀려남)
+ * - 방 사이에는 LRU, 전체 추정 메모리가 max-mb 를 넘으면 가장 오래 안 쓴 방부터 제거
+ * - 채우기: 첫 조회 시 DB 에서 최근분 로딩 / 전송 커밋 이후 append
+ * - 링이 요청 구간을 온전히 덮을 때만 응답, 아니면 empty → keyset DB 경로
+ *
+ * 로딩(DB 조회)과 동시에 커밋된 메시지가 빠지지 않도록, 방별(스트라이프) 세대 값이 로딩 중 바뀌면 설치하지 않는다.
+ * 링은 이 노드에서 커밋된 append 만 보고 만료/노드 간 무효화가 없다.
+ * 한 방의 참여자(회원/상담원)가 서로 다른 노드에 붙을 수 있으므로 다중 노드(broker RELAY 모드)에서는
+ * 설정과 무관하게 꺼지고 DB 경로만 사용한다 ({@link #resolveEnabled}).
+ */
+@Component
+@Slf4j
+public class ChatRecentMessageCache {
+
+    private static final int STRIPES = 1024;
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageArchive messageArchive;
+    private final boolean enabled;
+    private final int ringSize;
+    private final long maxBytes;
+
+    /** access-order LRU (this 로 동기화) */
+    private final LinkedHashMap<Long, Ring> rings = new LinkedHashMap<>(64, 0.75f, true);
+    private long totalBytes;
+
+    private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public ChatRecentMessageCache(ChatMessageRepository chatMessageRepository,
+                                  ChatMessageArchive messageArchive,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.chat.cache.ring-size:200}") int ringSize,
+                                  @Value("${app.chat.cache.max-mb:64}") long maxMb,
+                                  @Value("${app.chat.cache.enabled:true}") boolean enabled,
+                                  @Value("${app.websocket.broker.mode:SIMPLE}") WebSocketProperties.BrokerMode brokerMode) {
+        this.chatMessageRepository = chatMessageRepository;
+        this.messageArchive = messageArchive;
+        this.enabled = resolveEnabled(enabled, brokerMode);
+        this.ringSize = Math.max(1, ringSize);
+        this.maxBytes = Math.max(1, maxMb) * 1024 * 1024;
+
+        this.hits = Counter.builder("chat.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("chat.cache").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("chat.cache.bytes", this, ChatRecentMessageCache::bytes).baseUnit("bytes").register(meterRegistry);
+        Gauge.builder("chat.cache.rooms", this, ChatRecentMessageCache::rooms).register(meterRegistry);
+    }
+
+    /** RELAY(다중 노드)면 다른 노드에서 쓴 메시지를 놓치므로 강제로 끔 */
+    static boolean resolveEnabled(boolean enabled, WebSocketProperties.BrokerMode brokerMode) {
+        if (enabled && brokerMode == WebSocketProperties.BrokerMode.RELAY) {
+            log.warn("[chat-cache] RELAY 모드에서는 노드 로컬 최근 메시지 캐시를 사용하지 않습니다 (app.chat.cache.enabled 무시).");
+            return false;
+        }
+        return enabled;
+    }
+
+    /** 최신 n 개 (id 내림차순). 링이 없으면 DB 에서 채운 뒤 응답 */
+    public Optional<List<ChatMessageResponseDto>> latest(Long roomId, int n) {
+        if (!enabled) return Optional.empty();
+        Ring ring;
+        synchronized (this) {
+            ring = rings.get(roomId);
+        }
+        boolean loaded = ring == null;
+        if (loaded) {
+            ring = load(roomId);
+        }
+        synchronized (this) {
+            if (ring.messages.size() >= n || ring.complete) {
+                List<ChatMessageResponseDto> rows = ring.newestFirst(Long.MAX_VALUE, n);
+                if (!loaded) return hit(rows);
+                misses.increment(); // 이번 요청은 DB 로딩으로 응답
+                return Optional.of(rows);
+            }
+        }
+        return miss();
+    }
+
+    /** beforeId 보다 오래된 n 개 (id 내림차순) */
+    public Optional<List<ChatMessageResponseDto>> before(Long roomId, long beforeId, int n) {
+        if (!enabled) return Optional.empty();
+        synchronized (this) {
+            Ring ring = rings.get(roomId);
+            if (ring != null) {
+                List<ChatMessageResponseDto> rows = ring.newestFirst(beforeId, n);
+                if (rows.size() >= n || ring.complete) return hit(rows);
+            }
+        }
+        return miss();
+    }
+
+    /** afterId 이후 n 개 (id 오름차순) - 링이 afterId 이후를 빠짐없이 갖고 있을 때만 */
+    public Optional<List<ChatMessageResponseDto>> after(Long roomId, long afterId, int n) {
+        if (!enabled) return Optional.empty();
+        synchronized (this) {
+            Ring ring = rings.get(roomId);
+            if (ring != null && (ring.complete || (!ring.messages.isEmpty() && afterId >= ring.messages.peekFirst().id()))) {
+                List<ChatMessageResponseDto> rows = new ArrayList<>(Math.min(n, ring.messages.size()));
+                for (ChatMessageResponseDto m : ring.messages) {
+                    if (m.id() > afterId) {
+                        rows.add(m);
+                        if (rows.size() == n) break;
+                    }
+                }
+                return hit(rows);
+            }
+        }
+        return miss();
+    }
+
+    /** 전송 커밋 이후 호출: 링이 있으면 id 순서 위치에 추가 (없으면 다음 조회 때 로딩) */
+    public void append(ChatMessageResponseDto message) {
+        if (!enabled) return;
+        Long roomId = message.chatRoomId();
+        generations.incrementAndGet(stripe(roomId));
+        synchronized (this) {
+            Ring ring = rings.get(roomId);
+            if (ring == null) return;
+            totalBytes += ring.insert(message);
+            totalBytes -= ring.trim(ringSize);
+            evictOverCap();
+        }
+    }
+
+    public synchronized long bytes() { return totalBytes; }
+
+    public synchronized int rooms() { return rings.size(); }
+
+    /* ===================== 내부 ===================== */
+
+    private Ring load(Long roomId) {
+        long gen = generations.get(stripe(roomId));
+        List<ChatMessageResponseDto> desc = chatMessageRepository.findLatest(roomId, PageRequest.of(0, ringSize + 1));
+
+        Ring loaded = new Ring();
+        // 보관 구간이 있는 방은 hot 테이블이 전체가 아님
+        loaded.complete = desc.size() <= ringSize && !messageArchive.hasArchive(roomId);
+        for (int i = Math.min(desc.size(), ringSize) - 1; i >= 0; i--) {
+            loaded.insert(desc.get(i));
+        }
+
+        synchronized (this) {
+            Ring existing = rings.get(roomId);
+            if (existing != null) return existing;
+            if (generations.get(stripe(roomId)) != gen) {
+                return loaded; // 로딩 중 새 메시지 커밋 → 이번 응답에만 사용하고 설치하지 않음
+            }
+            rings.put(roomId, loaded);
+            totalBytes += loaded.bytes;
+            evictOverCap();
+            return loaded;
+        }
+    }
+
+    private void evictOverCap() {
+        Iterator<Map.Entry<Long, Ring>> it = rings.entrySet().iterator();
+        while (totalBytes > maxBytes && it.hasNext()) {
+            Ring eldest = it.next().getValue();
+            totalBytes -= eldest.bytes;
+            it.remove();
+        }
+    }
+
+    private Optional<List<ChatMessageResponseDto>> hit(List<ChatMessageResponseDto> rows) {
+        hits.increment();
+        return Optional.of(rows);
+    }
+
+    private Optional<List<ChatMessageResponseDto>> miss() {
+        misses.increment();
+        return Optional.empty();
+    }
+
+    private static int stripe(Long roomId) {
+        return (int) Math.floorMod(roomId, (long) STRIPES);
+    }
+
+    /** 메시지 1건 추정 크기 (객체 헤더/필드 + 문자열) */
+    private static long estimate(ChatMessageResponseDto m) {
+        int text = (m.message() == null ? 0 : m.message().length())
+                + (m.senderEmail() == null ? 0 : m.senderEmail().length());
+        return 160L + 2L * text;
+    }
+
+    /** 방 하나의 링 (외부 동기화 필요) */
+    private static final class Ring {
+        private final ArrayDeque<ChatMessageResponseDto> messages = new ArrayDeque<>();
+        /** true 면 방의 전체 메시지를 갖고 있음 (더 오래된 메시지 없음) */
+        private boolean complete;
+        private long bytes;
+
+        /** id 순서 유지하며 추가 (중복 무시), 증가한 바이트 반환 */
+        long insert(ChatMessageResponseDto m) {
+            ChatMessageResponseDto last = messages.peekLast();
+            if (last == null || last.id() < m.id()) {
+                messages.addLast(m);
+            } else {
+                // 커밋 순서가 id 순서와 다른 드문 경우: 뒤에서부터 위치 탐색
+                List<ChatMessageResponseDto> tail = new ArrayList<>();
+                while (!messages.isEmpty() && messages.peekLast().id() > m.id()) {
+                    tail.add(messages.pollLast());
+                }
+                boolean duplicate = !messages.isEmpty() && messages.peekLast().id().equals(m.id());
+                if (!duplicate) messages.addLast(m);
+                for (int i = tail.size() - 1; i >= 0; i--) messages.addLast(tail.get(i));
+                if (duplicate) return 0;
+            }
+            long added = estimate(m);
+            bytes += added;
+            return added;
+        }
+
+        /** 상한 초과분(가장 오래된 것) 제거, 줄어든 바이트 반환 */
+        long trim(int capacity) {
+            long removed = 0;
+            while (messages.size() > capacity) {
+                removed += estimate(messages.pollFirst());
+                complete = false;
+            }
+            bytes -= removed;
+            return removed;
+        }
+
+        /** id < beforeId 인 메시지를 최신순으로 최대 n 개 */
+        List<ChatMessageResponseDto> newestFirst(long beforeId, int n) {
+            List<ChatMessageResponseDto> rows = new ArrayList<>(Math.min(n, messages.size()));
+            Iterator<ChatMessageResponseDto> it = messages.descendingIterator();
+            while (it.hasNext() && rows.size() < n) {
+                ChatMessageResponseDto m = it.next();
+                if (m.id() < beforeId) rows.add(m);
+            }
+            return rows;
+        }
+    }
+}
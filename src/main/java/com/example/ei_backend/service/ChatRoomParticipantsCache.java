@@ -0,0 +1,114 @@
+package com.example.ei_backend.service;
+
+import com.example.ei_backend.domain.dto.chat.ChatRoomParticipants;
+import com.example.ei_backend.exception.CustomException;
+import com.example.ei_backend.exception.ErrorCode;
+import com.example.ei_backend.repository.ChatRoomRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 채팅방 id → 참여자 요약({@link ChatRoomParticipants}) 캐시.
+ * - 전송/조회 경로의 권한 체크 + 수신자 결정을 SELECT 없이 처리
+ * - closeRoom/reopen 커밋 이후 invalidate, 다른 인스턴스의 변경은 ttl 안에 반영
+ * - 로딩 중 invalidate 가 일어나면(스트라이프 세대 변경) 로딩 결과를 설치하지 않음
+ */
+@Component
+public class ChatRoomParticipantsCache {
+
+    private static final int STRIPES = 1024;
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+    private final int maxSize;
+    private final long ttlMillis;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public ChatRoomParticipantsCache(ChatRoomRepository chatRoomRepository,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${app.chat.participants.max-size:50000}") int maxSize,
+                                     @Value("${app.chat.participants.ttl-seconds:300}") long ttlSeconds) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.maxSize = Math.max(1, maxSize);
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(Math.max(1, ttlSeconds));
+
+        this.hits = Counter.builder("chat.participants.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("chat.participants.cache").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("chat.participants.cache.size", entries, ConcurrentHashMap::size).register(meterRegistry);
+    }
+
+    /** 참여자 요약 조회 (없는 방이면 CHAT_ROOM_NOT_FOUND) */
+    public ChatRoomParticipants get(Long roomId) {
+        long now = System.currentTimeMillis();
+        Entry e = entries.get(roomId);
+        if (e != null && e.expiresAtMillis() > now) {
+            hits.increment();
+            return e.participants();
+        }
+        misses.increment();
+
+        long gen = generations.get(stripe(roomId));
+        ChatRoomParticipants loaded = chatRoomRepository.findParticipants(roomId)
+                .orElseThrow(() -> new CustomException(ErrorCode.CHAT_ROOM_NOT_FOUND));
+
+        if (generations.get(stripe(roomId)) == gen) {
+            if (entries.size() >= maxSize) evict(now);
+            entries.put(roomId, new Entry(loaded, now + ttlMillis));
+        }
+        return loaded;
+    }
+
+    /** 방 상태 변경 시 호출: 트랜잭션 안이면 커밋 이후, 아니면 즉시 제거 */
+    public void invalidate(Long roomId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(roomId);
+                }
+            });
+        }
+        evictNow(roomId); // 커밋 전 로딩분이 남지 않도록 지금도 한 번 제거
+    }
+
+    public int size() { return entries.size(); }
+
+    /* ===================== 내부 ===================== */
+
+    private void evictNow(Long roomId) {
+        generations.incrementAndGet(stripe(roomId));
+        entries.remove(roomId);
+    }
+
+    /** 1) 만료 항목 제거 → 2) 그래도 가득 차 있으면 10% 정도 임의 제거 */
+    private void evict(long now) {
+        entries.entrySet().removeIf(en -> en.getValue().expiresAtMillis() <= now);
+        if (entries.size() < maxSize) return;
+
+        int toRemove = Math.max(1, maxSize / 10);
+        Iterator<Long> it = entries.keySet().iterator();
+        while (toRemove-- > 0 && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private static int stripe(Long roomId) {
+        return (int) Math.floorMod(roomId, (long) STRIPES);
+    }
+
+    private record Entry(ChatRoomParticipants participants, long expiresAtMillis) {}
+}
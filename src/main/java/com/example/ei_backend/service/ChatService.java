@@ -1,10 +1,11 @@
 package com.example.ei_backend.service;
 
 import com.example.ei_backend.domain.UserRole;
+import com.example.ei_backend.domain.dto.chat.ChatMessagePage;
 import com.example.ei_backend.domain.dto.chat.ChatMessageResponseDto;
+import com.example.ei_backend.domain.dto.chat.ChatRoomParticipants;
 import com.example.ei_backend.domain.dto.chat.ChatRoomSummaryDto;
 import com.example.ei_backend.domain.entity.User;
-import com.example.ei_backend.domain.entity.chat.ChatMessage;
 import com.example.ei_backend.domain.entity.chat.ChatRoom;
 import com.example.ei_backend.exception.CustomException;
 import com.example.ei_backend.exception.ErrorCode;
@@ -15,27 +16,33 @@ import com.example.ei_backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ChatService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    /** 전체 조회(deprecated) 시 한 번에 읽는 건수 */
+    private static final int FULL_READ_CHUNK = 500;
+
     private final ChatRoomRepository chatRoomRepository;
     private final ChatMessageRepository chatMessageRepository;
     private final UserRepository userRepository;
 
-    // afterCommit 발행용
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatRecentMessageCache recentCache;
+    private final ChatMessageWriter chatMessageWriter;
+    private final ChatRoomParticipantsCache participantsCache;
+    private final ChatMessageArchive messageArchive;
 
     /**
      * 멤버 - 상담자 1:1 채팅방 조회 또는 생성
@@ -61,74 +68,162 @@ public class ChatService {
     }
 
     /**
-     * 채팅방에 메시지 저장 → 커밋 이후(/user/queue/messages) 발행
+     * 채팅방 메시지 전송: 검증 후 group commit 기록기에 접수.
+     * 반환 future 는 커밋 + (/user/queue/messages) 발행 이후 완료된다.
+     * 권한 체크/수신자 결정은 참여자 캐시로 처리 (캐시 적중 시 SELECT 없음).
+     *
+     * @param senderId STOMP principal 의 사용자 id (없으면 이메일로 판단)
      */
-    @Transactional
-    public ChatMessage sendMessage(Long chatRoomId, String senderEmail, String message) {
-        // (성능 개선 원하면) chatRoomRepository.findByIdWithUsers(...)로 교체 권장
-        ChatRoom room = chatRoomRepository.findById(chatRoomId)
-                .orElseThrow(() -> new CustomException(ErrorCode.CHAT_ROOM_NOT_FOUND));
+    public CompletableFuture<ChatMessageResponseDto> sendMessage(Long chatRoomId, Long senderId,
+                                                                 String senderEmail, String message) {
+        ChatRoomParticipants room = participantsCache.get(chatRoomId);
 
-        if (room.getClosedAt() != null) {
+        if (room.closed()) {
             throw new CustomException(ErrorCode.CHAT_ROOM_CLOSED);
         }
+        // 권한 체크: 방의 멤버 또는 상담자만 보낼 수 있음
+        if (!room.includes(senderId, senderEmail)) {
+            throw new CustomException(ErrorCode.ACCESS_DENIED);
+        }
 
-        User sender = userRepository.findByEmail(senderEmail)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        boolean fromMember = room.isMember(senderId, senderEmail);
+        Long resolvedSenderId = fromMember ? room.memberId() : room.supportId();
+        String resolvedSenderEmail = fromMember ? room.memberEmail() : room.supportEmail();
 
-        // 권한 체크: 방의 멤버 또는 상담자만 보낼 수 있음
-        validateParticipant(room, sender);
+        return chatMessageWriter.submit(chatRoomId, resolvedSenderId, fromMember, resolvedSenderEmail,
+                room.counterpartEmail(senderId, senderEmail), message);
+    }
 
-        ChatMessage saved = ChatMessage.builder()
-                .chatRoom(room)
-                .sender(sender)
-                .message(message)
-                .sentAt(LocalDateTime.now())
-                .build();
+    /**
+     * 채팅방 메시지 전체 조회(오래된 순). 보관 구간 → hot 테이블 순으로 keyset 청크 단위로 이어 읽음
+     * @deprecated 방 크기에 비례해 커짐 → {@link #getMessagePage} 사용
+     */
+    @Deprecated
+    public List<ChatMessageResponseDto> getMessages(Long chatRoomId, Long requesterId, String requestEmail) {
+        if (!participantsCache.get(chatRoomId).includes(requesterId, requestEmail)) {
+            throw new CustomException(ErrorCode.ACCESS_DENIED);
+        }
 
-        // ... 생략 ...
-        saved = chatMessageRepository.save(saved);
+        List<ChatMessageResponseDto> all = new ArrayList<>();
+        long cursor = 0L;
+        List<ChatMessageResponseDto> chunk;
+        do {
+            chunk = storedAfter(chatRoomId, cursor, FULL_READ_CHUNK);
+            all.addAll(chunk);
+            if (!chunk.isEmpty()) cursor = chunk.get(chunk.size() - 1).id();
+        } while (chunk.size() == FULL_READ_CHUNK);
+        return all;
+    }
 
-// 트랜잭션 안에서 필요한 값들 미리 확정
-        final String memberEmail = room.getMember().getEmail();
-        final String supportEmail = room.getSupport().getEmail();
-        final String recipientEmail = senderEmail.equals(memberEmail) ? supportEmail : memberEmail;
+    /**
+     * 채팅방 메시지 keyset 페이지 조회.
+     * - before/after 모두 없으면 최신 limit 개
+     * - before: 해당 커서보다 오래된 limit 개 / after: 해당 커서 이후 limit 개 (따라잡기)
+     * 최근 구간은 {@link ChatRecentMessageCache} 링에서, 그 밖은 (chat_room_id, id) 인덱스 범위 스캔 1회
+     * (종료 후 보관된 방은 {@link ChatMessageArchive} 구간에서 이어서 읽음)
+     * (권한 체크는 참여자 캐시 → 캐시 적중 시 트랜잭션/커넥션 없이 응답)
+     */
+    public ChatMessagePage getMessagePage(Long chatRoomId, Long requesterId, String requestEmail,
+                                          String before, String after, int limit) {
+        if (!participantsCache.get(chatRoomId).includes(requesterId, requestEmail)) {
+            throw new CustomException(ErrorCode.ACCESS_DENIED);
+        }
 
-// DTO와 함께 "메시지 ID"도 스칼라로 캡처
-        final ChatMessageResponseDto payload = ChatMessageResponseDto.from(saved);
-        final Long msgId = saved.getId();   // <-- 여기!
+        if (before != null && after != null) {
+            throw new CustomException(ErrorCode.INVALID_INPUT, "before 와 after 는 함께 사용할 수 없습니다.");
+        }
+        int size = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE); // 1개 더 읽어 hasMore 판단
+
+        if (after != null) {
+            long afterId = ChatCursor.decode(after, chatRoomId);
+            List<ChatMessageResponseDto> rows = recentCache.after(chatRoomId, afterId, size + 1)
+                    .orElseGet(() -> storedAfter(chatRoomId, afterId, size + 1));
+            boolean hasMore = rows.size() > size;
+            List<ChatMessageResponseDto> page = hasMore ? rows.subList(0, size) : rows;
+            long newest = page.isEmpty() ? afterId : page.get(page.size() - 1).id();
+            return ChatMessagePage.builder()
+                    .messages(List.copyOf(page))
+                    .after(ChatCursor.encode(chatRoomId, newest))
+                    .hasMore(hasMore)
+                    .build();
+        }
 
-        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
-            throw new IllegalStateException("Transaction synchronization is not active. Ensure @Transactional is applied.");
+        List<ChatMessageResponseDto> rows;
+        if (before != null) {
+            long beforeId = ChatCursor.decode(before, chatRoomId);
+            rows = recentCache.before(chatRoomId, beforeId, size + 1)
+                    .orElseGet(() -> storedBefore(chatRoomId, beforeId, size + 1));
+        } else {
+            rows = recentCache.latest(chatRoomId, size + 1)
+                    .orElseGet(() -> storedBefore(chatRoomId, Long.MAX_VALUE, size + 1));
         }
+        return olderPage(chatRoomId, rows, size, before == null);
+    }
 
-        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-            @Override
-            public void afterCommit() {
-                messagingTemplate.convertAndSendToUser(recipientEmail, "/queue/messages", payload);
-                messagingTemplate.convertAndSendToUser(senderEmail, "/queue/messages", payload);
-                // DTO에 getId()가 없어도 엔티티 ID를 캡처해뒀으니 OK
-                log.info("[chat] committed => to={}, from={}, msgId={}", recipientEmail, senderEmail, msgId);
-            }
-        });
-
-        return saved;
+    /** hot 테이블 → 모자라면 보관 구간에서 이어서 (id 내림차순, 보관분은 항상 hot 보다 오래됨) */
+    private List<ChatMessageResponseDto> storedBefore(Long chatRoomId, long beforeId, int n) {
+        PageRequest limit = PageRequest.of(0, n);
+        List<ChatMessageResponseDto> hot = beforeId == Long.MAX_VALUE
+                ? chatMessageRepository.findLatest(chatRoomId, limit)
+                : chatMessageRepository.findBefore(chatRoomId, beforeId, limit);
+        if (hot.size() >= n) return hot;
+
+        long cursor = hot.isEmpty() ? beforeId : hot.get(hot.size() - 1).id();
+        List<ChatMessageResponseDto> archived = messageArchive.before(chatRoomId, cursor, n - hot.size());
+        if (archived.isEmpty()) return hot;
+        List<ChatMessageResponseDto> rows = new ArrayList<>(hot.size() + archived.size());
+        rows.addAll(hot);
+        rows.addAll(archived);
+        return rows;
     }
 
-        /**
-         * 채팅방 메시지 전체 조회(오래된 순)
-         */
-    @Transactional(readOnly = true)
-    public List<ChatMessage> getMessages(Long chatRoomId, String requestEmail) {
-        ChatRoom room = chatRoomRepository.findById(chatRoomId)
-                .orElseThrow(() -> new CustomException(ErrorCode.CHAT_ROOM_NOT_FOUND));
+    /** 보관 구간 → 이어서 hot 테이블 (id 오름차순) */
+    private List<ChatMessageResponseDto> storedAfter(Long chatRoomId, long afterId, int n) {
+        List<ChatMessageResponseDto> archived = messageArchive.after(chatRoomId, afterId, n);
+        if (archived.isEmpty()) return chatMessageRepository.findAfter(chatRoomId, afterId, PageRequest.of(0, n));
+        if (archived.size() >= n) return archived;
 
-        User requester = userRepository.findByEmail(requestEmail)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        long cursor = archived.get(archived.size() - 1).id();
+        List<ChatMessageResponseDto> rows = new ArrayList<>(archived);
+        rows.addAll(chatMessageRepository.findAfter(chatRoomId, cursor, PageRequest.of(0, n - archived.size())));
+        return rows;
+    }
 
-        validateParticipant(room, requester);
+    /** id 내림차순으로 읽은 결과 → 오래된 순 페이지 */
+    private static ChatMessagePage olderPage(Long chatRoomId, List<ChatMessageResponseDto> descRows,
+                                             int size, boolean latest) {
+        boolean hasMore = descRows.size() > size;
+        List<ChatMessageResponseDto> page = new ArrayList<>(hasMore ? descRows.subList(0, size) : descRows);
+        Collections.reverse(page);
+
+        String beforeCursor = hasMore ? ChatCursor.encode(chatRoomId, page.get(0).id()) : null;
+        // 최신 페이지면 마지막 메시지(없으면 0) 이후부터 따라잡기
+        String afterCursor = page.isEmpty()
+                ? (latest ? ChatCursor.encode(chatRoomId, 0L) : null)
+                : ChatCursor.encode(chatRoomId, page.get(page.size() - 1).id());
+        return ChatMessagePage.builder()
+                .messages(List.copyOf(page))
+                .before(beforeCursor)
+                .after(afterCursor)
+                .hasMore(hasMore)
+                .build();
+    }
 
-        return chatMessageRepository.findByChatRoomOrderBySentAtAsc(room);
+    /**
+     * 읽음 처리: 요청자(멤버/상담자)의 읽음 커서를 lastReadMessageId 까지 전진하고 안 읽은 수 재계산.
+     * 커서는 뒤로 가지 않으며, 방의 마지막 메시지를 넘지 않는다.
+     */
+    @Transactional
+    public void markRead(Long chatRoomId, Long requesterId, String requestEmail, long lastReadMessageId) {
+        ChatRoomParticipants room = participantsCache.get(chatRoomId);
+        if (!room.includes(requesterId, requestEmail)) {
+            throw new CustomException(ErrorCode.ACCESS_DENIED);
+        }
+        if (room.isMember(requesterId, requestEmail)) {
+            chatRoomRepository.markReadByMember(chatRoomId, lastReadMessageId);
+        } else {
+            chatRoomRepository.markReadBySupport(chatRoomId, lastReadMessageId);
+        }
     }
 
     /**
@@ -153,12 +248,6 @@ public class ChatService {
         return chatRoomRepository.findAllByMember(member);
     }
 
-    private void validateParticipant(ChatRoom room, User user) {
-        boolean isMember  = room.getMember()  != null && room.getMember().getId().equals(user.getId());
-        boolean isSupport = room.getSupport() != null && room.getSupport().getId().equals(user.getId());
-        if (!(isMember || isSupport)) throw new CustomException(ErrorCode.ACCESS_DENIED);
-    }
-
     @Transactional
     public com.example.ei_backend.domain.dto.chat.CloseRoomResponse closeRoom(
             Long roomId, String supportEmail, com.example.ei_backend.domain.dto.chat.CloseRoomRequest req) {
@@ -175,6 +264,7 @@ public class ChatService {
         }
 
         room.close(ChatRoom.ClosedBy.SUPPORT, (req != null ? req.getReason() : null));
+        participantsCache.invalidate(room.getId());
 
         return com.example.ei_backend.domain.dto.chat.CloseRoomResponse.builder()
                 .roomId(room.getId())
@@ -184,6 +274,7 @@ public class ChatService {
                 .build();
     }
 
+    /** 상담자 인박스: 방 요약 + 마지막 메시지 미리보기 + 안 읽은 수 (방 페이지 1회 조회, 메시지 테이블 미조회) */
     @Transactional(readOnly = true)
     public Page<ChatRoomSummaryDto> getMyRoomsForSupport(
             String supportEmail, String status, Pageable pageable) {
@@ -1,7 +1,9 @@
 package com.example.ei_backend.service;
 
+import com.example.ei_backend.domain.entity.UserCourse;
 import com.example.ei_backend.repository.LectureProgressRepository;
 import com.example.ei_backend.repository.LectureRepository;
+import com.example.ei_backend.repository.UserCourseRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,9 +15,45 @@ public class CourseProgressService {
 
     private final LectureRepository lectureRepository;
     private final LectureProgressRepository lectureProgressRepository;
+    private final UserCourseRepository userCourseRepository;
+    private final ProgressWriteBehindBuffer progressBuffer;
 
-    /** 코스 진행률 (0.0 ~ 100.0) */
+    /**
+     * 코스 진행 요약 (진행률 + 완료/전체 강의 수)
+     * 우선순위: 버퍼 집계 → UserCourse 요약 컬럼(1행) → 집계 쿼리
+     */
+    public ProgressSummary getSummary(Long userId, Long courseId) {
+        var buffered = progressBuffer.findCourseProgress(userId, courseId);
+        if (buffered.isPresent()) return ProgressSummary.of(buffered.get());
+
+        return userCourseRepository.findByUser_IdAndCourse_Id(userId, courseId)
+                .filter(UserCourse::hasProgressSummary)
+                .map(ProgressSummary::of)
+                .orElseGet(() -> aggregate(userId, courseId));
+    }
+
+    /** 이미 로딩된 수강 행 기준 (목록 조회용, 추가 쿼리 없음) */
+    public ProgressSummary getSummary(UserCourse uc) {
+        Long userId = uc.getUser().getId();
+        Long courseId = uc.getCourse().getId();
+
+        var buffered = progressBuffer.findCourseProgress(userId, courseId);
+        if (buffered.isPresent()) return ProgressSummary.of(buffered.get());
+        if (uc.hasProgressSummary()) return ProgressSummary.of(uc);
+        return aggregate(userId, courseId);
+    }
+
+    private ProgressSummary aggregate(Long userId, Long courseId) {
+        var cnt = getProgressCount(userId, courseId);
+        return new ProgressSummary(getCourseProgressPercent(userId, courseId),
+                cnt.completedLectures(), cnt.totalLectures());
+    }
+
+    /** 코스 진행률 (0.0 ~ 100.0) - 버퍼에 최신 집계가 있으면 우선 사용 */
     public double getCourseProgressPercent(Long userId, Long courseId) {
+        var buffered = progressBuffer.findCourseProgress(userId, courseId);
+        if (buffered.isPresent()) return buffered.get().ratio() * 100.0;
+
         long totalDuration = lectureRepository.sumDurationByCourseId(courseId);
         if (totalDuration <= 0) return 0.0;
 
@@ -27,11 +65,30 @@ public class CourseProgressService {
 
     /** 완료 강의 수 / 전체 강의 수 */
     public ProgressCount getProgressCount(Long userId, Long courseId) {
+        var buffered = progressBuffer.findCourseProgress(userId, courseId);
+        if (buffered.isPresent()) {
+            return new ProgressCount(buffered.get().totalLectures(), buffered.get().completedLectures());
+        }
+
         long total = lectureRepository.countByCourseId(courseId);
         long completed = lectureProgressRepository.countCompletedLectures(userId, courseId);
         return new ProgressCount(total, completed);
     }
 
     public record ProgressCount(long totalLectures, long completedLectures) {}
+
+    /** percent: 0.0 ~ 100.0 */
+    public record ProgressSummary(double percent, long completedLectures, long totalLectures) {
+
+        static ProgressSummary of(ProgressWriteBehindBuffer.CourseView v) {
+            return new ProgressSummary(v.ratio() * 100.0, v.completedLectures(), v.totalLectures());
+        }
+
+        static ProgressSummary of(UserCourse uc) {
+            double percent = uc.getTotalDurationSec() <= 0 ? 0.0
+                    : (double) uc.getWatchedCappedSec() / uc.getTotalDurationSec() * 100.0;
+            return new ProgressSummary(percent, uc.getCompletedLectures(), uc.getTotalLectures());
+        }
+    }
 }
 
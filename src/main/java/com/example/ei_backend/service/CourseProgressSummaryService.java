@@ -0,0 +1,53 @@
+package com.example.ei_backend.service;
+
+import com.example.ei_backend.repository.UserCourseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 수강(UserCourse)별 진행 요약 유지.
+ * - 진도 변경: 해당 (사용자, 코스) 1건을 lecture_progress 기준으로 재계산 (write-behind flush 도 같은 SQL)
+ *   → 증분과 절대값 기록이 섞이지 않고, 요약은 항상 lecture_progress 에서 다시 만들 수 있음
+ * - 강의 추가/삭제/길이 변경: 해당 코스 수강 행 일괄 재계산
+ * - 신규 수강/기존 데이터: 1건 재계산 / 기동 시 백필
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CourseProgressSummaryService {
+
+    private final UserCourseRepository userCourseRepository;
+    private final ProgressWriteBehindBuffer progressBuffer;
+
+    /** 강의 구성/길이 변경 (강의 쓰기 트랜잭션 안에서 호출) */
+    @Transactional
+    public void onCurriculumChanged(Long courseId) {
+        int updated = userCourseRepository.refreshSummaryByCourse(courseId);
+        progressBuffer.invalidateCurriculumAfterCommit();
+        log.debug("[progress-summary] course refreshed courseId={}, rows={}", courseId, updated);
+    }
+
+    /** 수강 등록 직후 */
+    @Transactional
+    public void onEnrolled(Long userId, Long courseId) {
+        userCourseRepository.refreshSummary(userId, courseId);
+    }
+
+    /** 요청마다 DB 반영하는 경로(write-behind 비활성): 시청 초/완료 여부가 바뀐 경우에만 재계산 */
+    @Transactional
+    public void onProgressChanged(Long userId, Long courseId) {
+        userCourseRepository.refreshSummary(userId, courseId);
+    }
+
+    /** 요약 컬럼 추가 이전 행 백필 */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillMissing() {
+        int updated = userCourseRepository.refreshMissingSummaries();
+        if (updated > 0) log.info("[progress-summary] backfilled rows={}", updated);
+    }
+}
@@ -8,7 +8,6 @@ import com.example.ei_backend.domain.entity.Course;
 import com.example.ei_backend.domain.entity.UserCourse;
 import com.example.ei_backend.exception.NotFoundException;
 import com.example.ei_backend.repository.CourseRepository;
-import com.example.ei_backend.repository.LectureRepository;
 import com.example.ei_backend.repository.UserCourseRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -29,8 +28,8 @@ public class CourseService {
     private final CourseRepository courseRepository;
     private final UserCourseRepository userCourseRepository;
     private final S3Uploader s3Uploader;
-    private final LectureRepository lectureRepository;
     private final CourseProgressService courseProgressService;
+    private final CurriculumReadModel curriculumReadModel;
 
     @Value("${app.progress.complete-threshold:90.0}")
     private double completeThreshold;
@@ -49,6 +48,7 @@ public class CourseService {
                 .build();
 
         courseRepository.save(course);
+        curriculumReadModel.invalidateCourseAndCatalogAfterCommit(course.getId());
 
         // 3. 응답 DTO 반환
         return CourseDto.Response.builder()
@@ -66,11 +66,9 @@ public class CourseService {
                 .orElseThrow(() -> new NotFoundException("course"));
     }
 
-    @Transactional
+    /** 공개 코스 목록 - 읽기 모델에서 제공 (변경 시에만 DB 재조회) */
     public List<CourseDto.Summary> listAllPublicCourses() {
-        List<Course> list = courseRepository
-                .findByPublishedTrueAndDeletedFalse(Sort.by(Sort.Direction.DESC, "id")); // createdAt 있으면 그걸로
-        return list.stream().map(this::toSummary).toList();
+        return curriculumReadModel.publicCatalog();
     }
 
 //    /** 1) 전체 공개 코스 조회 (검색/페이징) */
@@ -102,12 +100,13 @@ public class CourseService {
     public CourseDto.Summary setPublished(Long courseId, boolean published) {
         Course course = findById(courseId);
         course.setPublished(published);
+        curriculumReadModel.invalidateCourseAndCatalogAfterCommit(courseId);
         // JPA 더티체킹으로 flush 되지만, 명시 저장을 선호하면 아래 추가
         // courseRepository.save(course);
         return toSummary(course);
     }
 
-    /** 내 코스 목록 (수강 중) - 진행률: CourseProgressService 기반 */
+    /** 내 코스 목록 (수강 중) - 진행률: UserCourse 진행 요약 기반 */
     @Transactional(readOnly = true)
     public CourseDto.Page<CourseDto.MyCourseItem> findMyCourses(Long userId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "id"));
@@ -118,18 +117,17 @@ public class CourseService {
                     var c = uc.getCourse();
                     Long courseId = c.getId();
 
-                    // ✅ 새 진행률 로직 (코스 전체 기준)
-                    double percent = courseProgressService.getCourseProgressPercent(userId, courseId);
-                    var cnt = courseProgressService.getProgressCount(userId, courseId);
+                    // ✅ 수강 행의 진행 요약 사용 (코스별 집계 쿼리 없음)
+                    var summary = courseProgressService.getSummary(uc);
 
                     return CourseDto.MyCourseItem.builder()
                             .courseId(courseId)
                             .courseTitle(c.getTitle())
                             .imageUrl(c.getImageUrl())
                             .progress(CourseProgressDto.of(
-                                    percent,
-                                    (int) cnt.completedLectures(),
-                                    (int) cnt.totalLectures(),
+                                    summary.percent(),
+                                    (int) summary.completedLectures(),
+                                    (int) summary.totalLectures(),
                                     completeThreshold
                             ))
                             .build();
@@ -145,23 +143,19 @@ public class CourseService {
                 .last(result.isLast())
                 .build();
     }
-    /** 결제 직전 노출용(공개 코스만) */
-    @Transactional(readOnly = true)
+    /** 결제 직전 노출용(공개 코스만) - 읽기 모델에서 제공 */
     public CoursePurchasePreviewDto getPurchasePreview(Long courseId) {
-        Course c = courseRepository.findByIdAndPublishedTrueAndDeletedFalse(courseId)
-                .orElseThrow(() -> new NotFoundException("course"));
-
-        int lectureCount = (int) lectureRepository.countByCourseId(courseId);
-        int totalDuration = lectureRepository.sumDurationByCourseId(courseId);
+        var c = curriculumReadModel.course(courseId);
+        if (!c.isPurchasable()) throw new NotFoundException("course");
 
         return CoursePurchasePreviewDto.builder()
-                .id(c.getId())
-                .title(c.getTitle())
-                .description(c.getDescription())
-                .price(c.getPrice())
-                .imageUrl(c.getImageUrl())
-                .lectureCount(lectureCount)
-                .totalDurationSec(totalDuration)
+                .id(c.id())
+                .title(c.title())
+                .description(c.description())
+                .price(c.price())
+                .imageUrl(c.imageUrl())
+                .lectureCount(c.lectureCount())
+                .totalDurationSec(c.totalDurationSec())
                 .build();
     }
 
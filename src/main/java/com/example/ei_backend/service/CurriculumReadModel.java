@@ -0,0 +1,211 @@
+package com.example.ei_backend.service;
+
+import com.example.ei_backend.domain.dto.CourseDto;
+import com.example.ei_backend.domain.entity.Course;
+import com.example.ei_backend.domain.entity.Lecture;
+import com.example.ei_backend.domain.entity.VideoAsset;
+import com.example.ei_backend.exception.NotFoundException;
+import com.example.ei_backend.repository.CourseRepository;
+import com.example.ei_backend.repository.LectureRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 코스/강의 커리큘럼 읽기 모델 (인프로세스 캐시).
+ * - 공개 코스 목록, 코스별 정렬된 강의(길이/개수/READY 영상 URL)를 메모리에서 제공
+ * - 관리자 쓰기(setPublished, 강의 생성/수정/삭제/영상 반영) 커밋 이후 해당 코스만 무효화
+ * - 버전 비교로 무효화와 동시에 진행된 로딩 결과가 캐시에 남지 않도록 함
+ * - 코스 항목은 LRU(max-courses)로 상한
+ * - 무효화는 이 인스턴스에만 적용되므로 항목마다 ttl-seconds 만료를 둠
+ *   → 다른 인스턴스에서 일어난 쓰기도 최대 ttl 안에 반영
+ */
+@Component
+@Slf4j
+public class CurriculumReadModel {
+
+    private final CourseRepository courseRepository;
+    private final LectureRepository lectureRepository;
+
+    private final Map<Long, Cached> courses;
+    private final ConcurrentHashMap<Long, AtomicLong> courseVersions = new ConcurrentHashMap<>();
+    private final AtomicLong catalogVersion = new AtomicLong();
+    private volatile Catalog catalog;
+    private final long ttlMillis;
+
+    private final Counter catalogHit;
+    private final Counter catalogMiss;
+    private final Counter courseHit;
+    private final Counter courseMiss;
+
+    public CurriculumReadModel(CourseRepository courseRepository,
+                               LectureRepository lectureRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.curriculum-cache.max-courses:500}") int maxCourses,
+                               @Value("${app.curriculum-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.courseRepository = courseRepository;
+        this.lectureRepository = lectureRepository;
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(Math.max(1, ttlSeconds));
+
+        int bound = Math.max(1, maxCourses);
+        this.courses = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Cached> eldest) {
+                return size() > bound;
+            }
+        });
+
+        this.catalogHit = counter(meterRegistry, "catalog", "hit");
+        this.catalogMiss = counter(meterRegistry, "catalog", "miss");
+        this.courseHit = counter(meterRegistry, "course", "hit");
+        this.courseMiss = counter(meterRegistry, "course", "miss");
+        Gauge.builder("curriculum.cache.size", courses, Map::size).register(meterRegistry);
+    }
+
+    /** 공개 코스 목록 (최신순) */
+    public List<CourseDto.Summary> publicCatalog() {
+        long now = System.currentTimeMillis();
+        Catalog cached = catalog;
+        if (cached != null && cached.version() == catalogVersion.get() && cached.expiresAtMillis() > now) {
+            catalogHit.increment();
+            return cached.items();
+        }
+        catalogMiss.increment();
+
+        long version = catalogVersion.get();
+        List<CourseDto.Summary> items = courseRepository
+                .findByPublishedTrueAndDeletedFalse(Sort.by(Sort.Direction.DESC, "id"))
+                .stream()
+                .map(CurriculumReadModel::toSummary)
+                .toList();
+        if (catalogVersion.get() == version) {
+            catalog = new Catalog(version, items, now + ttlMillis);
+        }
+        return items;
+    }
+
+    /** 코스 + 정렬된 강의 목록 (공개 여부와 무관, 없으면 NotFoundException) */
+    public CourseCurriculum course(Long courseId) {
+        long now = System.currentTimeMillis();
+        long version = versionOf(courseId);
+        Cached cached = courses.get(courseId);
+        if (cached != null && cached.value().version() == version && cached.expiresAtMillis() > now) {
+            courseHit.increment();
+            return cached.value();
+        }
+        courseMiss.increment();
+
+        Course c = courseRepository.findById(courseId)
+                .orElseThrow(() -> new NotFoundException("course"));
+        List<LectureItem> lectures = lectureRepository.findWithVideoByCourseIdOrderByOrderIndexAsc(courseId)
+                .stream()
+                .map(CurriculumReadModel::toItem)
+                .toList();
+
+        CourseCurriculum loaded = new CourseCurriculum(
+                version, c.getId(), c.getTitle(), c.getDescription(), c.getPrice(), c.getImageUrl(),
+                c.isPublished(), c.isDeleted(), lectures,
+                lectures.stream().mapToInt(LectureItem::durationSec).sum()
+        );
+        if (versionOf(courseId) == version) {
+            courses.put(courseId, new Cached(loaded, now + ttlMillis));
+        }
+        return loaded;
+    }
+
+    /** 강의 구성/영상 변경 커밋 이후 해당 코스 무효화 */
+    public void invalidateCourseAfterCommit(Long courseId) {
+        afterCommit(() -> invalidateCourse(courseId));
+    }
+
+    /** 공개 여부 등 코스 자체 변경 → 코스 + 목록 무효화 */
+    public void invalidateCourseAndCatalogAfterCommit(Long courseId) {
+        afterCommit(() -> {
+            invalidateCourse(courseId);
+            catalogVersion.incrementAndGet();
+        });
+    }
+
+    private void invalidateCourse(Long courseId) {
+        courseVersions.computeIfAbsent(courseId, id -> new AtomicLong()).incrementAndGet();
+        courses.remove(courseId);
+        log.debug("[curriculum] invalidated courseId={}", courseId);
+    }
+
+    /** 조회만으로는 항목을 만들지 않음 (무효화된 적 없는 코스 = 0) → 없는 courseId 요청이 맵을 키우지 않음 */
+    private long versionOf(Long courseId) {
+        AtomicLong v = courseVersions.get(courseId);
+        return v == null ? 0L : v.get();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static Counter counter(MeterRegistry registry, String cache, String result) {
+        return Counter.builder("curriculum.cache")
+                .tag("cache", cache)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static CourseDto.Summary toSummary(Course c) {
+        return CourseDto.Summary.builder()
+                .id(c.getId())
+                .title(c.getTitle())
+                .imageUrl(c.getImageUrl())
+                .price(c.getPrice())
+                .published(c.isPublished())
+                .build();
+    }
+
+    private static LectureItem toItem(Lecture l) {
+        VideoAsset v = l.getVideo();
+        String status = v != null ? v.getStatus().name() : null;
+        String url = (v != null && v.getStatus() == VideoAsset.Status.READY) ? v.getUrl() : null;
+        return new LectureItem(l.getId(), l.getTitle(), l.getOrderIndex(), l.isPublic(),
+                l.getDurationSec(), status, url);
+    }
+
+    /* ===================== 읽기 모델 ===================== */
+
+    private record Catalog(long version, List<CourseDto.Summary> items, long expiresAtMillis) {}
+
+    private record Cached(CourseCurriculum value, long expiresAtMillis) {}
+
+    public record CourseCurriculum(long version, Long id, String title, String description, int price,
+                                   String imageUrl, boolean published, boolean deleted,
+                                   List<LectureItem> lectures, int totalDurationSec) {
+
+        public boolean isPurchasable() { return published && !deleted; }
+
+        public int lectureCount() { return lectures.size(); }
+    }
+
+    /** videoUrl 은 READY 상태일 때만 */
+    public record LectureItem(Long id, String title, int orderIndex, boolean isPublic,
+                              int durationSec, String videoStatus, String videoUrl) {}
+}
@@ -0,0 +1,147 @@
+package com.example.ei_backend.service;
+
+import com.example.ei_backend.repository.UserCourseRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 사용자별 수강 코스 id 인덱스 (인프로세스, 권한 체크용).
+ * - 사용자마다 정렬된 long[] 1개 (이진 탐색), 첫 조회 시 로딩 + ttl 경과 시 재로딩
+ * - 수강 등록 커밋 이후 onEnrolled 로 즉시 반영 (배열 교체, copy-on-write)
+ * - 인덱스에 없으면 DB 로 한 번 더 확인 → 다른 인스턴스에서 막 등록된 수강도 거부하지 않음
+ *   (권한 체크 대부분은 수강 중인 사용자라 DB 확인은 드묾)
+ * - 로딩 중 onEnrolled 가 일어나면(스트라이프 세대 변경) 로딩 결과를 설치하지 않음
+ */
+@Component
+public class EnrollmentIndex {
+
+    private static final int STRIPES = 1024;
+    private static final long[] EMPTY = new long[0];
+
+    private final UserCourseRepository userCourseRepository;
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+    private final int maxUsers;
+    private final long ttlMillis;
+
+    private final Counter hits;
+    private final Counter loads;
+    private final Counter dbChecks;
+
+    public EnrollmentIndex(UserCourseRepository userCourseRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.enrollment-index.max-users:100000}") int maxUsers,
+                           @Value("${app.enrollment-index.ttl-seconds:600}") long ttlSeconds) {
+        this.userCourseRepository = userCourseRepository;
+        this.maxUsers = Math.max(1, maxUsers);
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(Math.max(1, ttlSeconds));
+
+        this.hits = Counter.builder("enrollment.index").tag("result", "hit").register(meterRegistry);
+        this.loads = Counter.builder("enrollment.index").tag("result", "load").register(meterRegistry);
+        this.dbChecks = Counter.builder("enrollment.index").tag("result", "db_check").register(meterRegistry);
+        Gauge.builder("enrollment.index.users", entries, ConcurrentHashMap::size).register(meterRegistry);
+    }
+
+    /** 수강 여부 (existsByUserIdAndCourseId 대체) */
+    public boolean isEnrolled(Long userId, Long courseId) {
+        if (userId == null || courseId == null) return false;
+        long now = System.currentTimeMillis();
+
+        Entry e = entries.get(userId);
+        if (e == null || e.expiresAtMillis() <= now) {
+            e = load(userId, now);
+        } else {
+            hits.increment();
+        }
+        if (Arrays.binarySearch(e.courseIds(), courseId) >= 0) return true;
+
+        // 인덱스에 없음 → DB 확인 (다른 인스턴스 등록분), 있으면 반영
+        dbChecks.increment();
+        if (!userCourseRepository.existsByUserIdAndCourseId(userId, courseId)) return false;
+        addNow(userId, courseId);
+        return true;
+    }
+
+    /** 수강 등록 시 호출: 트랜잭션 안이면 커밋 이후, 아니면 즉시 반영 */
+    public void onEnrolled(Long userId, Long courseId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addNow(userId, courseId);
+                }
+            });
+            return;
+        }
+        addNow(userId, courseId);
+    }
+
+    public int size() { return entries.size(); }
+
+    /* ===================== 내부 ===================== */
+
+    private Entry load(Long userId, long now) {
+        loads.increment();
+        long gen = generations.get(stripe(userId));
+        List<Long> ids = userCourseRepository.findCourseIdsByUserId(userId);
+
+        long[] sorted = ids.isEmpty() ? EMPTY : new long[ids.size()];
+        for (int i = 0; i < sorted.length; i++) sorted[i] = ids.get(i);
+        Arrays.sort(sorted);
+        Entry loaded = new Entry(sorted, now + ttlMillis);
+
+        if (generations.get(stripe(userId)) == gen) {
+            if (entries.size() >= maxUsers) evict(now);
+            entries.put(userId, loaded);
+        }
+        return loaded;
+    }
+
+    /** 설치된 배열에 courseId 추가 (없으면 다음 조회 때 로딩) */
+    private void addNow(Long userId, Long courseId) {
+        generations.incrementAndGet(stripe(userId));
+        entries.computeIfPresent(userId, (k, e) -> {
+            int pos = Arrays.binarySearch(e.courseIds(), courseId);
+            if (pos >= 0) return e;
+            int at = -pos - 1;
+            long[] old = e.courseIds();
+            long[] next = new long[old.length + 1];
+            System.arraycopy(old, 0, next, 0, at);
+            next[at] = courseId;
+            System.arraycopy(old, at, next, at + 1, old.length - at);
+            return new Entry(next, e.expiresAtMillis());
+        });
+    }
+
+    /** 1) 만료 항목 제거 → 2) 그래도 가득 차 있으면 10% 정도 임의 제거 */
+    private void evict(long now) {
+        entries.entrySet().removeIf(en -> en.getValue().expiresAtMillis() <= now);
+        if (entries.size() < maxUsers) return;
+
+        int toRemove = Math.max(1, maxUsers / 10);
+        Iterator<Long> it = entries.keySet().iterator();
+        while (toRemove-- > 0 && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private static int stripe(Long userId) {
+        return (int) Math.floorMod(userId, (long) STRIPES);
+    }
+
+    /** courseIds: 오름차순, 교체만 하고 내부는 변경하지 않음 */
+    private record Entry(long[] courseIds, long expiresAtMillis) {}
+}
@@ -2,25 +2,24 @@ package com.example.ei_backend.service;
 
 import com.example.ei_backend.domain.dto.KakaoPayApproveRequestDto;
 import com.example.ei_backend.domain.dto.KakaoPayApproveResponseDto;
+import com.example.ei_backend.domain.dto.KakaoPayOrderResponseDto;
 import com.example.ei_backend.domain.dto.KakaoPayReadyRequestDto;
 import com.example.ei_backend.domain.dto.KakaoPayReadyResponseDto;
 import com.example.ei_backend.domain.entity.*;
+import com.example.ei_backend.exception.CustomException;
+import com.example.ei_backend.exception.ErrorCode;
+import com.example.ei_backend.payment.KakaoPayClient;
+import com.example.ei_backend.payment.KakaoPayProperties;
+import com.example.ei_backend.payment.PaymentGatewayException;
 import com.example.ei_backend.repository.*;
 import com.example.ei_backend.util.AppFrontProperties;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.HttpServerErrorException;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.time.LocalDateTime;
@@ -30,7 +29,16 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.Optional;
 import java.util.UUID;
-
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 카카오페이 결제 준비/승인.
+ * PG 호출({@link KakaoPayClient})은 DB 트랜잭션 밖에서 수행한다:
+ * 검증(조회) → PG 호출 → 결과 기록(짧은 트랜잭션) 순서라 PG 지연 동안 커넥션/락을 잡지 않음.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -39,14 +47,21 @@ public class KakaoPayService {
     private final UserRepository userRepository;
     private final CourseRepository courseRepository;
     private final UserCourseRepository userCourseRepository;
+    private final CourseProgressSummaryService progressSummaryService;
+    private final EnrollmentIndex enrollmentIndex;
     private final PendingPaymentRepository pendingPaymentRepository;
     private final PaymentRepository paymentRepository;
     private final AppFrontProperties frontProps;
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    private final KakaoPayClient kakaoPayClient;
+    private final TransactionTemplate transactionTemplate;
+    private final KakaoPayProperties clientProps;
+
+    /** 이 인스턴스에서 진행 중인 승인 (orderId → 결과) */
+    private final ConcurrentHashMap<String, CompletableFuture<String>> approvalsInFlight = new ConcurrentHashMap<>();
 
     private static final ZoneId KST = ZoneId.of("Asia/Seoul");
     private static final DateTimeFormatter ISO_LOCAL = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+    private static final long SETTLE_POLL_MILLIS = 100;
 
     @Value("${kakaopay.api.secret.key}")
     private String kakaoPaySecretKey;
@@ -71,13 +86,12 @@ public class KakaoPayService {
                         : "null");
     }
 
-    @Transactional
     public KakaoPayReadyResponseDto ready(Course course, String userEmail) {
         try {
             var user = userRepository.findByEmail(userEmail)
                     .orElseThrow(() -> new IllegalStateException("사용자 없음"));
 
-            if (userCourseRepository.existsByUserIdAndCourseId(user.getId(), course.getId())) {
+            if (enrollmentIndex.isEnrolled(user.getId(), course.getId())) {
                 throw new IllegalStateException("이미 결제(수강)한 코스입니다.");
             }
 
@@ -114,13 +128,7 @@ public class KakaoPayService {
                     .build(true)
                     .toUriString();
 
-            // 5) 헤더
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.setAccept(java.util.List.of(MediaType.APPLICATION_JSON));
-            headers.set("Authorization", "SECRET_KEY " + kakaoPaySecretKey);
-
-            // 6) 요청 바디
+            // 5) 요청 바디
             String itemName = Optional.ofNullable(course.getTitle()).orElse("Course");
             if (itemName.length() > 100) itemName = itemName.substring(0, 100);
 
@@ -138,17 +146,9 @@ public class KakaoPayService {
                     .failUrl(failUrlWithReason)
                     .build();
 
-            var entity = new HttpEntity<>(readyReq, headers);
-            var rawResponse = restTemplate.postForEntity(
-                    "https://open-api.kakaopay.com/online/v1/payment/ready",
-                    entity, String.class);
-
-            if (!rawResponse.getStatusCode().is2xxSuccessful() || rawResponse.getBody() == null) {
-                throw new IllegalStateException("카카오 ready 응답이 비정상입니다: " + rawResponse.getStatusCode());
-            }
-
-            var res = objectMapper.readValue(rawResponse.getBody(), KakaoPayReadyResponseDto.class);
-            if (res.getTid() == null) throw new IllegalStateException("카카오 ready 응답에 tid가 없습니다.");
+            // 6) PG 호출 (트랜잭션 밖)
+            var res = kakaoPayClient.ready(readyReq);
+            if (res == null || res.getTid() == null) throw new IllegalStateException("카카오 ready 응답에 tid가 없습니다.");
 
             pendingPaymentRepository.save(
                     PendingPayment.builder()
@@ -158,28 +158,66 @@ public class KakaoPayService {
                             .courseId(course.getId())
                             .amount(course.getPrice())
                             .status(PaymentStatus.READY)
+                            .statusChangedAt(LocalDateTime.now())
                             .build()
             );
 
             log.info("[KAKAO][READY] OK orderId={}, tid={}, redirect={}", orderId, res.getTid(), res.getNextRedirectPcUrl());
             return res;
 
+        } catch (PaymentGatewayException e) {
+            if (e.getKind() == PaymentGatewayException.Kind.BUSY) {
+                throw new CustomException(ErrorCode.PAYMENT_GATEWAY_BUSY);
+            }
+            log.error("[KAKAO][READY] PG 오류 kind={}, status={}", e.getKind(), e.getStatus(), e);
+            throw new RuntimeException("카카오페이 ready 요청 중 오류 발생", e);
         } catch (Exception e) {
             log.error("[KAKAO][READY] 에러", e);
             throw new RuntimeException("카카오페이 ready 요청 중 오류 발생", e);
         }
     }
 
-    @Transactional
+    /**
+     * 결제 승인 (멱등).
+     * - READY → APPROVING 조건부 UPDATE 에 성공한 요청 1건만 PG 승인 호출
+     * - 같은 인스턴스의 동시 요청은 진행 중인 승인 결과를 공유, 다른 인스턴스의 요청은 DB 상태가 확정될 때까지 대기
+     * - 승인 완료 후의 재요청은 저장된 응답을 그대로 반환
+     */
     public String approve(String orderId, String pgToken, String userEmail, Long userId) {
         PendingPayment pending = pendingPaymentRepository.findByOrderId(orderId)
                 .orElseThrow(() -> new IllegalStateException("주문정보가 없습니다. 다시 시도해 주세요."));
         if (!pending.getUserEmail().equals(userEmail)) {
             throw new IllegalStateException("주문 소유자가 아닙니다.");
         }
-        if (pending.getStatus() == PaymentStatus.APPROVED) {
-            log.info("[KakaoPay][APPROVE] already approved: orderId={}, tid={}", orderId, pending.getTid());
-            return "{\"message\":\"already approved\"}";
+
+        CompletableFuture<String> mine = new CompletableFuture<>();
+        CompletableFuture<String> running = approvalsInFlight.putIfAbsent(orderId, mine);
+        if (running != null) {
+            return join(running);
+        }
+        try {
+            String result = approveOnce(pending, pgToken, userEmail);
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            approvalsInFlight.remove(orderId, mine);
+        }
+    }
+
+    @PreDestroy
+    void failInFlightApprovals() {
+        approvalsInFlight.values().forEach(f -> f.cancel(false));
+    }
+
+    private String approveOnce(PendingPayment pending, String pgToken, String userEmail) {
+        String orderId = pending.getOrderId();
+
+        // --- 1) 상태 확인 + 검증 (조회만) ---
+        if (pending.getStatus() != PaymentStatus.READY) {
+            return awaitSettled(orderId);
         }
 
         // 승인 호출 직전, 다시 보유 여부 점검
@@ -188,16 +226,18 @@ public class KakaoPayService {
         var course = courseRepository.findById(pending.getCourseId())
                 .orElseThrow(() -> new IllegalStateException("코스 없음"));
 
-        if (userCourseRepository.existsByUserIdAndCourseId(user.getId(), course.getId())) {
+        if (enrollmentIndex.isEnrolled(user.getId(), course.getId())) {
             throw new IllegalStateException("이미 결제(수강)한 코스입니다.");
         }
 
-        // --- 카카오 승인 호출 ---
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setAccept(java.util.List.of(MediaType.APPLICATION_JSON));
-        headers.set("Authorization", "SECRET_KEY " + kakaoPaySecretKey);
+        // --- 2) READY → APPROVING 선점 (실패하면 다른 요청이 승인 중/완료) ---
+        Integer claimed = transactionTemplate.execute(s -> pendingPaymentRepository.transition(
+                orderId, PaymentStatus.READY, PaymentStatus.APPROVING, LocalDateTime.now()));
+        if (claimed == null || claimed == 0) {
+            return awaitSettled(orderId);
+        }
 
+        // --- 3) 카카오 승인 호출 (트랜잭션 밖) ---
         KakaoPayApproveRequestDto req = KakaoPayApproveRequestDto.builder()
                 .cid(cid)
                 .tid(pending.getTid())
@@ -208,32 +248,32 @@ public class KakaoPayService {
 
         KakaoPayApproveResponseDto body;
         try {
-            var resp = restTemplate.postForEntity(
-                    "https://open-api.kakaopay.com/online/v1/payment/approve",
-                    new HttpEntity<>(req, headers),
-                    KakaoPayApproveResponseDto.class
-            );
-
-            if (!resp.getStatusCode().is2xxSuccessful() || resp.getBody() == null) {
-                log.error("[KakaoPay][APPROVE][BAD-RESP] status={}, body={}", resp.getStatusCode(), resp.getBody());
-                throw new IllegalStateException("카카오 승인 응답이 비정상입니다: " + resp.getStatusCode());
+            body = kakaoPayClient.approve(req);
+        } catch (PaymentGatewayException e) {
+            switch (e.getKind()) {
+                case BUSY -> {
+                    // PG 를 호출하지 않았으므로 선점 해제 → 재시도 가능
+                    transactionTemplate.execute(s -> pendingPaymentRepository.transition(
+                            orderId, PaymentStatus.APPROVING, PaymentStatus.READY, LocalDateTime.now()));
+                    throw new CustomException(ErrorCode.PAYMENT_GATEWAY_BUSY);
+                }
+                case HTTP_ERROR -> {
+                    if (e.getStatus() != null && e.getStatus() / 100 == 4) {
+                        // PG 가 명확히 거절 → 종결
+                        log.error("[KakaoPay][APPROVE][REJECTED] orderId={}, status={}, body={}",
+                                orderId, e.getStatus(), e.getResponseBody());
+                        try { markPendingFailed(orderId); } catch (Exception ignore) {}
+                        throw new IllegalStateException("카카오 승인 실패: " + e.getStatus(), e);
+                    }
+                    throw approvalUnknown(orderId, pending.getTid(), e);
+                }
+                // TIMEOUT / IO_ERROR / PARSE_ERROR: 요청 전송 이후 실패라 PG 측 승인(결제) 여부를 알 수 없음
+                default -> throw approvalUnknown(orderId, pending.getTid(), e);
             }
-            body = resp.getBody();
-
-        } catch (HttpClientErrorException | HttpServerErrorException e) {
-            log.error("[KakaoPay][APPROVE][HTTP-ERR] orderId={}, status={}, body={}",
-                    orderId, e.getStatusCode(), e.getResponseBodyAsString());
-            try { markPendingFailed(orderId); } catch (Exception ignore) {}
-            throw new IllegalStateException("카카오 승인 실패: " + e.getStatusCode(), e);
-
-        } catch (Exception e) {
-            log.error("[KakaoPay][APPROVE][ERR] orderId={}, err={}", orderId, e.toString(), e);
-            try { markPendingFailed(orderId); } catch (Exception ignore) {}
-            throw e;
         }
 
-        // --- 응답 검증 & 저장 ---
-        if (body.getAmount() == null) {
+        // --- 4) 응답 검증 (PG 는 승인했으므로 불일치 시 APPROVING 유지 → 대사 대상) ---
+        if (body == null || body.getAmount() == null) {
             throw new IllegalStateException("승인 응답에 amount가 없습니다.");
         }
         int approvedAmount = body.getAmount().getTotal();
@@ -244,39 +284,126 @@ public class KakaoPayService {
         LocalDateTime approvedAt = parseKakaoTime(body.getApprovedAt());
         log.info("[KakaoPay][APPROVE] OK orderId={}, tid={}, approved_at={}", orderId, body.getTid(), body.getApprovedAt());
 
-        // 수강 등록(멱등)
-        if (!userCourseRepository.existsByUserIdAndCourseId(user.getId(), course.getId())) {
-            userCourseRepository.save(UserCourse.builder()
-                    .user(user)
-                    .course(course)
-                    .registeredAt(LocalDateTime.now())
-                    .build());
+        // --- 5) 결과 기록 (짧은 트랜잭션) ---
+        String result = "{\"message\":\"approved\",\"tid\":\"" + body.getTid() + "\"}";
+        recordApproval(pending, user.getId(), course.getId(), body.getTid(), approvedAmount, approvedAt, result);
+        return result;
+    }
+
+    /**
+     * 대사: PG 주문 조회로 승인이 확인된 APPROVING 주문을 기록 (승인 호출 후 커밋 전 장애 등).
+     * 금액이 다르면 기록하지 않고 false (수동 확인 대상).
+     */
+    public boolean recordReconciledApproval(PendingPayment pending, KakaoPayOrderResponseDto order) {
+        int approvedAmount = order.getAmount() != null ? order.getAmount().getTotal() : -1;
+        if (approvedAmount != pending.getAmount()) {
+            log.error("[KakaoPay][RECONCILE] 금액 불일치 orderId={}, approved={}, pending={}",
+                    pending.getOrderId(), approvedAmount, pending.getAmount());
+            return false;
         }
+        var user = userRepository.findByEmail(pending.getUserEmail())
+                .orElseThrow(() -> new IllegalStateException("사용자 없음"));
 
-        // 결제 저장(멱등)
-        if (!paymentRepository.existsByTid(pending.getTid())) {
-            Payment payment = Payment.builder()
-                    .orderId(orderId)
-                    .tid(pending.getTid())
-                    .pgTid(body.getTid())
-                    .user(user)
-                    .course(course)
-                    .amount(approvedAmount)
-                    .method(PaymentMethod.KAKAOPAY)
-                    .status(PaymentStatus.APPROVED)
-                    .paymentDate(approvedAt)
-                    .approvedAt(approvedAt)
-                    .build();
-            paymentRepository.save(payment);
+        String result = "{\"message\":\"approved\",\"tid\":\"" + order.getTid() + "\"}";
+        recordApproval(pending, user.getId(), pending.getCourseId(), order.getTid(),
+                approvedAmount, parseKakaoTime(order.getApprovedAt()), result);
+        log.info("[KakaoPay][RECONCILE] approved orderId={}, tid={}", pending.getOrderId(), order.getTid());
+        return true;
+    }
+
+    /** 수강 등록 + 결제 저장 + APPROVING → APPROVED (모두 멱등) */
+    private void recordApproval(PendingPayment pending, Long userId, Long courseId, String pgTid,
+                                int approvedAmount, LocalDateTime approvedAt, String result) {
+        String orderId = pending.getOrderId();
+        String tid = pending.getTid();
+        transactionTemplate.executeWithoutResult(s -> {
+            User userRef = userRepository.getReferenceById(userId);
+            Course courseRef = courseRepository.getReferenceById(courseId);
+
+            if (!userCourseRepository.existsByUserIdAndCourseId(userId, courseId)) {
+                userCourseRepository.save(UserCourse.builder()
+                        .user(userRef)
+                        .course(courseRef)
+                        .registeredAt(LocalDateTime.now())
+                        .build());
+                progressSummaryService.onEnrolled(userId, courseId);
+                enrollmentIndex.onEnrolled(userId, courseId);
+            }
+
+            if (!paymentRepository.existsByTid(tid)) {
+                paymentRepository.save(Payment.builder()
+                        .orderId(orderId)
+                        .tid(tid)
+                        .pgTid(pgTid)
+                        .user(userRef)
+                        .course(courseRef)
+                        .amount(approvedAmount)
+                        .method(PaymentMethod.KAKAOPAY)
+                        .status(PaymentStatus.APPROVED)
+                        .paymentDate(approvedAt)
+                        .approvedAt(approvedAt)
+                        .build());
+            }
+
+            pendingPaymentRepository.completeApproval(orderId, result, LocalDateTime.now());
+        });
+    }
+
+    /**
+     * 다른 요청이 선점한 주문: 확정될 때까지(approve-wait) DB 상태를 확인.
+     * APPROVED 면 저장된 응답, FAILED/CANCELLED 면 실패, 시간 안에 확정되지 않으면 PAYMENT_IN_PROGRESS.
+     */
+    private String awaitSettled(String orderId) {
+        long deadline = System.nanoTime() + clientProps.getApproveWait().toNanos();
+        while (true) {
+            PaymentStatus status = pendingPaymentRepository.findStatusByOrderId(orderId)
+                    .orElseThrow(() -> new IllegalStateException("주문정보가 없습니다. 다시 시도해 주세요."));
+            switch (status) {
+                case APPROVED -> {
+                    log.info("[KakaoPay][APPROVE] already approved: orderId={}", orderId);
+                    return pendingPaymentRepository.findApproveResultByOrderId(orderId)
+                            .orElse("{\"message\":\"already approved\"}");
+                }
+                case FAILED, CANCELLED -> throw new IllegalStateException("이미 종료된 주문입니다: " + status);
+                default -> { /* READY(선점 해제 직후) / APPROVING → 대기 */ }
+            }
+            if (status == PaymentStatus.READY || System.nanoTime() >= deadline) {
+                throw new CustomException(ErrorCode.PAYMENT_IN_PROGRESS);
+            }
+            try {
+                Thread.sleep(SETTLE_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CustomException(ErrorCode.PAYMENT_IN_PROGRESS);
+            }
         }
+    }
+
+    private static String join(CompletableFuture<String> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw e;
+        } catch (CancellationException e) {
+            throw new CustomException(ErrorCode.PAYMENT_IN_PROGRESS);
+        }
+    }
 
-        pending.setStatus(PaymentStatus.APPROVED);
-        return "{\"message\":\"approved\",\"tid\":\"" + body.getTid() + "\"}";
+    /** PG 승인 실패 확정 시 APPROVING → FAILED (짧은 단독 트랜잭션) */
+    /**
+     * 승인 결과 불명: APPROVING 유지 → 대사 작업이 PG 주문 조회로 승인/실패를 확정.
+     * (5xx/끊김/2xx 파싱 실패는 PG 가 이미 결제했을 수 있어 FAILED 로 닫지 않음)
+     */
+    private CustomException approvalUnknown(String orderId, String tid, PaymentGatewayException e) {
+        log.error("[KakaoPay][APPROVE][UNKNOWN] orderId={}, tid={}, kind={}, status={}, body={}",
+                orderId, tid, e.getKind(), e.getStatus(), e.getResponseBody(), e);
+        return new CustomException(ErrorCode.PAYMENT_IN_PROGRESS);
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void markPendingFailed(String orderId) {
-        pendingPaymentRepository.findByOrderId(orderId).ifPresent(p -> p.setStatus(PaymentStatus.FAILED));
+        transactionTemplate.execute(s -> pendingPaymentRepository.transition(
+                orderId, PaymentStatus.APPROVING, PaymentStatus.FAILED, LocalDateTime.now()));
     }
 
 
@@ -1,27 +1,56 @@
 package com.example.ei_backend.service;
 
+import com.example.ei_backend.aws.S3PresignedUploads;
+import com.example.ei_backend.aws.S3UploadProperties;
 import com.example.ei_backend.domain.dto.lecture.*;
 import com.example.ei_backend.domain.entity.Course;
 import com.example.ei_backend.domain.entity.Lecture;
 import com.example.ei_backend.domain.entity.VideoAsset;
+import com.example.ei_backend.domain.entity.VideoUploadSession;
+import com.example.ei_backend.exception.CustomException;
+import com.example.ei_backend.exception.ErrorCode;
 import com.example.ei_backend.exception.NotFoundException;
 import com.example.ei_backend.mapper.LectureMapper;
 import com.example.ei_backend.repository.CourseRepository;
 import com.example.ei_backend.repository.LectureRepository;
 import com.example.ei_backend.repository.VideoAssetRepository;
+import com.example.ei_backend.repository.VideoUploadSessionRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class LectureCommandService {
 
     private final CourseRepository courseRepository;
     private final LectureRepository lectureRepository;
     private final LectureMapper lectureMapper;
     private final VideoAssetRepository videoAssetRepository;
+    private final CourseProgressSummaryService progressSummaryService;
+    private final CurriculumReadModel curriculumReadModel;
+    private final LectureCourseLookup lectureCourseLookup;
+    private final VideoUploadSessionRepository uploadSessionRepository;
+    private final S3PresignedUploads presignedUploads;
+    private final S3UploadProperties uploadProps;
+    private final VideoDurationProbe durationProbe;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${app.cdn-base-url:}")          // 선택: 있으면 CDN URL 사용
     private String cdnBaseUrl;
@@ -44,6 +73,9 @@ public class LectureCommandService {
         );
 
         lectureRepository.save(l);
+        lectureCourseLookup.onLectureCreated(l.getId(), courseId);
+        progressSummaryService.onCurriculumChanged(courseId); // 코스 전체 강의 수 변경
+        curriculumReadModel.invalidateCourseAfterCommit(courseId);
         return lectureMapper.toDto(l);
     }
 
@@ -51,6 +83,7 @@ public class LectureCommandService {
     public LectureDto update(Long lectureId, LectureUpdateRequest request) {
         Lecture l = lectureRepository.findById(lectureId).orElseThrow(() -> new NotFoundException("lecture"));
         l.update(request.getTitle(), request.getDescription(), request.getOrderIndex(), request.getIsPublic());
+        curriculumReadModel.invalidateCourseAfterCommit(l.getCourse().getId());
         return lectureMapper.toDto(l);
     }
 
@@ -59,44 +92,181 @@ public class LectureCommandService {
         Lecture l = lectureRepository.findById(lectureId).orElseThrow(() -> new NotFoundException("lecture"));
         // S3 삭제는 나중에
         lectureRepository.delete(l);
+        lectureCourseLookup.onLectureDeleted(lectureId);
+        progressSummaryService.onCurriculumChanged(l.getCourse().getId());
+        curriculumReadModel.invalidateCourseAfterCommit(l.getCourse().getId());
     }
 
-    // presign/confirm을 쓰고 싶다면 여기 유지(지금은 최소 구현이므로 uploadUrl 빈 값)
-    @Transactional
+    /**
+     * 클라이언트 → S3 직접 업로드 URL 발급.
+     * 크기/Content-Type 은 서버에서 검사하고 서명에 포함하며, confirm 전까지는 PENDING 세션으로 추적.
+     * S3 호출은 트랜잭션 밖에서 하고, 멀티파트를 시작한 뒤 세션 저장이 실패하면 업로드를 abort 한다.
+     */
     public PresignResponse presign(Long lectureId, PresignRequest request) {
-        Lecture l = lectureRepository.findById(lectureId).orElseThrow(() -> new NotFoundException("lecture"));
-        String key = buildStorageKey(l, request.getFileName());
-        String uploadUrl = ""; // 나중에 presigned URL 붙이면 됨
-        return new PresignResponse(uploadUrl, key);
+        long size = request.getSizeBytes();
+        String contentType = normalizeContentType(request.getContentType());
+        if (size <= 0 || size > uploadProps.getMaxVideoSize().toBytes()) {
+            throw new CustomException(ErrorCode.INVALID_INPUT,
+                    "영상 크기가 허용 범위를 벗어났습니다. (최대 " + uploadProps.getMaxVideoSize().toMegabytes() + "MB)");
+        }
+        if (!uploadProps.getAllowedContentTypes().contains(contentType)) {
+            throw new CustomException(ErrorCode.INVALID_INPUT, "허용되지 않는 영상 형식입니다: " + contentType);
+        }
+
+        String key = transactionTemplate.execute(s -> {
+            Lecture l = lectureRepository.findById(lectureId).orElseThrow(() -> new NotFoundException("lecture"));
+            return buildStorageKey(l, request.getFileName());
+        });
+        Duration ttl = uploadProps.getPresignTtl();
+        LocalDateTime expiresAt = LocalDateTime.now().plus(ttl).plus(uploadProps.getConfirmGrace());
+
+        PresignResponse.PresignResponseBuilder res = PresignResponse.builder()
+                .storageKey(key)
+                .expiresAt(expiresAt);
+
+        if (size <= uploadProps.getMultipartThreshold().toBytes()) {
+            S3PresignedUploads.PresignedUpload put = presignedUploads.presignPut(key, contentType, size, ttl);
+            res.uploadUrl(put.url()).headers(put.headers());
+            uploadSessionRepository.save(
+                    VideoUploadSession.pending(lectureId, key, contentType, size, null, expiresAt));
+            return res.build();
+        }
+
+        long partSize = presignedUploads.partSizeFor(size);
+        String uploadId = presignedUploads.createMultipart(key, contentType);
+        try {
+            List<String> urls = presignedUploads.presignParts(key, uploadId, size, partSize, ttl);
+            List<PresignResponse.PartUrl> parts = new ArrayList<>(urls.size());
+            for (int i = 0; i < urls.size(); i++) {
+                parts.add(new PresignResponse.PartUrl(i + 1, urls.get(i)));
+            }
+            res.uploadId(uploadId).partSize(partSize).parts(parts);
+
+            uploadSessionRepository.save(
+                    VideoUploadSession.pending(lectureId, key, contentType, size, uploadId, expiresAt));
+        } catch (RuntimeException e) {
+            // 세션이 없으면 정리 작업도 모르는 업로드 → 바로 abort
+            abortQuietly(key, uploadId);
+            throw e;
+        }
+        return res.build();
     }
 
-    @Transactional
+    /**
+     * 직접 업로드 확정.
+     * 세션 확인(짧은 트랜잭션) → (멀티파트면 완료 처리) → S3 HEAD 로 객체 존재/크기/타입 확인 → 길이 판독
+     * → VideoAsset READY (짧은 트랜잭션). S3 호출 동안은 DB 커넥션을 잡지 않으며,
+     * 교체된 이전 영상 객체는 커밋 이후 삭제한다.
+     * 진행 중인 파이프라인 업로드는 무효화하고, 같은 영상 행을 동시에 바꾼 확정/완료가 있으면 CONFLICT (세션은 PENDING 유지 → 재시도 가능).
+     */
     public LectureDto confirm(Long lectureId, ConfirmVideoRequest req){
-        Lecture l = lectureRepository.findById(lectureId)
-                .orElseThrow(() -> new NotFoundException("lecture"));
-
-        VideoAsset asset = videoAssetRepository.findByLectureId(lectureId)
-                .orElseGet(() -> {
-                    VideoAsset v = VideoAsset.of(req.getStorageKey());
-                    l.attachVideo(v);
-                    return videoAssetRepository.save(v);
-                });
-
-        String url = resolvePublicUrl(req.getStorageKey());
-        asset.markReady(url, req.getDurationSec(), req.getSizeBytes());
-
-        // ✅ 반드시 동기화: 비디오에 설정된 길이를 Lecture에도 반영
-        if (asset.getDurationSec() > 0) {
-            // 편한 방법 1) 세터/메서드 추가
-            l.updateDurationFromVideo(asset.getDurationSec());
-            // 또는 편한 방법 2) 직접 필드 반영용 메서드 만들어 사용
-            // l.setDurationSec(asset.getDurationSec());
+        VideoUploadSession session = transactionTemplate.execute(s -> pendingSession(lectureId, req.getStorageKey()));
+        String key = session.getStorageKey();
+
+        if (session.isMultipart()) {
+            if (req.getParts() == null || req.getParts().isEmpty()) {
+                throw new CustomException(ErrorCode.INVALID_INPUT, "멀티파트 업로드는 parts(ETag 목록)가 필요합니다.");
+            }
+            List<CompletedPart> parts = req.getParts().stream()
+                    .sorted(Comparator.comparing(ConfirmVideoRequest.UploadedPart::getPartNumber))
+                    .map(p -> CompletedPart.builder().partNumber(p.getPartNumber()).eTag(p.getEtag()).build())
+                    .toList();
+            try {
+                presignedUploads.completeMultipart(key, session.getUploadId(), parts);
+            } catch (S3Exception e) {
+                // 이전 confirm 에서 완료까지 됐다가 실패한 경우엔 객체가 이미 있으므로 계속 진행
+                if (presignedUploads.head(key).isEmpty()) {
+                    throw new CustomException(ErrorCode.INVALID_INPUT, "멀티파트 업로드를 완료할 수 없습니다. (part/ETag 확인)");
+                }
+            }
         }
 
-        return lectureMapper.toDto(l);
+        HeadObjectResponse head = presignedUploads.head(key)
+                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_INPUT, "업로드된 영상이 없습니다."));
+        if (head.contentLength() != session.getExpectedSize()
+                || !session.getContentType().equals(normalizeContentType(head.contentType()))) {
+            throw new CustomException(ErrorCode.INVALID_INPUT, "업로드된 영상의 크기/형식이 요청과 다릅니다.");
+        }
+
+        // 길이: 서버 판독(mvhd, Range GET) 우선 → 클라이언트 값 → 0
+        int duration = durationProbe.probeObject(key, head.contentLength())
+                .orElse(req.getDurationSec() != null ? req.getDurationSec() : 0);
+        String url = resolvePublicUrl(key);
+
+        String[] replaced = new String[1];
+        LectureDto dto;
+        try {
+            dto = transactionTemplate.execute(s -> {
+                Lecture l = lectureRepository.findById(lectureId)
+                        .orElseThrow(() -> new NotFoundException("lecture"));
+                pendingSession(lectureId, key).markConfirmed(); // 그 사이 다른 confirm/정리가 끝났으면 CONFLICT
+
+                VideoAsset asset = videoAssetRepository.findByLectureId(lectureId)
+                        .orElseGet(() -> {
+                            VideoAsset v = VideoAsset.of(key);
+                            v.markReady(url, duration, head.contentLength()); // url NOT NULL → 저장 전에 채움
+                            l.attachVideo(v);
+                            return videoAssetRepository.save(v);
+                        });
+                String previous = asset.getStorageKey();
+                if (!key.equals(previous) && !asset.isUploading(previous)) { // 파이프라인이 올리는 중인 객체는 남김
+                    replaced[0] = previous;
+                }
+                asset.confirmUpload(key, url, duration, head.contentLength()); // 진행 중인 파이프라인 업로드 무효화
+
+                // ✅ 반드시 동기화: 비디오에 설정된 길이를 Lecture에도 반영
+                if (asset.getDurationSec() > 0) {
+                    l.updateDurationFromVideo(asset.getDurationSec());
+                    progressSummaryService.onCurriculumChanged(l.getCourse().getId()); // 코스 전체 길이 변경
+                }
+
+                curriculumReadModel.invalidateCourseAfterCommit(l.getCourse().getId()); // 영상 상태/URL 변경
+
+                return lectureMapper.toDto(l);
+            });
+        } catch (ObjectOptimisticLockingFailureException | DataIntegrityViolationException e) {
+            // 다른 확정/파이프라인 완료가 먼저 커밋(버전 충돌) 또는 같은 강의 영상 행 동시 생성
+            throw new CustomException(ErrorCode.CONFLICT, "같은 강의의 영상이 동시에 변경되었습니다. 다시 시도해 주세요.");
+        }
+
+        if (replaced[0] != null) {
+            deleteQuietly(replaced[0]); // 커밋 이후: 더 이상 참조하지 않는 이전 영상
+        }
+        return dto;
     }
 
+    /** 트랜잭션 안에서 호출: 이 강의의 PENDING(미만료) 세션 */
+    private VideoUploadSession pendingSession(Long lectureId, String storageKey) {
+        VideoUploadSession session = uploadSessionRepository.findByStorageKey(storageKey)
+                .filter(s -> s.getLectureId().equals(lectureId))
+                .orElseThrow(() -> new NotFoundException("upload session"));
+        if (session.getStatus() != VideoUploadSession.Status.PENDING || session.isExpired(LocalDateTime.now())) {
+            throw new CustomException(ErrorCode.CONFLICT, "만료되었거나 이미 처리된 업로드입니다.");
+        }
+        return session;
+    }
+
+    private void abortQuietly(String key, String uploadId) {
+        try {
+            presignedUploads.abortMultipart(key, uploadId);
+        } catch (RuntimeException e) {
+            log.warn("[video-presign] 멀티파트 abort 실패 key={} (버킷 lifecycle 로 정리)", key, e);
+        }
+    }
 
+    private void deleteQuietly(String key) {
+        try {
+            presignedUploads.delete(key);
+        } catch (RuntimeException e) {
+            log.warn("[video-confirm] 이전 영상 삭제 실패 key={}", key, e);
+        }
+    }
+
+    private static String normalizeContentType(String contentType) {
+        if (contentType == null) return "";
+        int semi = contentType.indexOf(';');
+        return (semi >= 0 ? contentType.substring(0, semi) : contentType).trim().toLowerCase(Locale.ROOT);
+    }
 
     private String buildStorageKey(Lecture lecture, String fileName) {
         Long courseId = lecture.getCourse().getId();
@@ -0,0 +1,139 @@
+package com.example.ei_backend.service;
+
+import com.example.ei_backend.repository.LectureRepository;
+import com.example.ei_backend.util.LongLongHashMap;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * lectureId → courseId 조회표 (권한 체크/출석/진행률 경로용, 엔티티 로딩 없음).
+ * - 기동 시 (id, course_id) 프로젝션으로 전체 적재, {@link LongLongHashMap} 에 박싱 없이 보관
+ * - 강의 생성/삭제 커밋 이후 반영 (복사본 수정 후 교체 → 읽기는 락 없이 volatile 참조 1회)
+ * - 표에 없으면 프로젝션 쿼리로 확인 후 추가 (다른 인스턴스에서 생성된 강의, 적재 전 요청)
+ * 강의의 소속 코스는 바뀌지 않으므로 만료는 두지 않는다.
+ */
+@Component
+@Slf4j
+public class LectureCourseLookup {
+
+    private static final long MISSING = -1L;
+    private static final int PRELOAD_ATTEMPTS = 3;
+
+    private final LectureRepository lectureRepository;
+    private volatile LongLongHashMap table = new LongLongHashMap(0);
+    /** 생성/삭제 반영 횟수 (this 로 동기화해 증가) */
+    private volatile long changes;
+
+    private final Counter hits;
+    private final Counter fallbacks;
+
+    public LectureCourseLookup(LectureRepository lectureRepository, MeterRegistry meterRegistry) {
+        this.lectureRepository = lectureRepository;
+        this.hits = Counter.builder("lecture.course.lookup").tag("result", "hit").register(meterRegistry);
+        this.fallbacks = Counter.builder("lecture.course.lookup").tag("result", "fallback").register(meterRegistry);
+        Gauge.builder("lecture.course.lookup.size", this, LectureCourseLookup::size).register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        for (int attempt = 0; attempt < PRELOAD_ATTEMPTS; attempt++) {
+            long version = changes;
+            List<LectureRepository.LectureCourseId> rows = lectureRepository.findAllCourseIds();
+            LongLongHashMap loaded = new LongLongHashMap(rows.size());
+            for (LectureRepository.LectureCourseId row : rows) {
+                loaded.put(row.getLectureId(), row.getCourseId());
+            }
+            synchronized (this) {
+                // 적재 중 생성/삭제가 반영됐으면 다시 적재 (조회 결과가 그 변경을 놓쳤을 수 있음)
+                if (changes == version) {
+                    table = loaded;
+                    log.info("[lecture-lookup] preloaded lectures={}", loaded.size());
+                    return;
+                }
+            }
+        }
+        log.warn("[lecture-lookup] 적재 중 변경이 계속되어 건너뜀, 조회 시 프로젝션 쿼리로 보충");
+    }
+
+    /** 소속 코스 id, 없는 강의면 null */
+    public Long courseIdOf(Long lectureId) {
+        if (lectureId == null || lectureId <= 0) return null;
+        long courseId = table.get(lectureId, MISSING);
+        if (courseId != MISSING) {
+            hits.increment();
+            return courseId;
+        }
+        fallbacks.increment();
+        long version = changes;
+        Long loaded = lectureRepository.findMetaById(lectureId)
+                .map(LectureRepository.LectureMeta::getCourseId)
+                .orElse(null);
+        if (loaded != null) {
+            synchronized (this) {
+                // 조회 중 삭제가 반영됐으면 추가하지 않음 (삭제된 강의가 표에 되살아나지 않도록)
+                if (changes == version) putNow(lectureId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /** 강의 생성 (트랜잭션 안이면 커밋 이후 반영) */
+    public void onLectureCreated(Long lectureId, Long courseId) {
+        afterCommit(() -> {
+            synchronized (this) {
+                changes++;
+                putNow(lectureId, courseId);
+            }
+        });
+    }
+
+    /** 강의 삭제 (트랜잭션 안이면 커밋 이후 반영) */
+    public void onLectureDeleted(Long lectureId) {
+        afterCommit(() -> {
+            synchronized (this) {
+                changes++;
+                removeNow(lectureId);
+            }
+        });
+    }
+
+    public int size() { return table.size(); }
+
+    /* ===================== 내부 ===================== */
+
+    private synchronized void putNow(long lectureId, long courseId) {
+        if (table.get(lectureId, MISSING) == courseId) return;
+        LongLongHashMap next = table.copy();
+        next.put(lectureId, courseId);
+        table = next;
+    }
+
+    private synchronized void removeNow(long lectureId) {
+        if (!table.containsKey(lectureId)) return;
+        LongLongHashMap next = table.copy();
+        next.remove(lectureId);
+        table = next;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+}
@@ -1,6 +1,5 @@
 package com.example.ei_backend.service;
 
-import com.example.ei_backend.aws.S3Uploader;
 // import com.example.ei_backend.aws.S3UrlKeyExtractor; // 유틸이 없으면 사용 안 함
 import com.example.ei_backend.domain.dto.lecture.LectureCreateRequest;
 import com.example.ei_backend.domain.dto.lecture.LectureDetailDto;
@@ -8,144 +7,189 @@ import com.example.ei_backend.domain.dto.lecture.LectureUpdateRequest;
 import com.example.ei_backend.domain.entity.Course;
 import com.example.ei_backend.domain.entity.Lecture;
 import com.example.ei_backend.domain.entity.VideoAsset;
+import com.example.ei_backend.exception.CustomException;
+import com.example.ei_backend.exception.ErrorCode;
 import com.example.ei_backend.exception.NotFoundException;
 import com.example.ei_backend.mapper.LectureMapper;
 import com.example.ei_backend.repository.CourseRepository;
 import com.example.ei_backend.repository.LectureRepository;
 import com.example.ei_backend.repository.VideoAssetRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class LectureCreateWithVideoService {
 
     private final CourseRepository courseRepository;
     private final LectureRepository lectureRepository;
     private final VideoAssetRepository videoAssetRepository;
     private final LectureMapper lectureMapper;
-    private final S3Uploader s3Uploader;
-
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucket;
-
-    @Value("${cloud.aws.region.static}")
-    private String region;
-
-    @Transactional
+    private final VideoUploadPipeline uploadPipeline;
+    private final TransactionTemplate transactionTemplate;
+    private final CourseProgressSummaryService progressSummaryService;
+    private final CurriculumReadModel curriculumReadModel;
+    private final LectureCourseLookup lectureCourseLookup;
+
+    /**
+     * 강의 생성 (+ 영상).
+     * 영상은 임시파일로 옮긴 뒤 강의/VideoAsset(UPLOADING) 만 짧은 트랜잭션으로 커밋하고,
+     * S3 전송은 {@link VideoUploadPipeline} 에서 비동기로 진행 (READY/FAILED 는 STOMP 로 통지).
+     */
     public LectureDetailDto create(Long courseId, LectureCreateRequest request, MultipartFile video) throws IOException {
-        Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> new NotFoundException("course"));
-
-        Lecture lecture = Lecture.create(
-                course, request.getTitle(), request.getDescription(),
-                request.getOrderIndex(), request.getIsPublic()
-        );
-        lectureRepository.save(lecture);
-
-        // 추가: 파일 없어도 durationSec이 오면 강의에 반영
-        if (request.getDurationSec() != null) {
-            lecture.updateDurationFromVideo(request.getDurationSec());
+        boolean hasVideo = video != null && !video.isEmpty();
+        if (hasVideo && !uploadPipeline.hasCapacity()) {
+            throw new CustomException(ErrorCode.VIDEO_UPLOAD_BUSY);
         }
 
-        if (video != null && !video.isEmpty()) {
-            String dir = String.format("courses/%d/lectures/%d", courseId, lecture.getId());
-            String url = s3Uploader.upload(video, dir);
-
-            String prefix = "https://" + bucket + ".s3." + region + ".amazonaws.com/";
-            String key = url.startsWith(prefix) ? url.substring(prefix.length()) : url;
-
-            int duration = (request.getDurationSec() == null) ? 0 : request.getDurationSec();
-            long size = (request.getSizeBytes() != null) ? request.getSizeBytes() : video.getSize();
-
-            VideoAsset asset = videoAssetRepository.findByLectureId(lecture.getId()).orElse(null);
-            if (asset == null) {
-                asset = VideoAsset.of(key);
-                asset.markReady(url, duration, size);
-                lecture.attachVideo(asset);                 // ⬅︎ 새 자산: attach로 동기화
-                videoAssetRepository.save(asset);
-            } else {
-                // 기존 자산 갱신
-                // (key 변경 메서드가 있다면 갱신)
-                asset.markReady(url, duration, size);
-                if (duration > 0) {
-                    lecture.updateDurationFromVideo(duration); // ⬅︎ ✅ 기존 자산: 동기화 보장
+        Path staged = hasVideo ? uploadPipeline.stage(video) : null;
+        VideoUploadPipeline.UploadJob[] job = new VideoUploadPipeline.UploadJob[1];
+        LectureDetailDto dto;
+        try {
+            dto = transactionTemplate.execute(status -> {
+                Course course = courseRepository.findById(courseId)
+                        .orElseThrow(() -> new NotFoundException("course"));
+
+                Lecture lecture = Lecture.create(
+                        course, request.getTitle(), request.getDescription(),
+                        request.getOrderIndex(), request.getIsPublic()
+                );
+                lectureRepository.save(lecture);
+                lectureCourseLookup.onLectureCreated(lecture.getId(), courseId);
+
+                // 추가: 파일 없어도 durationSec이 오면 강의에 반영
+                if (request.getDurationSec() != null) {
+                    lecture.updateDurationFromVideo(request.getDurationSec());
                 }
-            }
-        }
 
-        String videoUrl = (lecture.getVideo()!=null && lecture.getVideo().getStatus()==VideoAsset.Status.READY)
-                ? lecture.getVideo().getUrl() : null;
+                if (staged != null) {
+                    String key = storageKey(courseId, lecture.getId(), video.getOriginalFilename());
+                    VideoAsset asset = VideoAsset.of(key);
+                    asset.startUpload(key, uploadPipeline.urlOf(key), video.getSize());
+                    if (request.getDurationSec() != null) {
+                        asset.setDurationSec(request.getDurationSec());
+                    }
+                    lecture.attachVideo(asset);
+                    videoAssetRepository.save(asset);
+
+                    job[0] = new VideoUploadPipeline.UploadJob(lecture.getId(), courseId, staged, key,
+                            video.getContentType(), video.getSize(), request.getDurationSec());
+                }
 
-        return lectureMapper.toDetail(lecture, videoUrl, 0.0);
+                progressSummaryService.onCurriculumChanged(courseId); // 강의 수/전체 길이 변경
+                curriculumReadModel.invalidateCourseAfterCommit(courseId);
+
+                return lectureMapper.toDetail(lecture, readyUrl(lecture), 0.0);
+            });
+        } catch (RuntimeException e) {
+            uploadPipeline.discard(staged);
+            throw e;
+        }
+
+        if (job[0] != null) {
+            uploadPipeline.submit(job[0]); // 커밋 이후 등록
+        }
+        return dto;
     }
 
 
-    @Transactional
     public LectureDetailDto update(Long lectureId,
                                    LectureUpdateRequest req,
                                    MultipartFile video) {
+        boolean hasVideo = video != null && !video.isEmpty();
+        if (hasVideo && !uploadPipeline.hasCapacity()) {
+            throw new CustomException(ErrorCode.VIDEO_UPLOAD_BUSY);
+        }
 
-        Lecture lecture = lectureRepository.findById(lectureId)
-                .orElseThrow(() -> new NotFoundException("lecture"));
-
-        // 1) 텍스트 먼저 업데이트
-        lecture.update(req.getTitle(), req.getDescription(),
-                req.getOrderIndex(), req.getIsPublic());
-
-        VideoAsset asset = videoAssetRepository.findByLectureId(lectureId).orElse(null);
-
-        // 2) 새 영상이 온 경우에만 업로드 & 비디오 자원 갱신
-        if (video != null && !video.isEmpty()) {
-            String dir = String.format("courses/%d/lectures/%d",
-                    lecture.getCourse().getId(), lecture.getId());
-
-            String url;
-            try {
-                url = s3Uploader.upload(video, dir);
-            } catch (IOException e) {
-                throw new RuntimeException("S3 upload failed", e);
-            }
-
-            String prefix = "https://" + bucket + ".s3." + region + ".amazonaws.com/";
-            String key = url.startsWith(prefix) ? url.substring(prefix.length()) : url;
-
-            // duration: 요청값이 있으면 사용, 없으면 0 (또는 기존값)
-            int duration = (req.getDurationSec() != null)
-                    ? req.getDurationSec()
-                    : (asset != null ? asset.getDurationSec() : 0);
-
-            if (asset == null) {
-                asset = VideoAsset.of(key);
-                asset.markReady(url, duration, video.getSize());
-                lecture.attachVideo(asset);
-                videoAssetRepository.save(asset);
-            } else {
-                // 필요 시 storageKey 갱신 메서드가 있다면 호출
-                asset.markReady(url, duration, video.getSize());
-                lecture.updateDurationFromVideo(duration);
-            }
-        } else {
-        // 영상 파일이 없고, duration만 텍스트로 들어왔으면 갱신
-        if (req.getDurationSec() != null) {
-            if (asset != null) {
-                asset.setDurationSec(req.getDurationSec());
-                videoAssetRepository.save(asset);
-            }
-            lecture.updateDurationFromVideo(req.getDurationSec()); // ⬅️ null 아닐 때만 호출
+        Path staged;
+        try {
+            staged = hasVideo ? uploadPipeline.stage(video) : null;
+        } catch (IOException e) {
+            throw new RuntimeException("video staging failed", e);
         }
+
+        VideoUploadPipeline.UploadJob[] job = new VideoUploadPipeline.UploadJob[1];
+        LectureDetailDto dto;
+        try {
+            dto = transactionTemplate.execute(status -> {
+                Lecture lecture = lectureRepository.findById(lectureId)
+                        .orElseThrow(() -> new NotFoundException("lecture"));
+                Long courseId = lecture.getCourse().getId();
+
+                // 1) 텍스트 먼저 업데이트
+                lecture.update(req.getTitle(), req.getDescription(),
+                        req.getOrderIndex(), req.getIsPublic());
+
+                VideoAsset asset = videoAssetRepository.findByLectureId(lectureId).orElse(null);
+
+                // 2) 새 영상이 온 경우: 업로드 키만 기록하고 전송은 파이프라인에 맡김
+                //    (공개 중인 영상은 새 객체가 READY 로 확인될 때까지 그대로 노출)
+                if (staged != null) {
+                    String key = storageKey(courseId, lecture.getId(), video.getOriginalFilename());
+                    String url = uploadPipeline.urlOf(key);
+
+                    if (asset == null) {
+                        asset = VideoAsset.of(key);
+                        asset.startUpload(key, url, video.getSize());
+                        lecture.attachVideo(asset);
+                        videoAssetRepository.save(asset);
+                    } else {
+                        asset.startUpload(key, url, video.getSize());
+                    }
+
+                    // duration: 요청값이 있으면 사용, 없으면 기존값
+                    // 공개 중인 영상을 교체하는 경우엔 교체 시점(파이프라인 READY)에 반영
+                    if (req.getDurationSec() != null && asset.getStatus() != VideoAsset.Status.READY) {
+                        asset.setDurationSec(req.getDurationSec());
+                        lecture.updateDurationFromVideo(req.getDurationSec());
+                    }
+
+                    job[0] = new VideoUploadPipeline.UploadJob(lectureId, courseId, staged, key,
+                            video.getContentType(), video.getSize(), req.getDurationSec());
+                } else {
+                    // 영상 파일이 없고, duration만 텍스트로 들어왔으면 갱신
+                    if (req.getDurationSec() != null) {
+                        if (asset != null) {
+                            asset.setDurationSec(req.getDurationSec());
+                            videoAssetRepository.save(asset);
+                        }
+                        lecture.updateDurationFromVideo(req.getDurationSec()); // ⬅️ null 아닐 때만 호출
+                    }
+                }
+
+                if (staged != null || req.getDurationSec() != null) {
+                    progressSummaryService.onCurriculumChanged(courseId); // 강의 길이 변경 가능
+                }
+                curriculumReadModel.invalidateCourseAfterCommit(courseId);
+
+                return lectureMapper.toDetail(lecture, readyUrl(lecture), 0.0);
+            });
+        } catch (RuntimeException e) {
+            uploadPipeline.discard(staged);
+            throw e;
+        }
+
+        if (job[0] != null) {
+            uploadPipeline.submit(job[0]); // 커밋 이후 등록
+        }
+        return dto;
     }
 
-        String videoUrl = (lecture.getVideo() != null
-                && lecture.getVideo().getStatus() == VideoAsset.Status.READY)
-                ? lecture.getVideo().getUrl() : null;
+    private static String storageKey(Long courseId, Long lectureId, String originalFilename) {
+        return String.format("courses/%d/lectures/%d/%s_%s", courseId, lectureId, UUID.randomUUID(), originalFilename);
+    }
 
-        return lectureMapper.toDetail(lecture, videoUrl, 0.0);
+    private static String readyUrl(Lecture lecture) {
+        return (lecture.getVideo() != null && lecture.getVideo().getStatus() == VideoAsset.Status.READY)
+                ? lecture.getVideo().getUrl() : null;
     }
 
 }
@@ -2,6 +2,7 @@ package com.example.ei_backend.service;
 
 import com.example.ei_backend.domain.entity.LectureProgress;
 import com.example.ei_backend.domain.entity.User;
+import com.example.ei_backend.exception.NotFoundException;
 import com.example.ei_backend.repository.LectureProgressRepository;
 import com.example.ei_backend.repository.LectureRepository;
 import com.example.ei_backend.repository.UserRepository;
@@ -21,19 +22,31 @@ public class LectureProgressService {
     private final LectureRepository lectureRepository;
     private final LectureProgressRepository lectureProgressRepository;
     private final UserRepository userRepository; // ← 주입
+    private final CourseProgressSummaryService progressSummaryService;
 
     @Value("${app.progress.complete-threshold-ratio:0.9}")
     private double completeThresholdRatio;
 
     @Transactional
     public void updateProgress(Long userId, Long lectureId, int positionSec, boolean clientCompleted) {
-        var lecture = lectureRepository.getReferenceById(lectureId);
+        // 길이/코스 id 만 프로젝션으로 조회 (Lecture 프록시 초기화 = 전체 행 로딩 방지)
+        var meta = lectureRepository.findMetaById(lectureId)
+                .orElseThrow(() -> new NotFoundException("lecture"));
         var userRef = userRepository.getReferenceById(userId);
 
         var lp = lectureProgressRepository.findByUserIdAndLectureId(userId, lectureId)
-                .orElseGet(() -> LectureProgress.start(userRef, lecture));
+                .orElseGet(() -> LectureProgress.start(userRef, lectureRepository.getReferenceById(lectureId)));
 
-        lp.applyProgress(positionSec, lecture.getDurationSec(), completeThresholdRatio, clientCompleted);
+        int dur = meta.getDurationSec();
+        int beforeWatched = Math.min(lp.getWatchedSec(), dur);
+        boolean beforeCompleted = lp.isCompleted();
+
+        lp.applyProgress(positionSec, dur, completeThresholdRatio, clientCompleted);
         lectureProgressRepository.save(lp);
+
+        // 수강 진행 요약: 캡핑 시청 초 / 완료 여부가 바뀐 경우에만 재계산 (같은 트랜잭션, flush 후 집계)
+        if (Math.min(lp.getWatchedSec(), dur) != beforeWatched || lp.isCompleted() != beforeCompleted) {
+            progressSummaryService.onProgressChanged(userId, meta.getCourseId());
+        }
     }
 }
\ No newline at end of file
@@ -10,12 +10,13 @@ import com.example.ei_backend.repository.LectureProgressRepository;
 import com.example.ei_backend.repository.LectureRepository;
 import com.example.ei_backend.repository.UserCourseRepository;
 import lombok.RequiredArgsConstructor;
-import org.apache.catalina.security.SecurityUtil;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -26,15 +27,30 @@ public class LectureQueryService {
     private final LectureProgressRepository progressRepository;
     private final UserCourseRepository enrollRepository;
     private final LectureMapper lectureMapper;
+    private final ProgressWriteBehindBuffer progressBuffer;
+    private final CurriculumReadModel curriculumReadModel;
 
     @PreAuthorize("hasRole('ADMIN') or @enrollPerm.canAccessCourse(#userId, #courseId)")
     public List<LectureSummaryDto> listForUser(Long userId, Long courseId) {
-        var lectures = lectureRepository.findByCourseIdOrderByOrderIndexAsc(courseId);
+        // 강의 목록은 읽기 모델(캐시), 진도는 1회 조회 → 강의 수와 무관하게 최대 1 쿼리
+        var lectures = curriculumReadModel.course(courseId).lectures();
+        Map<Long, Integer> watchedByLecture = progressRepository.findViewsByUserAndCourse(userId, courseId).stream()
+                .collect(Collectors.toMap(LectureProgressRepository.ProgressView::getLectureId,
+                        LectureProgressRepository.ProgressView::getWatchedSec));
+
         return lectures.stream().map(l -> {
-            var lp = progressRepository.findByUserIdAndLectureId(userId, l.getId()).orElse(null);
-            double prog = (l.getDurationSec() == 0 || lp == null) ? 0.0 :
-                    Math.min(1.0, (double) lp.getWatchedSec() / l.getDurationSec());
-            return lectureMapper.toSummary(l, prog);
+            int watched = watchedSec(userId, l.id(), watchedByLecture.getOrDefault(l.id(), 0));
+            double prog = (l.durationSec() == 0) ? 0.0 :
+                    Math.min(1.0, (double) watched / l.durationSec());
+            return LectureSummaryDto.builder()
+                    .id(l.id())
+                    .title(l.title())
+                    .orderIndex(l.orderIndex())
+                    .isPublic(l.isPublic())
+                    .durationSec(l.durationSec())
+                    .progress(prog)
+                    .videoStatus(l.videoStatus())
+                    .build();
         }).toList();
     }
 
@@ -43,12 +59,19 @@ public class LectureQueryService {
         var l = lectureRepository.findById(lectureId)
                 .orElseThrow(() -> new NotFoundException("lecture"));
         var lp = progressRepository.findByUserIdAndLectureId(userId, lectureId).orElse(null);
-        double prog = (l.getDurationSec() == 0 || lp == null) ? 0.0 :
-                Math.min(1.0, (double) lp.getWatchedSec() / l.getDurationSec());
+        int watched = watchedSec(userId, lectureId, lp == null ? 0 : lp.getWatchedSec());
+        double prog = (l.getDurationSec() == 0) ? 0.0 :
+                Math.min(1.0, (double) watched / l.getDurationSec());
         String videoUrl = (l.getVideo() != null && l.getVideo().getStatus() == VideoAsset.Status.READY)
                 ? l.getVideo().getUrl() : null;
         return lectureMapper.toDetail(l, videoUrl, prog);
     }
 
+    /** DB 값과 아직 flush 되지 않은 버퍼 값 중 큰 값 */
+    private int watchedSec(Long userId, Long lectureId, int persisted) {
+        Integer buffered = progressBuffer.findWatchedSec(userId, lectureId);
+        return buffered == null ? persisted : Math.max(persisted, buffered);
+    }
+
 
 }
@@ -0,0 +1,264 @@
+package com.example.ei_backend.service;
+
+import com.example.ei_backend.domain.dto.KakaoPayOrderRequestDto;
+import com.example.ei_backend.domain.dto.KakaoPayOrderResponseDto;
+import com.example.ei_backend.domain.entity.PaymentStatus;
+import com.example.ei_backend.domain.entity.PendingPayment;
+import com.example.ei_backend.payment.KakaoPayClient;
+import com.example.ei_backend.payment.PaymentGatewayException;
+import com.example.ei_backend.repository.PendingPaymentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 결제 주문(pending_payment) 정리 작업. 주기마다:
+ * 1) 오래된 READY → EXPIRED (chunk 단위 UPDATE ... LIMIT)
+ * 2) 오래된 APPROVING → PG 주문 조회로 대사 (동시 조회 수 제한): 승인 확인 시 수강/결제 기록, 실패/취소 확인 시 종결
+ * 3) 종결 후 retention-days 가 지난 행 → pending_payment_archive 로 이동 (복사 + 삭제를 한 트랜잭션으로)
+ *
+ * 지표: payment.reaper.rows{action} (rows/sec 는 rate 로), payment.reconcile.lag (가장 오래된 APPROVING 체류 초)
+ * 여러 인스턴스가 동시에 돌아도 상태 전이는 조건부 UPDATE, 기록은 멱등이라 결과가 겹치지 않는다.
+ */
+@Component
+@Slf4j
+public class PendingPaymentReaper {
+
+    private static final List<String> TERMINAL = List.of(
+            PaymentStatus.APPROVED.name(), PaymentStatus.FAILED.name(),
+            PaymentStatus.CANCELLED.name(), PaymentStatus.EXPIRED.name());
+
+    private final PendingPaymentRepository pendingPaymentRepository;
+    private final KakaoPayService kakaoPayService;
+    private final KakaoPayClient kakaoPayClient;
+    private final TransactionTemplate tx;
+    private final String cid;
+
+    private final boolean enabled;
+    private final Duration readyExpiry;
+    private final Duration approvingGrace;
+    private final int reconcileBatchSize;
+    private final long retentionDays;
+    private final int chunkSize;
+    private final int maxRowsPerRun;
+
+    private final ExecutorService reconcilePool;
+
+    private final Counter expired;
+    private final Counter reconciledApproved;
+    private final Counter reconciledClosed;
+    private final Counter reconcileErrors;
+    private final Counter archived;
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    public PendingPaymentReaper(PendingPaymentRepository pendingPaymentRepository,
+                                KakaoPayService kakaoPayService,
+                                KakaoPayClient kakaoPayClient,
+                                TransactionTemplate transactionTemplate,
+                                MeterRegistry meterRegistry,
+                                @Value("${kakaopay.api.cid}") String cid,
+                                @Value("${app.payment.reaper.enabled:true}") boolean enabled,
+                                @Value("${app.payment.reaper.ready-expire-minutes:30}") long readyExpireMinutes,
+                                @Value("${app.payment.reaper.approving-grace-minutes:2}") long approvingGraceMinutes,
+                                @Value("${app.payment.reaper.reconcile-batch-size:100}") int reconcileBatchSize,
+                                @Value("${app.payment.reaper.reconcile-concurrency:4}") int reconcileConcurrency,
+                                @Value("${app.payment.reaper.retention-days:30}") long retentionDays,
+                                @Value("${app.payment.reaper.chunk-size:500}") int chunkSize,
+                                @Value("${app.payment.reaper.max-rows-per-run:20000}") int maxRowsPerRun) {
+        this.pendingPaymentRepository = pendingPaymentRepository;
+        this.kakaoPayService = kakaoPayService;
+        this.kakaoPayClient = kakaoPayClient;
+        this.tx = transactionTemplate;
+        this.cid = cid;
+        this.enabled = enabled;
+        this.readyExpiry = Duration.ofMinutes(Math.max(1, readyExpireMinutes));
+        this.approvingGrace = Duration.ofMinutes(Math.max(1, approvingGraceMinutes));
+        this.reconcileBatchSize = Math.max(1, reconcileBatchSize);
+        this.retentionDays = Math.max(1, retentionDays);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxRowsPerRun = Math.max(this.chunkSize, maxRowsPerRun);
+        this.reconcilePool = Executors.newFixedThreadPool(Math.max(1, reconcileConcurrency), r -> {
+            Thread t = new Thread(r, "payment-reconcile");
+            t.setDaemon(true);
+            return t;
+        });
+
+        this.expired = rows(meterRegistry, "expired");
+        this.reconciledApproved = rows(meterRegistry, "reconciled_approved");
+        this.reconciledClosed = rows(meterRegistry, "reconciled_closed");
+        this.reconcileErrors = rows(meterRegistry, "reconcile_error");
+        this.archived = rows(meterRegistry, "archived");
+        Gauge.builder("payment.reconcile.lag", lagSeconds, AtomicLong::get).baseUnit("seconds").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.payment.reaper.interval-ms:60000}",
+               initialDelayString = "${app.payment.reaper.interval-ms:60000}")
+    public void run() {
+        if (!enabled) return;
+        long started = System.nanoTime();
+        long rows = 0;
+        try {
+            rows += expireReady();
+            rows += reconcileApproving();
+            rows += archiveTerminal();
+        } catch (RuntimeException e) {
+            log.warn("[payment-reaper] 정리 중 오류, 다음 주기에 재시도", e);
+        } finally {
+            updateLag();
+        }
+
+        if (rows > 0) {
+            double seconds = Math.max(1e-3, (System.nanoTime() - started) / 1e9);
+            log.info("[payment-reaper] rows={}, {} rows/s, lag={}s", rows, Math.round(rows / seconds), lagSeconds.get());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        reconcilePool.shutdownNow();
+    }
+
+    /* ===================== 1) READY 만료 ===================== */
+
+    private int expireReady() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(readyExpiry);
+        int total = 0;
+        int n;
+        do {
+            Integer updated = tx.execute(s -> pendingPaymentRepository.expireReady(cutoff, LocalDateTime.now(), chunkSize));
+            n = updated != null ? updated : 0;
+            total += n;
+        } while (n == chunkSize && total < maxRowsPerRun);
+        expired.increment(total);
+        return total;
+    }
+
+    /* ===================== 2) APPROVING 대사 ===================== */
+
+    private int reconcileApproving() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(approvingGrace);
+        List<PendingPayment> stale = pendingPaymentRepository.findStale(
+                PaymentStatus.APPROVING, cutoff, PageRequest.of(0, reconcileBatchSize));
+        if (stale.isEmpty()) return 0;
+
+        List<Future<Boolean>> results = new ArrayList<>(stale.size());
+        for (PendingPayment p : stale) {
+            results.add(reconcilePool.submit(() -> reconcile(p)));
+        }
+        int done = 0;
+        for (Future<Boolean> f : results) {
+            try {
+                if (Boolean.TRUE.equals(f.get())) done++;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                reconcileErrors.increment();
+                log.warn("[payment-reaper] 대사 실패", e);
+            }
+        }
+        return done;
+    }
+
+    /** PG 주문 상태에 따라 확정. 반환: 종결 처리했는지 */
+    private boolean reconcile(PendingPayment pending) {
+        KakaoPayOrderResponseDto order;
+        try {
+            order = kakaoPayClient.order(KakaoPayOrderRequestDto.builder()
+                    .cid(cid)
+                    .tid(pending.getTid())
+                    .build());
+        } catch (PaymentGatewayException e) {
+            reconcileErrors.increment();
+            log.warn("[payment-reaper] PG 주문 조회 실패 orderId={}, kind={}, status={}",
+                    pending.getOrderId(), e.getKind(), e.getStatus());
+            return false;
+        }
+
+        String status = order.getStatus() == null ? "" : order.getStatus();
+        switch (status) {
+            case "SUCCESS_PAYMENT", "PART_CANCEL_PAYMENT" -> {
+                if (!kakaoPayService.recordReconciledApproval(pending, order)) {
+                    reconcileErrors.increment();
+                    return false;
+                }
+                reconciledApproved.increment();
+                return true;
+            }
+            case "CANCEL_PAYMENT" -> {
+                return close(pending, PaymentStatus.CANCELLED, status);
+            }
+            case "FAIL_AUTH_PASSWORD", "QUIT_PAYMENT", "FAIL_PAYMENT" -> {
+                return close(pending, PaymentStatus.FAILED, status);
+            }
+            default -> {
+                // 아직 결제 진행 중(READY/OPEN_PAYMENT 등) → 다음 주기에 다시 확인
+                log.debug("[payment-reaper] 진행 중 orderId={}, pgStatus={}", pending.getOrderId(), status);
+                return false;
+            }
+        }
+    }
+
+    private boolean close(PendingPayment pending, PaymentStatus to, String pgStatus) {
+        Integer n = tx.execute(s -> pendingPaymentRepository.transition(
+                pending.getOrderId(), PaymentStatus.APPROVING, to, LocalDateTime.now()));
+        boolean closed = n != null && n > 0;
+        if (closed) {
+            reconciledClosed.increment();
+            log.info("[payment-reaper] {} orderId={}, pgStatus={}", to, pending.getOrderId(), pgStatus);
+        }
+        return closed;
+    }
+
+    private void updateLag() {
+        lagSeconds.set(pendingPaymentRepository.findOldestStatusChangedAt(PaymentStatus.APPROVING)
+                .map(oldest -> Math.max(0, Duration.between(oldest, LocalDateTime.now()).toSeconds()))
+                .orElse(0L));
+    }
+
+    /* ===================== 3) 종결 주문 보관 ===================== */
+
+    private int archiveTerminal() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int total = 0;
+        int n;
+        do {
+            Integer moved = tx.execute(s -> {
+                List<Long> ids = pendingPaymentRepository.findArchivableIds(TERMINAL, cutoff, chunkSize);
+                if (ids.isEmpty()) return 0;
+                int copied = pendingPaymentRepository.copyToArchive(ids, LocalDateTime.now());
+                int deleted = pendingPaymentRepository.deleteByIds(ids);
+                if (copied != ids.size() || deleted != ids.size()) {
+                    // 다른 인스턴스와 겹침 → 되돌리고 다음 주기에 재시도
+                    throw new IllegalStateException("보관 대상 행 수 불일치 ids=%d, copied=%d, deleted=%d"
+                            .formatted(ids.size(), copied, deleted));
+                }
+                return ids.size();
+            });
+            n = moved != null ? moved : 0;
+            total += n;
+        } while (n == chunkSize && total < maxRowsPerRun);
+        archived.increment(total);
+        return total;
+    }
+
+    private static Counter rows(MeterRegistry registry, String action) {
+        return Counter.builder("payment.reaper.rows").tag("action", action).register(registry);
+    }
+}
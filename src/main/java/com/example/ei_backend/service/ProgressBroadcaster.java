@@ -0,0 +1,113 @@
+package com.example.ei_backend.service;
+
+import com.example.ei_backend.domain.dto.lecture.CourseProgressWithLectureDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 학습 진행률 실시간 전송 (사용자별 /user/queue/progress).
+ * - (사용자, 코스)마다 interval-ms 에 최대 1프레임, 항상 최신 상태만 전송
+ * - 구간 첫 갱신은 즉시 전송, 구간 안의 후속 갱신은 최신값만 남겨 구간이 끝나면 전송(trailing)
+ * - 코스 공용 토픽 팬아웃을 없애 수강생 수에 비례하던 프레임 수를 본인 세션으로 한정
+ */
+@Component
+@Slf4j
+public class ProgressBroadcaster {
+
+    public static final String DESTINATION = "/queue/progress";
+
+    private final SimpMessagingTemplate broker;
+    private final long intervalMs;
+    private final long idleMs;
+
+    private final ConcurrentHashMap<Key, Slot> slots = new ConcurrentHashMap<>();
+
+    private final Counter sent;
+    private final Counter coalesced;
+
+    public ProgressBroadcaster(SimpMessagingTemplate broker,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.progress.broadcast.interval-ms:1000}") long intervalMs) {
+        this.broker = broker;
+        this.intervalMs = Math.max(0, intervalMs);
+        this.idleMs = Math.max(10_000, this.intervalMs * 10);
+
+        this.sent = Counter.builder("progress.broadcast").tag("result", "sent").register(meterRegistry);
+        this.coalesced = Counter.builder("progress.broadcast").tag("result", "coalesced").register(meterRegistry);
+        Gauge.builder("progress.broadcast.slots", slots, ConcurrentHashMap::size).register(meterRegistry);
+    }
+
+    /** 진행률 갱신 통지 (구간 안이면 최신값으로 대체 후 나중에 전송) */
+    public void publish(String userEmail, CourseProgressWithLectureDto dto) {
+        if (userEmail == null) return;
+        long now = System.currentTimeMillis();
+        CourseProgressWithLectureDto[] sendNow = new CourseProgressWithLectureDto[1];
+
+        slots.compute(new Key(userEmail, dto.getCourseId()), (k, slot) -> {
+            if (slot == null) slot = new Slot();
+            if (slot.pending == null && now - slot.lastSentAt >= intervalMs) {
+                slot.lastSentAt = now;
+                sendNow[0] = dto;
+            } else {
+                if (slot.pending != null) coalesced.increment();
+                slot.pending = dto;
+            }
+            slot.touchedAt = now;
+            return slot;
+        });
+
+        if (sendNow[0] != null) send(userEmail, sendNow[0]);
+    }
+
+    /** 구간이 끝난 대기분 전송 + 오래 안 쓴 슬롯 정리 */
+    @Scheduled(fixedDelayString = "${app.progress.broadcast.tick-ms:200}")
+    public void flushDue() {
+        long now = System.currentTimeMillis();
+        List<Due> due = new ArrayList<>();
+
+        for (Key key : slots.keySet()) {
+            slots.computeIfPresent(key, (k, slot) -> {
+                if (slot.pending != null && now - slot.lastSentAt >= intervalMs) {
+                    due.add(new Due(k.userEmail(), slot.pending));
+                    slot.pending = null;
+                    slot.lastSentAt = now;
+                    return slot;
+                }
+                return (slot.pending == null && now - slot.touchedAt >= idleMs) ? null : slot;
+            });
+        }
+        for (Due d : due) send(d.userEmail(), d.dto());
+    }
+
+    /* ===================== 내부 ===================== */
+
+    private void send(String userEmail, CourseProgressWithLectureDto dto) {
+        try {
+            broker.convertAndSendToUser(userEmail, DESTINATION, dto);
+            sent.increment();
+        } catch (RuntimeException e) {
+            log.warn("[progress] 진행률 전송 실패 user={}, courseId={}", userEmail, dto.getCourseId(), e);
+        }
+    }
+
+    private record Key(String userEmail, Long courseId) {}
+
+    private record Due(String userEmail, CourseProgressWithLectureDto dto) {}
+
+    /** compute 안에서만 변경 (키 단위 원자성) */
+    private static final class Slot {
+        private long lastSentAt;
+        private long touchedAt;
+        private CourseProgressWithLectureDto pending;
+    }
+}
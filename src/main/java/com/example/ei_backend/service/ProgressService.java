@@ -1,7 +1,6 @@
 package com.example.ei_backend.service;
 
 import com.example.ei_backend.domain.dto.lecture.CourseProgressWithLectureDto;
-import com.example.ei_backend.domain.entity.Lecture;
 import com.example.ei_backend.domain.entity.LectureProgress;
 import com.example.ei_backend.exception.NotFoundException;
 import com.example.ei_backend.repository.LectureProgressRepository;
@@ -9,10 +8,8 @@ import com.example.ei_backend.repository.LectureRepository;
 import com.example.ei_backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -21,21 +18,50 @@ public class ProgressService {
     private final LectureRepository lectureRepository;
     private final LectureProgressRepository progressRepository;
     private final UserRepository userRepository;
-    private final SimpMessagingTemplate broker;
+    private final ProgressBroadcaster progressBroadcaster;
 
     private final LectureProgressService lectureProgressService;
     private final CourseProgressService courseProgressService;
 
+    private final ProgressWriteBehindBuffer progressBuffer;
+
     @Value("${app.progress.complete-threshold:90.0}")
     private double completeThreshold; // 필요시에만 사용
 
-    /** ADMIN이거나 수강권한 있는 사용자만 */
+    @Value("${app.progress.write-behind.enabled:false}")
+    private boolean writeBehindEnabled;
+
+    /**
+     * ADMIN이거나 수강권한 있는 사용자만.
+     * 실시간 통지는 본인에게만(/user/queue/progress), (사용자, 코스)별로 구간당 최신 1건으로 합쳐 전송
+     */
     @PreAuthorize("hasRole('ADMIN') or @enrollPerm.canAccessLecture(#p0, #p1)")
-    @Transactional
-    public CourseProgressWithLectureDto update(Long userId, Long lectureId, int watchedSec, boolean clientCompleted) {
-        Lecture lecture = lectureRepository.findById(lectureId)
+    public CourseProgressWithLectureDto update(Long userId, Long lectureId, int watchedSec, boolean clientCompleted,
+                                               String userEmail) {
+        var dto = writeBehindEnabled
+                ? updateBuffered(userId, lectureId, watchedSec, clientCompleted)
+                : updateDirect(userId, lectureId, watchedSec, clientCompleted);
+
+        progressBroadcaster.publish(userEmail, dto);
+        return dto;
+    }
+
+    /** 메모리 버퍼에 반영 후 버퍼 집계로 응답 (DB 기록은 주기 flush / 완료 시 즉시) */
+    private CourseProgressWithLectureDto updateBuffered(Long userId, Long lectureId, int watchedSec, boolean clientCompleted) {
+        var snap = progressBuffer.apply(userId, lectureId, watchedSec, clientCompleted);
+        var course = snap.course();
+        return new CourseProgressWithLectureDto(
+                snap.courseId(), course.ratio(), (int) course.completedLectures(), (int) course.totalLectures(),
+                lectureId, snap.lectureRatio(), snap.lectureCompleted()
+        );
+    }
+
+    /** 요청마다 DB 반영 + 집계 쿼리 (write-behind 비활성 시) */
+    private CourseProgressWithLectureDto updateDirect(Long userId, Long lectureId, int watchedSec, boolean clientCompleted) {
+        // 엔티티(@Lob 설명, VideoAsset) 대신 (courseId, durationSec) 프로젝션
+        var lecture = lectureRepository.findMetaById(lectureId)
                 .orElseThrow(() -> new NotFoundException("lecture"));
-        Long courseId = lecture.getCourse().getId();
+        Long courseId = lecture.getCourseId();
 
         lectureProgressService.updateProgress(userId, lectureId, watchedSec, clientCompleted);
 
@@ -43,18 +69,15 @@ public class ProgressService {
                 .orElseThrow(() -> new IllegalStateException(
                         "progress not saved: userId=%d, lectureId=%d".formatted(userId, lectureId)));
 
-        double coursePercent = courseProgressService.getCourseProgressPercent(userId, courseId); // 0~100
-        var cnt = courseProgressService.getProgressCount(userId, courseId);
+        var summary = courseProgressService.getSummary(userId, courseId); // percent 0~100
 
-        double courseRatio  = coursePercent / 100.0; // DTO가 비율(0.0~1.0)일 경우
+        double courseRatio  = summary.percent() / 100.0; // DTO가 비율(0.0~1.0)일 경우
         double lectureRatio = (lecture.getDurationSec() == 0) ? 0.0
                 : Math.min(1.0, (double) lp.getWatchedSec() / lecture.getDurationSec());
 
-        var dto = new CourseProgressWithLectureDto(
-                courseId, courseRatio, (int) cnt.completedLectures(), (int) cnt.totalLectures(),
+        return new CourseProgressWithLectureDto(
+                courseId, courseRatio, (int) summary.completedLectures(), (int) summary.totalLectures(),
                 lectureId, lectureRatio, lp.isCompleted()
         );
-        broker.convertAndSend("/topic/progress/course/" + courseId, dto);
-        return dto;
     }
 }
@@ -0,0 +1,547 @@
+package com.example.ei_backend.service;
+
+import com.example.ei_backend.exception.NotFoundException;
+import com.example.ei_backend.repository.LectureProgressRepository;
+import com.example.ei_backend.repository.LectureRepository;
+import com.example.ei_backend.repository.UserCourseRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 강의 진행도 write-behind 버퍼.
+ * - (user, lecture) 단위로 하트비트를 메모리에서 병합 (LectureProgress.applyProgress 와 동일한 단조 증가/완료 규칙)
+ * - (user, course) 단위 집계(캡핑 시청합/완료 수/전체 수/전체 길이)를 증분 갱신 → 요청마다 집계 쿼리 생략
+ * - 주기적으로, 그리고 완료 전환 시 즉시 JDBC 배치 upsert (GREATEST 로 역행 방지)
+ *   + 변경된 (사용자, 코스)의 UserCourse 진행 요약은 upsert 이후 lecture_progress 기준으로 재계산
+ *     (메모리 집계값을 그대로 쓰지 않음 → 다른 인스턴스/경로의 기록과 겹쳐도 요약이 틀어지지 않음)
+ * - DB 로딩/기록은 사용자 락 밖에서 수행: 로딩이 필요하면 사용자당 1개 스레드만 로딩하고 나머지는 대기
+ * - 종료 시 남은 dirty 항목 flush
+ *
+ * 강의 추가/삭제/길이 변경 시 {@link #invalidateCurriculumAfterCommit()} 로 집계를 다시 로딩한다.
+ * 인스턴스 로컬 상태이므로 다중 인스턴스에서는 사용자 단위 sticky 라우팅을 전제로 한다 (기본 비활성).
+ */
+@Component
+@Slf4j
+public class ProgressWriteBehindBuffer {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO lecture_progress (user_id, lecture_id, watched_sec, completed, last_played_at, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                watched_sec    = GREATEST(watched_sec, VALUES(watched_sec)),
+                completed      = GREATEST(completed, VALUES(completed)),
+                last_played_at = VALUES(last_played_at),
+                updated_at     = VALUES(updated_at)
+            """;
+
+    /** 수강 진행 요약(UserCourse) 재계산 - upsert 된 lecture_progress 기준 */
+    private static final String SUMMARY_SQL =
+            UserCourseRepository.REFRESH_SUMMARY_SET + " WHERE uc.user_id = ? AND uc.course_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LectureRepository lectureRepository;
+    private final LectureProgressRepository lectureProgressRepository;
+
+    private final double completeThresholdRatio;
+    private final int batchSize;
+    private final long idleMillis;
+
+    private final ConcurrentHashMap<Long, UserState> users = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, LectureMetaEntry> lectureMetas = new ConcurrentHashMap<>();
+    /** 커리큘럼(강의 구성/길이) 버전: 증가하면 캐시된 메타/집계를 재로딩 */
+    private final AtomicLong curriculumVersion = new AtomicLong();
+
+    private final AtomicInteger entryCount = new AtomicInteger();
+    private final AtomicInteger dirtyCount = new AtomicInteger();
+    private final Counter flushedRows;
+    private final Counter droppedRows;
+
+    public ProgressWriteBehindBuffer(JdbcTemplate jdbcTemplate,
+                                     LectureRepository lectureRepository,
+                                     LectureProgressRepository lectureProgressRepository,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${app.progress.complete-threshold-ratio:0.9}") double completeThresholdRatio,
+                                     @Value("${app.progress.write-behind.batch-size:500}") int batchSize,
+                                     @Value("${app.progress.write-behind.idle-seconds:600}") long idleSeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.lectureRepository = lectureRepository;
+        this.lectureProgressRepository = lectureProgressRepository;
+        this.completeThresholdRatio = completeThresholdRatio;
+        this.batchSize = Math.max(1, batchSize);
+        this.idleMillis = idleSeconds * 1000L;
+
+        Gauge.builder("progress.buffer.entries", entryCount, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder("progress.buffer.dirty", dirtyCount, AtomicInteger::get).register(meterRegistry);
+        this.flushedRows = Counter.builder("progress.buffer.flushed.rows").register(meterRegistry);
+        this.droppedRows = Counter.builder("progress.buffer.dropped.rows").register(meterRegistry);
+    }
+
+    /** 하트비트 반영 후 최신 강의/코스 진행 스냅샷 반환 */
+    public Snapshot apply(Long userId, Long lectureId, int positionSec, boolean clientCompleted) {
+        Snapshot snapshot;
+        boolean completedNow;
+
+        while (true) {
+            LectureMetaEntry meta = lectureMeta(lectureId); // DB 조회는 락 밖 (캐시)
+            UserState state = users.computeIfAbsent(userId, UserState::new);
+            Load load;
+            synchronized (state) {
+                awaitLoad(state);
+                if (state.removed) continue; // 유휴 정리와 경합 → 새 상태로 재시도
+
+                load = planLoad(state, lectureId, meta);
+                if (load == null) {
+                    CourseAggregate agg = state.courses.get(meta.courseId());
+                    LectureEntry e = state.lectures.get(lectureId);
+
+                    int oldContribution = e.contribution();
+                    boolean wasCompleted = e.completed;
+
+                    int dur = Math.max(1, e.durationSec);
+                    e.watchedSec = Math.max(e.watchedSec, Math.min(positionSec, dur)); // 뒤로감기 방지 + 캡핑
+                    if (clientCompleted || (double) e.watchedSec / dur >= completeThresholdRatio) {
+                        e.completed = true;
+                        e.watchedSec = dur; // 완료 시 정규화
+                    }
+                    e.lastPlayedAt = Instant.now();
+                    e.touchedAt = System.currentTimeMillis();
+                    agg.touchedAt = e.touchedAt;
+                    if (!e.dirty) {
+                        e.dirty = true;
+                        dirtyCount.incrementAndGet();
+                    }
+
+                    agg.watchedCapped += e.contribution() - oldContribution;
+                    completedNow = !wasCompleted && e.completed;
+                    if (completedNow) agg.completedLectures++;
+                    agg.summaryDirty = true;
+
+                    snapshot = new Snapshot(meta.courseId(), agg.view(),
+                            lectureId, e.ratio(), e.completed);
+                    break;
+                }
+                state.loading = true;
+            }
+            runLoad(state, load); // 락 밖에서 기록/로딩 후 설치 → 다음 바퀴에서 반영
+        }
+
+        // 완료 전환은 즉시 영속화
+        if (completedNow) flushUser(userId);
+        return snapshot;
+    }
+
+    /** 버퍼에 로딩된 코스 집계 (없으면 empty → 호출 측이 DB 집계 사용) */
+    public Optional<CourseView> findCourseProgress(Long userId, Long courseId) {
+        UserState state = users.get(userId);
+        if (state == null) return Optional.empty();
+        synchronized (state) {
+            CourseAggregate agg = state.courses.get(courseId);
+            if (agg == null || agg.version != curriculumVersion.get()) return Optional.empty();
+            return Optional.of(agg.view());
+        }
+    }
+
+    /** 버퍼에 있는 강의 시청 초 (없으면 null) */
+    public Integer findWatchedSec(Long userId, Long lectureId) {
+        UserState state = users.get(userId);
+        if (state == null) return null;
+        synchronized (state) {
+            LectureEntry e = state.lectures.get(lectureId);
+            return e != null ? e.watchedSec : null;
+        }
+    }
+
+    /** 강의 추가/삭제/길이 변경 커밋 이후 메타/집계 무효화 */
+    public void invalidateCurriculumAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidateCurriculum();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidateCurriculum();
+            }
+        });
+    }
+
+    private void invalidateCurriculum() {
+        curriculumVersion.incrementAndGet();
+        lectureMetas.clear();
+    }
+
+    @Scheduled(fixedDelayString = "${app.progress.write-behind.flush-interval-ms:5000}")
+    public void flushAll() {
+        List<Row> rows = new ArrayList<>();
+        List<SummaryRow> summaries = new ArrayList<>();
+        for (UserState state : users.values()) {
+            synchronized (state) {
+                collectDirty(state, null, rows, summaries);
+            }
+        }
+        write(rows, summaries);
+        evictIdle();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        log.info("[progress-buffer] shutdown flush: dirty={}", dirtyCount.get());
+        flushAll();
+    }
+
+    private void flushUser(Long userId) {
+        UserState state = users.get(userId);
+        if (state == null) return;
+        List<Row> rows = new ArrayList<>();
+        List<SummaryRow> summaries = new ArrayList<>();
+        synchronized (state) {
+            collectDirty(state, null, rows, summaries);
+        }
+        write(rows, summaries);
+    }
+
+    /* ===================== 로딩 ===================== */
+
+    private LectureMetaEntry lectureMeta(Long lectureId) {
+        long version = curriculumVersion.get();
+        LectureMetaEntry cached = lectureMetas.get(lectureId);
+        if (cached != null && cached.version() == version) return cached;
+
+        var meta = lectureRepository.findMetaById(lectureId)
+                .orElseThrow(() -> new NotFoundException("lecture"));
+        LectureMetaEntry loaded = new LectureMetaEntry(meta.getCourseId(), meta.getDurationSec(), version);
+        lectureMetas.put(lectureId, loaded);
+        return loaded;
+    }
+
+    /**
+     * state 락 안에서 호출: 반영에 필요한 코스 집계/강의 항목이 있으면 null,
+     * 없으면 락 밖에서 수행할 로딩 계획 (커리큘럼이 바뀐 코스는 dirty 항목을 먼저 기록할 대상으로 빼둠)
+     */
+    private Load planLoad(UserState state, Long lectureId, LectureMetaEntry meta) {
+        Long courseId = meta.courseId();
+        long version = curriculumVersion.get();
+        CourseAggregate agg = state.courses.get(courseId);
+        boolean aggregateStale = agg == null || agg.version != version;
+
+        LectureEntry e = state.lectures.get(lectureId);
+        if (!aggregateStale && e != null) {
+            if (e.durationSec != meta.durationSec()) {
+                // 길이만 바뀐 경우: 메모리 값 유지 (집계는 커리큘럼 변경 시 이미 재로딩됨)
+                LectureEntry resized = new LectureEntry(courseId, meta.durationSec());
+                resized.watchedSec = e.watchedSec;
+                resized.completed = e.completed;
+                resized.dirty = e.dirty;
+                resized.lastPlayedAt = e.lastPlayedAt;
+                state.lectures.put(lectureId, resized);
+            }
+            return null;
+        }
+
+        Load load = new Load(courseId, lectureId, meta.durationSec(), version);
+        if (aggregateStale) {
+            // 커리큘럼 변경(또는 이전 기록 실패로 남은 항목) → 해당 코스 dirty 항목을 먼저 기록한 뒤 DB 기준으로 재로딩
+            // (요약은 커리큘럼 변경 시 코스 단위로 이미 재계산됨)
+            collectDirty(state, courseId, load.staleRows, new ArrayList<>());
+            load.staleRows.forEach(r -> load.staleEntries.put(r.lectureId(), state.lectures.get(r.lectureId())));
+            int before = state.lectures.size();
+            state.lectures.values().removeIf(en -> en.courseId.equals(courseId));
+            entryCount.addAndGet(state.lectures.size() - before);
+            state.courses.remove(courseId);
+        }
+        load.aggregate = aggregateStale;
+        load.entry = !state.lectures.containsKey(lectureId);
+        return load;
+    }
+
+    /**
+     * 락 밖에서 호출 (state.loading = true 인 스레드만): 기록 → 로딩 → 락 안에서 설치.
+     * stale 항목 기록이 실패하면 로딩하지 않고 항목을 dirty 로 되돌린 뒤 예외
+     * (기록 전에 DB 기준으로 재로딩하면 버퍼 값이 집계에서 빠짐)
+     */
+    private void runLoad(UserState state, Load load) {
+        CourseAggregate loadedAggregate = null;
+        LectureEntry loadedEntry = null;
+        List<Row> unwritten = load.staleRows; // 기록이 확인되기 전까지는 전부 미기록
+        try {
+            unwritten = writeProgress(load.staleRows);
+            if (!unwritten.isEmpty()) {
+                throw new IllegalStateException("진행도 기록 실패로 로딩 중단: userId=" + state.userId
+                        + ", rows=" + unwritten.size());
+            }
+            if (load.aggregate) {
+                loadedAggregate = new CourseAggregate(load.version);
+                loadedAggregate.totalDuration = lectureRepository.sumDurationByCourseId(load.courseId);
+                loadedAggregate.totalLectures = lectureRepository.countByCourseId(load.courseId);
+                loadedAggregate.watchedCapped = lectureProgressRepository.sumWatchedCappedByUserAndCourse(state.userId, load.courseId);
+                loadedAggregate.completedLectures = lectureProgressRepository.countCompletedLectures(state.userId, load.courseId);
+            }
+            if (load.entry) {
+                LectureEntry entry = new LectureEntry(load.courseId, load.durationSec);
+                lectureProgressRepository.findByUserIdAndLectureId(state.userId, load.lectureId).ifPresent(lp -> {
+                    entry.watchedSec = lp.getWatchedSec();
+                    entry.completed = lp.isCompleted();
+                });
+                loadedEntry = entry;
+            }
+        } finally {
+            synchronized (state) {
+                restoreUnwritten(state, load, unwritten);
+                // 로딩 중 커리큘럼이 다시 바뀌었으면 집계는 버림 → 다음 바퀴에서 재로딩
+                if (loadedAggregate != null && curriculumVersion.get() == load.version) {
+                    state.courses.put(load.courseId, loadedAggregate);
+                }
+                if (loadedEntry != null && !state.lectures.containsKey(load.lectureId)) {
+                    state.lectures.put(load.lectureId, loadedEntry);
+                    entryCount.incrementAndGet();
+                }
+                state.loading = false;
+                state.notifyAll();
+            }
+        }
+    }
+
+    /** state 락 안에서 호출: 기록하지 못한 stale 항목을 dirty 로 되돌림 → 다음 로딩/flush 에서 재기록 */
+    private void restoreUnwritten(UserState state, Load load, List<Row> unwritten) {
+        for (Row row : unwritten) {
+            LectureEntry e = load.staleEntries.get(row.lectureId());
+            if (state.lectures.putIfAbsent(row.lectureId(), e) != null) continue;
+            entryCount.incrementAndGet();
+            e.dirty = true;
+            dirtyCount.incrementAndGet();
+        }
+    }
+
+    /** state 락 안에서 호출: 다른 스레드의 로딩이 끝날 때까지 대기 (대기 중에는 락을 놓음) */
+    private static void awaitLoad(UserState state) {
+        while (state.loading) {
+            try {
+                state.wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("진행도 로딩 대기 중 인터럽트", e);
+            }
+        }
+    }
+
+    /* ===================== flush ===================== */
+
+    /** state 락 안에서 호출. courseId 가 null 이면 전체 */
+    private void collectDirty(UserState state, Long courseId, List<Row> out, List<SummaryRow> summaryOut) {
+        for (Map.Entry<Long, LectureEntry> en : state.lectures.entrySet()) {
+            LectureEntry e = en.getValue();
+            if (!e.dirty || (courseId != null && !e.courseId.equals(courseId))) continue;
+            e.dirty = false;
+            dirtyCount.decrementAndGet();
+            out.add(new Row(state.userId, en.getKey(), e.watchedSec, e.completed, e.lastPlayedAt));
+        }
+
+        for (Map.Entry<Long, CourseAggregate> en : state.courses.entrySet()) {
+            CourseAggregate agg = en.getValue();
+            if (!agg.summaryDirty || (courseId != null && !en.getKey().equals(courseId))) continue;
+            agg.summaryDirty = false;
+            summaryOut.add(new SummaryRow(state.userId, en.getKey()));
+        }
+    }
+
+    private void write(List<Row> rows, List<SummaryRow> summaries) {
+        writeProgress(rows).forEach(this::requeue);
+        if (summaries.isEmpty()) return;
+        try {
+            jdbcTemplate.batchUpdate(SUMMARY_SQL, summaries.stream()
+                    .map(r -> new Object[]{r.userId(), r.courseId()})
+                    .toList());
+        } catch (DataAccessException ex) {
+            // 요약은 다음 변경 flush 또는 재계산 시 다시 맞춰짐
+            log.warn("[progress-buffer] summary update 실패: size={}, cause={}", summaries.size(), ex.getMessage());
+        }
+    }
+
+    /** 기록하지 못해 다시 시도해야 하는 행 반환 (더 이상 기록할 수 없는 행은 버림) */
+    private List<Row> writeProgress(List<Row> rows) {
+        List<Row> failed = new ArrayList<>();
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            List<Row> chunk = rows.subList(from, Math.min(rows.size(), from + batchSize));
+            try {
+                jdbcTemplate.batchUpdate(UPSERT_SQL, chunk.stream().map(this::toArgs).toList());
+                flushedRows.increment(chunk.size());
+            } catch (DataAccessException ex) {
+                log.warn("[progress-buffer] batch upsert 실패 → 개별 재시도: size={}, cause={}", chunk.size(), ex.getMessage());
+                for (Row row : chunk) {
+                    if (!writeOne(row)) failed.add(row);
+                }
+            }
+        }
+        return failed;
+    }
+
+    /** 재시도가 필요하면 false */
+    private boolean writeOne(Row row) {
+        try {
+            jdbcTemplate.update(UPSERT_SQL, toArgs(row));
+            flushedRows.increment();
+        } catch (DataIntegrityViolationException ex) {
+            // 강의/사용자 삭제 등으로 더 이상 기록할 수 없는 행
+            droppedRows.increment();
+            log.warn("[progress-buffer] drop row userId={}, lectureId={}: {}", row.userId(), row.lectureId(), ex.getMessage());
+        } catch (DataAccessException ex) {
+            log.error("[progress-buffer] upsert 실패 → 다음 flush 에 재시도: userId={}, lectureId={}", row.userId(), row.lectureId(), ex);
+            return false;
+        }
+        return true;
+    }
+
+    private void requeue(Row row) {
+        UserState state = users.get(row.userId());
+        if (state == null) return;
+        synchronized (state) {
+            LectureEntry e = state.lectures.get(row.lectureId());
+            if (e != null && !e.dirty) {
+                e.dirty = true;
+                dirtyCount.incrementAndGet();
+            }
+        }
+    }
+
+    private Object[] toArgs(Row row) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Timestamp lastPlayed = row.lastPlayedAt() != null ? Timestamp.from(row.lastPlayedAt()) : now;
+        return new Object[]{row.userId(), row.lectureId(), row.watchedSec(), row.completed(), lastPlayed, now, now};
+    }
+
+    /** 일정 시간 사용되지 않은 clean 코스 집계/항목 정리 */
+    private void evictIdle() {
+        long cutoff = System.currentTimeMillis() - idleMillis;
+        for (UserState state : users.values()) {
+            synchronized (state) {
+                if (state.loading) continue; // 로딩 중인 사용자는 다음 주기에
+                state.courses.entrySet().removeIf(en -> {
+                    Long courseId = en.getKey();
+                    if (en.getValue().touchedAt > cutoff) return false;
+                    boolean anyDirty = state.lectures.values().stream()
+                            .anyMatch(e -> e.courseId.equals(courseId) && e.dirty);
+                    if (anyDirty) return false;
+                    int before = state.lectures.size();
+                    state.lectures.values().removeIf(e -> e.courseId.equals(courseId));
+                    entryCount.addAndGet(state.lectures.size() - before);
+                    return true;
+                });
+                if (state.courses.isEmpty() && state.lectures.values().stream().noneMatch(e -> e.dirty)) {
+                    entryCount.addAndGet(-state.lectures.size());
+                    state.lectures.clear();
+                    state.removed = true;
+                    users.remove(state.userId, state);
+                }
+            }
+        }
+    }
+
+    /* ===================== 상태 ===================== */
+
+    /** 코스 진행 집계 스냅샷 */
+    public record CourseView(long watchedCappedSec, long totalDurationSec, long completedLectures, long totalLectures) {
+        public double ratio() {
+            return totalDurationSec <= 0 ? 0.0 : (double) watchedCappedSec / totalDurationSec;
+        }
+    }
+
+    public record Snapshot(Long courseId, CourseView course, Long lectureId, double lectureRatio, boolean lectureCompleted) {}
+
+    private record LectureMetaEntry(Long courseId, int durationSec, long version) {}
+
+    private record Row(Long userId, Long lectureId, int watchedSec, boolean completed, Instant lastPlayedAt) {}
+
+    private record SummaryRow(Long userId, Long courseId) {}
+
+    /** 락 밖에서 수행할 로딩 계획 */
+    private static final class Load {
+        final Long courseId;
+        final Long lectureId;
+        final int durationSec;
+        final long version;
+        final List<Row> staleRows = new ArrayList<>();
+        /** staleRows 의 원래 항목 (기록 실패 시 되돌릴 대상) */
+        final Map<Long, LectureEntry> staleEntries = new HashMap<>();
+        boolean aggregate;
+        boolean entry;
+
+        Load(Long courseId, Long lectureId, int durationSec, long version) {
+            this.courseId = courseId;
+            this.lectureId = lectureId;
+            this.durationSec = durationSec;
+            this.version = version;
+        }
+    }
+
+    private static final class UserState {
+        final Long userId;
+        final Map<Long, LectureEntry> lectures = new HashMap<>();
+        final Map<Long, CourseAggregate> courses = new HashMap<>();
+        boolean removed;
+        /** 한 스레드가 락 밖에서 DB 로딩 중 (나머지는 wait) */
+        boolean loading;
+
+        UserState(Long userId) { this.userId = userId; }
+    }
+
+    private static final class LectureEntry {
+        final Long courseId;
+        final int durationSec;
+        int watchedSec;
+        boolean completed;
+        Instant lastPlayedAt;
+        boolean dirty;
+        long touchedAt;
+
+        LectureEntry(Long courseId, int durationSec) {
+            this.courseId = courseId;
+            this.durationSec = durationSec;
+        }
+
+        /** 코스 집계 기여분 (sumWatchedCappedByUserAndCourse 와 동일한 캡핑) */
+        int contribution() { return Math.min(watchedSec, durationSec); }
+
+        double ratio() {
+            return durationSec == 0 ? 0.0 : Math.min(1.0, (double) watchedSec / durationSec);
+        }
+    }
+
+    private static final class CourseAggregate {
+        final long version;
+        long totalDuration;
+        long totalLectures;
+        long watchedCapped;
+        long completedLectures;
+        boolean summaryDirty;
+        long touchedAt = System.currentTimeMillis();
+
+        CourseAggregate(long version) { this.version = version; }
+
+        CourseView view() {
+            return new CourseView(watchedCapped, totalDuration, completedLectures, totalLectures);
+        }
+    }
+}
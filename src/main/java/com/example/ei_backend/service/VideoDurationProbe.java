@@ -0,0 +1,71 @@
+package com.example.ei_backend.service;
+
+import com.example.ei_backend.aws.S3RangeReader;
+import com.example.ei_backend.util.Mp4DurationReader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.OptionalInt;
+
+/**
+ * 영상 길이 서버측 판독 (MP4/MOV mvhd).
+ * 파일 전체를 읽지 않고 박스 헤더 + mvhd 만 구간 읽기 → probe 당 읽은 바이트를 video.probe.bytes 로 기록.
+ * 판독 실패/미지원 형식이면 empty (호출 측에서 클라이언트 값으로 대체).
+ */
+@Component
+@Slf4j
+public class VideoDurationProbe {
+
+    private final S3RangeReader s3RangeReader;
+    private final int s3BlockSize;
+
+    private final DistributionSummary bytesRead;
+    private final Counter found;
+    private final Counter missing;
+
+    public VideoDurationProbe(S3RangeReader s3RangeReader,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.video-probe.s3-block-size:65536}") int s3BlockSize) {
+        this.s3RangeReader = s3RangeReader;
+        this.s3BlockSize = s3BlockSize;
+        this.bytesRead = DistributionSummary.builder("video.probe.bytes").baseUnit("bytes").register(meterRegistry);
+        this.found = Counter.builder("video.probe").tag("result", "found").register(meterRegistry);
+        this.missing = Counter.builder("video.probe").tag("result", "missing").register(meterRegistry);
+    }
+
+    /** 로컬 파일 */
+    public OptionalInt probe(Path file) {
+        try {
+            return record(file.toString(), Mp4DurationReader.read(file));
+        } catch (Exception e) {
+            log.warn("[video-probe] 판독 실패 file={}", file, e);
+            missing.increment();
+            return OptionalInt.empty();
+        }
+    }
+
+    /** S3 객체 (Range GET, 크기는 HEAD 결과 등으로 전달) */
+    public OptionalInt probeObject(String key, long size) {
+        try {
+            return record(key, Mp4DurationReader.read(s3RangeReader.source(key, size), s3BlockSize));
+        } catch (Exception e) {
+            log.warn("[video-probe] 판독 실패 key={}", key, e);
+            missing.increment();
+            return OptionalInt.empty();
+        }
+    }
+
+    private OptionalInt record(String target, Mp4DurationReader.Result result) {
+        bytesRead.record(result.bytesRead());
+        (result.durationSec().isPresent() ? found : missing).increment();
+        log.info("[video-probe] {} duration={}s, bytesRead={}, reads={}", target,
+                result.durationSec().isPresent() ? result.durationSec().getAsInt() : "?",
+                result.bytesRead(), result.reads());
+        return result.durationSec();
+    }
+}
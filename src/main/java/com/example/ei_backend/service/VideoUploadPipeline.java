@@ -0,0 +1,340 @@
+package com.example.ei_backend.service;
+
+import com.example.ei_backend.aws.S3MultipartUploader;
+import com.example.ei_backend.aws.S3PresignedUploads;
+import com.example.ei_backend.aws.UploadProgressListener;
+import com.example.ei_backend.domain.dto.lecture.VideoUploadStatusDto;
+import com.example.ei_backend.domain.entity.VideoAsset;
+import com.example.ei_backend.repository.VideoAssetRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 강의 영상 백그라운드 업로드 파이프라인.
+ * - 요청 스레드: 업로드 파일을 임시파일로 옮기고(stage) 짧은 트랜잭션으로 VideoAsset(UPLOADING) 커밋 후 submit
+ * - 작업 스레드(상한 있는 풀 + 큐): S3 멀티파트 전송 → PROCESSING(길이 판독) → READY | FAILED
+ * - 상태 전이마다 짧은 트랜잭션만 사용 (전송 중에는 DB 커넥션을 잡지 않음)
+ * - 진행/상태는 STOMP /topic/video/lecture/{lectureId} 로 전송
+ * - 이미 READY 인 영상을 교체할 때는 새 객체가 READY 로 확인된 뒤에만 키/URL 을 바꾸고, 이전 객체는 커밋 이후 삭제
+ *
+ * 작업은 VideoAsset.uploadKey 로 식별: 같은 강의에 새 업로드가 시작되면 uploadKey 가 바뀌므로
+ * 이전 작업의 결과는 반영하지 않고 객체만 정리한다.
+ * 진행 중인 작업은 heartbeat-ms 마다 생존 신호를 남기고, stale-after-minutes 동안 신호가 없는 업로드만
+ * (어느 노드에서든) FAILED 로 정리한다 → 다른 노드가 진행 중인 업로드는 건드리지 않음.
+ */
+@Component
+@Slf4j
+public class VideoUploadPipeline {
+
+    private static final EnumSet<VideoAsset.Status> IN_FLIGHT =
+            EnumSet.of(VideoAsset.Status.UPLOADING, VideoAsset.Status.PROCESSING);
+
+    private final S3MultipartUploader uploader;
+    private final S3PresignedUploads s3Objects;
+    private final VideoAssetRepository videoAssetRepository;
+    private final CourseProgressSummaryService progressSummaryService;
+    private final CurriculumReadModel curriculumReadModel;
+    private final SimpMessagingTemplate broker;
+    private final VideoDurationProbe durationProbe;
+    private final TransactionTemplate tx;
+
+    private final ThreadPoolExecutor executor;
+    private final Path tempDir;
+    private final long staleAfterMinutes;
+    /** 이 노드가 맡은(대기 + 진행 중) 업로드 키 */
+    private final Set<String> inFlightKeys = ConcurrentHashMap.newKeySet();
+
+    private final Counter uploadedBytes;
+    private final Counter rejectedJobs;
+    private final Timer readyTimer;
+    private final Timer failedTimer;
+
+    public VideoUploadPipeline(S3MultipartUploader uploader,
+                               S3PresignedUploads s3Objects,
+                               VideoAssetRepository videoAssetRepository,
+                               CourseProgressSummaryService progressSummaryService,
+                               CurriculumReadModel curriculumReadModel,
+                               SimpMessagingTemplate broker,
+                               VideoDurationProbe durationProbe,
+                               TransactionTemplate transactionTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.video-pipeline.threads:2}") int threads,
+                               @Value("${app.video-pipeline.queue-capacity:16}") int queueCapacity,
+                               @Value("${app.video-pipeline.temp-dir:${java.io.tmpdir}/ei-video-upload}") String tempDir,
+                               @Value("${app.video-pipeline.stale-after-minutes:10}") long staleAfterMinutes) {
+        this.uploader = uploader;
+        this.s3Objects = s3Objects;
+        this.videoAssetRepository = videoAssetRepository;
+        this.progressSummaryService = progressSummaryService;
+        this.curriculumReadModel = curriculumReadModel;
+        this.broker = broker;
+        this.durationProbe = durationProbe;
+        this.tx = transactionTemplate;
+        this.tempDir = Path.of(tempDir);
+        this.staleAfterMinutes = staleAfterMinutes;
+
+        AtomicInteger seq = new AtomicInteger();
+        int poolSize = Math.max(1, threads);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                r -> {
+                    Thread t = new Thread(r, "video-upload-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("video.upload.queue.depth", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("video.upload.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+        this.uploadedBytes = Counter.builder("video.upload.bytes").baseUnit("bytes").register(meterRegistry);
+        this.rejectedJobs = Counter.builder("video.upload.rejected").register(meterRegistry);
+        this.readyTimer = Timer.builder("video.upload.duration").tag("result", "ready").register(meterRegistry);
+        this.failedTimer = Timer.builder("video.upload.duration").tag("result", "failed").register(meterRegistry);
+    }
+
+    /** 대기열 여유 (요청 초기에 빠르게 거절하기 위한 용도, 최종 판단은 submit) */
+    public boolean hasCapacity() {
+        return executor.getQueue().remainingCapacity() > 0;
+    }
+
+    /**
+     * 요청 스레드에서 호출: 업로드 파일을 파이프라인 임시 디렉터리로 이동/복사.
+     * (요청이 끝나면 multipart 임시파일은 삭제되므로 작업 등록 전에 옮겨둔다)
+     */
+    public Path stage(MultipartFile file) throws IOException {
+        Files.createDirectories(tempDir);
+        Path target = tempDir.resolve("lecture-video-" + UUID.randomUUID() + ".upload");
+        file.transferTo(target);
+        return target;
+    }
+
+    /**
+     * 업로드 작업 등록. VideoAsset(UPLOADING) 이 커밋된 뒤(트랜잭션 밖에서) 호출해야 한다.
+     * 대기열이 가득 차면 즉시 FAILED 처리.
+     */
+    public void submit(UploadJob job) {
+        inFlightKeys.add(job.key());
+        try {
+            executor.execute(() -> run(job));
+            log.info("[video-upload] queued lectureId={}, key={}, queue={}", job.lectureId(), job.key(), executor.getQueue().size());
+        } catch (RejectedExecutionException e) {
+            rejectedJobs.increment();
+            log.warn("[video-upload] 대기열 초과로 거절 lectureId={}", job.lectureId());
+            fail(job, e, System.nanoTime());
+        }
+    }
+
+    /** 작업 등록 전에 실패한 경우 임시파일 정리 */
+    public void discard(Path staged) {
+        if (staged != null) deleteQuietly(staged);
+    }
+
+    /** 최종 공개 URL (READY 시 노출) */
+    public String urlOf(String key) {
+        return uploader.getFileUrl(key);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            List<Runnable> dropped = executor.shutdownNow();
+            log.warn("[video-upload] 종료 시 미처리 작업 {}건 (재기동 후 FAILED 로 정리됨)", dropped.size());
+        }
+    }
+
+    /** 이 노드가 맡은 업로드의 생존 신호 갱신 (대기열에 있는 작업 포함) */
+    @Scheduled(fixedDelayString = "${app.video-pipeline.heartbeat-ms:60000}")
+    public void heartbeat() {
+        if (inFlightKeys.isEmpty()) return;
+        List<String> keys = List.copyOf(inFlightKeys);
+        try {
+            tx.executeWithoutResult(s -> videoAssetRepository.touchUploads(keys, LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            log.warn("[video-upload] 생존 신호 갱신 실패 keys={}", keys.size(), e);
+        }
+    }
+
+    /** 담당 노드가 죽거나 재기동되어 생존 신호가 끊긴 업로드를 FAILED 로 정리 */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.video-pipeline.stale-check-ms:300000}",
+               initialDelayString = "${app.video-pipeline.stale-check-ms:300000}")
+    public void failStaleUploads() {
+        LocalDateTime before = LocalDateTime.now().minusMinutes(staleAfterMinutes);
+        tx.executeWithoutResult(s -> {
+            int failed = 0;
+            for (VideoAsset a : videoAssetRepository.findStaleUploads(IN_FLIGHT, before)) {
+                if (a.getUploadKey() != null && inFlightKeys.contains(a.getUploadKey())) continue; // 이 노드에서 진행 중
+                a.markFailed();
+                curriculumReadModel.invalidateCourseAfterCommit(a.getLecture().getCourse().getId());
+                failed++;
+            }
+            if (failed > 0) {
+                log.warn("[video-upload] 멈춘 업로드 {}건 FAILED 처리", failed);
+            }
+        });
+    }
+
+    /* ===================== 내부 ===================== */
+
+    private void run(UploadJob job) {
+        long started = System.nanoTime();
+        try {
+            publish(job, VideoAsset.Status.UPLOADING, 0, null);
+            uploader.upload(job.file(), job.key(), job.contentType(), progressPublisher(job));
+            uploadedBytes.increment(job.size());
+
+            if (!transition(job, VideoAsset::markProcessing)) return;
+            publish(job, VideoAsset.Status.PROCESSING, job.size(), null);
+
+            // 후처리: 전송이 끝난 임시파일에서 길이 판독 (서버 판독값 우선)
+            OptionalInt probed = durationProbe.probe(job.file());
+
+            String url = urlOf(job.key());
+            String[] replaced = new String[1];
+            boolean applied = transition(job, asset -> {
+                int duration = probed.isPresent() ? probed.getAsInt()
+                        : job.durationSec() != null ? job.durationSec() : asset.getDurationSec();
+                replaced[0] = asset.completeUpload(url, duration, job.size());
+                if (duration > 0) {
+                    asset.getLecture().updateDurationFromVideo(duration);
+                }
+                progressSummaryService.onCurriculumChanged(job.courseId()); // 강의 길이 변경 가능
+                curriculumReadModel.invalidateCourseAfterCommit(job.courseId());
+            });
+            if (!applied) return;
+            if (replaced[0] != null) deleteObjectQuietly(replaced[0]); // 커밋 이후 이전 영상 정리
+
+            readyTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            publish(job, VideoAsset.Status.READY, job.size(), url);
+            log.info("[video-upload] READY lectureId={}, key={}", job.lectureId(), job.key());
+        } catch (Exception e) {
+            fail(job, e, started);
+        } finally {
+            inFlightKeys.remove(job.key());
+            deleteQuietly(job.file());
+        }
+    }
+
+    private void fail(UploadJob job, Exception cause, long started) {
+        log.error("[video-upload] FAILED lectureId={}, key={}", job.lectureId(), job.key(), cause);
+        try {
+            transition(job, asset -> {
+                asset.markFailed();
+                curriculumReadModel.invalidateCourseAfterCommit(job.courseId());
+            });
+        } catch (RuntimeException e) {
+            log.error("[video-upload] FAILED 상태 반영 실패 lectureId={}", job.lectureId(), e);
+        }
+        failedTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        publish(job, VideoAsset.Status.FAILED, 0, null);
+        inFlightKeys.remove(job.key());
+        deleteQuietly(job.file());
+    }
+
+    /**
+     * 짧은 트랜잭션으로 상태 전이. 그 사이 새 업로드로 교체됐거나 정리됐다면(uploadKey 변경) 반영하지 않고
+     * 이번 작업이 올린 객체를 정리한 뒤 false.
+     * 같은 행을 직접 업로드 확정 등이 먼저 바꿨으면(버전 충돌) 다시 읽어 판단.
+     */
+    private boolean transition(UploadJob job, Consumer<VideoAsset> change) {
+        boolean applied;
+        try {
+            applied = applyIfUploading(job, change);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            applied = applyIfUploading(job, change);
+        }
+        if (!applied) {
+            log.info("[video-upload] 새 업로드로 교체됨 → 결과 폐기 lectureId={}, key={}", job.lectureId(), job.key());
+            deleteObjectQuietly(job.key());
+            return false;
+        }
+        return true;
+    }
+
+    private boolean applyIfUploading(UploadJob job, Consumer<VideoAsset> change) {
+        Boolean applied = tx.execute(s -> videoAssetRepository.findByLectureId(job.lectureId())
+                .filter(asset -> asset.isUploading(job.key()))
+                .map(asset -> {
+                    change.accept(asset);
+                    return true;
+                })
+                .orElse(false));
+        return Boolean.TRUE.equals(applied);
+    }
+
+    private void deleteObjectQuietly(String key) {
+        try {
+            s3Objects.delete(key);
+        } catch (RuntimeException e) {
+            log.warn("[video-upload] 객체 삭제 실패 key={}", key, e);
+        }
+    }
+
+    /** 10% 단위로 진행 상황 전송 */
+    private UploadProgressListener progressPublisher(UploadJob job) {
+        AtomicInteger lastDecile = new AtomicInteger(0);
+        return (transferred, total) -> {
+            int decile = total <= 0 ? 10 : (int) (transferred * 10 / total);
+            if (decile > lastDecile.getAndAccumulate(decile, Math::max)) {
+                publish(job, VideoAsset.Status.UPLOADING, transferred, null);
+            }
+        };
+    }
+
+    private void publish(UploadJob job, VideoAsset.Status status, long transferred, String url) {
+        try {
+            broker.convertAndSend("/topic/video/lecture/" + job.lectureId(), VideoUploadStatusDto.builder()
+                    .lectureId(job.lectureId())
+                    .status(status.name())
+                    .bytesTransferred(transferred)
+                    .totalBytes(job.size())
+                    .videoUrl(url)
+                    .build());
+        } catch (RuntimeException e) {
+            log.debug("[video-upload] 상태 전송 실패 lectureId={}", job.lectureId(), e);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("[video-upload] 임시파일 삭제 실패 {}", file, e);
+        }
+    }
+
+    /** durationSec: 클라이언트 값 (서버 판독 실패 시 사용, null 이면 기존 값 유지) */
+    public record UploadJob(Long lectureId, Long courseId, Path file, String key,
+                            String contentType, long size, Integer durationSec) {}
+}
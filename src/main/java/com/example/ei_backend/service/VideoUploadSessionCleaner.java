@@ -0,0 +1,57 @@
+package com.example.ei_backend.service;
+
+import com.example.ei_backend.aws.S3PresignedUploads;
+import com.example.ei_backend.domain.entity.VideoUploadSession;
+import com.example.ei_backend.repository.VideoUploadSessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 기한 내 confirm 되지 않은 presigned 업로드 정리.
+ * - 멀티파트: AbortMultipartUpload 로 업로드된 part 제거
+ * - 객체: 이미 올라갔거나(완료 후 confirm 실패 포함) 남은 객체 삭제
+ * 버킷 lifecycle(AbortIncompleteMultipartUpload)을 함께 두면 이 작업이 멈춰도 part 가 쌓이지 않음.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class VideoUploadSessionCleaner {
+
+    private final VideoUploadSessionRepository uploadSessionRepository;
+    private final S3PresignedUploads presignedUploads;
+
+    @Scheduled(fixedDelayString = "${app.s3.upload.cleanup-interval-ms:600000}",
+               initialDelayString = "${app.s3.upload.cleanup-interval-ms:600000}")
+    public void cleanupExpired() {
+        List<VideoUploadSession> expired;
+        int cleaned = 0;
+        do {
+            expired = uploadSessionRepository.findTop100ByStatusAndExpiresAtBeforeOrderByIdAsc(
+                    VideoUploadSession.Status.PENDING, LocalDateTime.now());
+            for (VideoUploadSession s : expired) {
+                try {
+                    if (s.isMultipart()) {
+                        presignedUploads.abortMultipart(s.getStorageKey(), s.getUploadId());
+                    }
+                    presignedUploads.delete(s.getStorageKey());
+                } catch (RuntimeException e) {
+                    // S3 오류는 다음 주기에 재시도
+                    log.warn("[upload-cleanup] 정리 실패 key={}, 다음 주기에 재시도", s.getStorageKey(), e);
+                    return;
+                }
+                s.markExpired();
+                uploadSessionRepository.save(s);
+                cleaned++;
+            }
+        } while (expired.size() == 100);
+
+        if (cleaned > 0) {
+            log.info("[upload-cleanup] 미확정 업로드 {}건 정리", cleaned);
+        }
+    }
+}
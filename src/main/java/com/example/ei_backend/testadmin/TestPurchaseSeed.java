@@ -3,6 +3,8 @@ package com.example.ei_backend.testadmin;
 import com.example.ei_backend.domain.UserRole;
 import com.example.ei_backend.domain.entity.*;
 import com.example.ei_backend.repository.*;
+import com.example.ei_backend.service.CourseProgressSummaryService;
+import com.example.ei_backend.service.EnrollmentIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
@@ -25,6 +27,8 @@ public class TestPurchaseSeed implements CommandLineRunner {
     private final UserRepository userRepository;
     private final CourseRepository courseRepository;
     private final UserCourseRepository userCourseRepository;
+    private final CourseProgressSummaryService progressSummaryService;
+    private final EnrollmentIndex enrollmentIndex;
     private final PaymentRepository paymentRepository;
     private final PasswordEncoder passwordEncoder;
 
@@ -128,6 +132,8 @@ public class TestPurchaseSeed implements CommandLineRunner {
                 .registeredAt(LocalDateTime.now())
                 .build();
         userCourseRepository.save(uc);
+        progressSummaryService.onEnrolled(user.getId(), course.getId());
+        enrollmentIndex.onEnrolled(user.getId(), course.getId());
         log.info("[Seed] 수강 등록 생성 완료: userCourseId={}", uc.getId());
     }
 }
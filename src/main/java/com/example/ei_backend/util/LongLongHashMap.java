@@ -0,0 +1,137 @@
+package com.example.ei_backend.util;
+
+import java.util.Arrays;
+
+/**
+ * long → long open addressing 해시맵 (선형 탐사, 박싱 없음).
+ * - 키 0 은 빈 칸 표시로 쓰므로 사용 불가 (DB id 용도)
+ * - 부하율 0.5 를 넘으면 2배로 확장, 삭제는 뒤쪽 원소를 당겨 채움(backward shift) → 묘비 없음
+ * - 스레드 안전하지 않음: 공유 시 복사본을 만들어 교체하는 방식으로 사용 ({@link #copy()})
+ */
+public final class LongLongHashMap {
+
+    private static final long EMPTY = 0L;
+
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int size;
+
+    public LongLongHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+        this.keys = new long[capacity];
+        this.values = new long[capacity];
+        this.mask = capacity - 1;
+    }
+
+    private LongLongHashMap(long[] keys, long[] values, int size) {
+        this.keys = keys;
+        this.values = values;
+        this.mask = keys.length - 1;
+        this.size = size;
+    }
+
+    /** key 의 값, 없으면 missing */
+    public long get(long key, long missing) {
+        if (key == EMPTY) return missing;
+        int i = slot(key);
+        long k;
+        while ((k = keys[i]) != EMPTY) {
+            if (k == key) return values[i];
+            i = (i + 1) & mask;
+        }
+        return missing;
+    }
+
+    public boolean containsKey(long key) {
+        if (key == EMPTY) return false;
+        int i = slot(key);
+        long k;
+        while ((k = keys[i]) != EMPTY) {
+            if (k == key) return true;
+            i = (i + 1) & mask;
+        }
+        return false;
+    }
+
+    public void put(long key, long value) {
+        if (key == EMPTY) throw new IllegalArgumentException("키 0 은 사용할 수 없습니다.");
+        int i = slot(key);
+        long k;
+        while ((k = keys[i]) != EMPTY) {
+            if (k == key) {
+                values[i] = value;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value;
+        if (++size * 2 > keys.length) grow();
+    }
+
+    /** 제거 후 뒤따르는 같은 클러스터 원소를 빈 칸 쪽으로 당김 */
+    public boolean remove(long key) {
+        if (key == EMPTY) return false;
+        int i = slot(key);
+        long k;
+        while ((k = keys[i]) != EMPTY) {
+            if (k == key) {
+                shiftBack(i);
+                size--;
+                return true;
+            }
+            i = (i + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() { return size; }
+
+    public LongLongHashMap copy() {
+        return new LongLongHashMap(Arrays.copyOf(keys, keys.length), Arrays.copyOf(values, values.length), size);
+    }
+
+    /* ===================== 내부 ===================== */
+
+    private void shiftBack(int gap) {
+        int i = gap;
+        while (true) {
+            i = (i + 1) & mask;
+            long k = keys[i];
+            if (k == EMPTY) break;
+            int home = slot(k);
+            // home 이 (gap, i] 구간 밖이면 gap 으로 옮겨도 탐색 경로가 유지됨
+            boolean between = gap <= i ? (gap < home && home <= i) : (gap < home || home <= i);
+            if (!between) {
+                keys[gap] = k;
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+        keys[gap] = EMPTY;
+        values[gap] = 0L;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        keys = new long[oldKeys.length << 1];
+        values = new long[oldValues.length << 1];
+        mask = keys.length - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            long k = oldKeys[j];
+            if (k == EMPTY) continue;
+            int i = slot(k);
+            while (keys[i] != EMPTY) i = (i + 1) & mask;
+            keys[i] = k;
+            values[i] = oldValues[j];
+        }
+    }
+
+    /** 순차 id 도 고르게 퍼지도록 섞은 뒤 인덱스 계산 */
+    private int slot(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
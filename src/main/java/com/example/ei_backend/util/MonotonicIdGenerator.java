@@ -0,0 +1,51 @@
+package com.example.ei_backend.util;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 기반 53bit ID (JS Number 로도 안전한 범위).
+ * [41bit: 2024-01-01 이후 ms][5bit: 노드][7bit: ms 내 순번]
+ * - 같은 노드 안에서는 항상 증가 (시계가 뒤로 가도 마지막 시각 기준으로 계속 증가)
+ * - ms 당 128개를 넘으면 다음 ms 를 앞당겨 사용
+ */
+public final class MonotonicIdGenerator {
+
+    private static final long EPOCH_MILLIS = 1704067200000L; // 2024-01-01T00:00:00Z
+    private static final int NODE_BITS = 5;
+    private static final int SEQ_BITS = 7;
+    private static final long MAX_SEQ = (1L << SEQ_BITS) - 1;
+
+    public static final int MAX_NODE = (1 << NODE_BITS) - 1;
+
+    private final long node;
+    private final LongSupplier clock;
+    private long lastMillis = -1;
+    private long seq;
+
+    public MonotonicIdGenerator(int node) {
+        this(node, System::currentTimeMillis);
+    }
+
+    /** 테스트용: 시계 주입 */
+    MonotonicIdGenerator(int node, LongSupplier clock) {
+        if (node < 0 || node > MAX_NODE) {
+            throw new IllegalArgumentException("node 는 0~" + MAX_NODE + " 범위여야 합니다: " + node);
+        }
+        this.node = node;
+        this.clock = clock;
+    }
+
+    public synchronized long nextId() {
+        long now = Math.max(clock.getAsLong() - EPOCH_MILLIS, lastMillis);
+        if (now == lastMillis) {
+            if (++seq > MAX_SEQ) {
+                now = ++lastMillis;
+                seq = 0;
+            }
+        } else {
+            lastMillis = now;
+            seq = 0;
+        }
+        return (now << (NODE_BITS + SEQ_BITS)) | (node << SEQ_BITS) | seq;
+    }
+}
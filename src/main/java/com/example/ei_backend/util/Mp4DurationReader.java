@@ -0,0 +1,162 @@
+package com.example.ei_backend.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.OptionalInt;
+
+/**
+ * MP4/MOV(ISO BMFF) 재생 길이 판독기.
+ * 박스 헤더만 따라가며 moov → mvhd 의 timescale/duration 만 읽는다 (mdat 등 본문은 건너뜀).
+ * 읽기는 {@link RangeSource} 의 구간 읽기로만 이뤄지고, 블록 단위로 묶어 원격 요청 수를 줄인다.
+ */
+public final class Mp4DurationReader {
+
+    /** 구간 읽기 소스 (로컬 파일, S3 range GET 등) */
+    public interface RangeSource {
+        long size() throws IOException;
+
+        /** offset 부터 최대 length 바이트 */
+        byte[] read(long offset, int length) throws IOException;
+    }
+
+    /** 판독 결과 (bytesRead: 실제로 소스에서 읽은 바이트 수) */
+    public record Result(OptionalInt durationSec, long bytesRead, int reads) {}
+
+    private static final int MAX_BOXES = 1024; // 손상 파일 방어
+
+    private final RangeSource source;
+    private final int blockSize;
+
+    private long blockOffset = -1;
+    private byte[] block = new byte[0];
+    private long bytesRead;
+    private int reads;
+
+    private Mp4DurationReader(RangeSource source, int blockSize) {
+        this.source = source;
+        this.blockSize = blockSize;
+    }
+
+    public static Result read(RangeSource source, int blockSize) throws IOException {
+        Mp4DurationReader r = new Mp4DurationReader(source, Math.max(64, blockSize));
+        OptionalInt duration = r.findDuration();
+        return new Result(duration, r.bytesRead, r.reads);
+    }
+
+    public static Result read(Path file) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            return read(fileSource(ch), 4 * 1024);
+        }
+    }
+
+    public static RangeSource fileSource(FileChannel ch) {
+        return new RangeSource() {
+            @Override
+            public long size() throws IOException {
+                return ch.size();
+            }
+
+            @Override
+            public byte[] read(long offset, int length) throws IOException {
+                ByteBuffer buf = ByteBuffer.allocate(length);
+                while (buf.hasRemaining()) {
+                    int n = ch.read(buf, offset + buf.position());
+                    if (n < 0) break;
+                }
+                byte[] out = new byte[buf.position()];
+                buf.flip().get(out);
+                return out;
+            }
+        };
+    }
+
+    /* ===================== 박스 탐색 ===================== */
+
+    private OptionalInt findDuration() throws IOException {
+        long size = source.size();
+        long moov = findBox(0, size, "moov");
+        if (moov < 0) return OptionalInt.empty();
+
+        long[] moovHeader = header(moov, size);
+        long moovEnd = moov + moovHeader[0];
+        long mvhd = findBox(moov + moovHeader[1], moovEnd, "mvhd");
+        if (mvhd < 0) return OptionalInt.empty();
+
+        long p = mvhd + header(mvhd, moovEnd)[1];
+        int version = bytes(p, 1)[0] & 0xFF;
+        p += 4; // version + flags
+
+        long timescale;
+        long duration;
+        if (version == 1) {
+            p += 16; // creation/modification (64bit)
+            timescale = u32(p);
+            duration = u64(p + 4);
+        } else {
+            p += 8;  // creation/modification (32bit)
+            timescale = u32(p);
+            duration = u32(p + 4);
+        }
+
+        // duration 이 전부 1 이면 "알 수 없음"
+        if (timescale <= 0 || duration <= 0 || duration == 0xFFFFFFFFL || duration == -1L) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of((int) Math.min(Integer.MAX_VALUE, Math.round((double) duration / timescale)));
+    }
+
+    /** [start, end) 구간의 형제 박스 중 type 과 일치하는 박스 시작 위치 (없으면 -1) */
+    private long findBox(long start, long end, String type) throws IOException {
+        long p = start;
+        for (int i = 0; i < MAX_BOXES && p + 8 <= end; i++) {
+            long[] h = header(p, end);
+            if (h == null) return -1;
+            if (type.equals(new String(bytes(p + 4, 4), StandardCharsets.US_ASCII))) return p;
+            p += h[0];
+        }
+        return -1;
+    }
+
+    /** {박스 전체 크기, 헤더 길이} (잘못된 크기면 null) */
+    private long[] header(long p, long end) throws IOException {
+        long size = u32(p);
+        int headerLen = 8;
+        if (size == 1) {               // 64bit largesize
+            size = u64(p + 8);
+            headerLen = 16;
+        } else if (size == 0) {        // 파일 끝까지
+            size = end - p;
+        }
+        if (size < headerLen || p + size > end) return null;
+        return new long[]{size, headerLen};
+    }
+
+    /* ===================== 블록 단위 읽기 ===================== */
+
+    private long u32(long p) throws IOException {
+        byte[] b = bytes(p, 4);
+        return ((long) (b[0] & 0xFF) << 24) | ((b[1] & 0xFF) << 16) | ((b[2] & 0xFF) << 8) | (b[3] & 0xFF);
+    }
+
+    private long u64(long p) throws IOException {
+        return (u32(p) << 32) | u32(p + 4);
+    }
+
+    private byte[] bytes(long p, int n) throws IOException {
+        if (blockOffset < 0 || p < blockOffset || p + n > blockOffset + block.length) {
+            block = source.read(p, Math.max(n, blockSize));
+            blockOffset = p;
+            bytesRead += block.length;
+            reads++;
+            if (block.length < n) throw new IOException("MP4 박스가 잘려 있습니다. offset=" + p);
+        }
+        int from = (int) (p - blockOffset);
+        byte[] out = new byte[n];
+        System.arraycopy(block, from, out, 0, n);
+        return out;
+    }
+}
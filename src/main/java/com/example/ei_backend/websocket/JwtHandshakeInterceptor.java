@@ -1,9 +1,8 @@
 package com.example.ei_backend.websocket;
 
-import com.example.ei_backend.domain.entity.User;
-import com.example.ei_backend.repository.UserRepository;
+import com.example.ei_backend.security.JwtPrincipalResolver;
 import com.example.ei_backend.security.JwtTokenProvider;
-import com.example.ei_backend.security.UserDetailsImpl;
+import com.example.ei_backend.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -24,7 +23,7 @@ import java.util.Map;
 public class JwtHandshakeInterceptor implements HandshakeInterceptor {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
+    private final JwtPrincipalResolver principalResolver;
 
     @Override
     public boolean beforeHandshake(ServerHttpRequest request,
@@ -66,17 +65,15 @@ public class JwtHandshakeInterceptor implements HandshakeInterceptor {
             return false;
         }
 
-        // 토큰에서 이메일 파싱 (메서드명은 프로젝트에 맞춰 getEmail/getUsername 중 사용)
-        String email = jwtTokenProvider.getEmail(token);
-        User user = userRepository.findByEmail(email).orElse(null);
-        if (user == null) {
+        // 검증된 클레임으로 principal 구성 (uid/ver 없는 구버전 토큰만 DB 조회)
+        UserPrincipal details = principalResolver.resolveForConnection(token).orElse(null);
+        if (details == null) {
             response.setStatusCode(HttpStatus.UNAUTHORIZED);
             return false;
         }
 
-        // HandshakeHandler에서 Principal 생성에 쓰도록 저장
-        UserDetailsImpl details = new UserDetailsImpl(user);
-        attributes.put("email", email);
+        // HandshakeHandler에서 Principal 생성에 쓰도록 저장 (STOMP CONNECT 에서도 재사용)
+        attributes.put("email", details.getEmail());
         attributes.put("userDetails", details);
         return true;
     }
@@ -1,9 +1,8 @@
 package com.example.ei_backend.websocket;
 
-import com.example.ei_backend.domain.entity.User;
-import com.example.ei_backend.repository.UserRepository;
+import com.example.ei_backend.security.JwtPrincipalResolver;
 import com.example.ei_backend.security.JwtTokenProvider;
-import com.example.ei_backend.security.UserDetailsImpl;
+import com.example.ei_backend.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
@@ -19,7 +18,7 @@ import org.springframework.stereotype.Component;
 public class JwtStompChannelInterceptor implements ChannelInterceptor {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
+    private final JwtPrincipalResolver principalResolver;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -27,6 +26,9 @@ public class JwtStompChannelInterceptor implements ChannelInterceptor {
         if (acc == null) return message;
 
         if (StompCommand.CONNECT.equals(acc.getCommand())) {
+            // 핸드셰이크에서 이미 인증된 세션이면 그대로 사용 (토큰 재검증/조회 없음)
+            if (acc.getUser() != null) return message;
+
             // STOMP 헤더에서 토큰 추출
             String raw = first(acc, "Authorization");
             if (raw == null) raw = first(acc, "authorization");
@@ -39,13 +41,13 @@ public class JwtStompChannelInterceptor implements ChannelInterceptor {
                 throw new IllegalArgumentException("Invalid token");
             }
 
-            String email = jwtTokenProvider.getUsername(token);
-            User user = userRepository.findByEmail(email)
+            // 검증된 클레임(공유 캐시)으로 principal 구성 → 재연결 폭주가 DB 풀로 번지지 않음
+            UserPrincipal principal = principalResolver.resolveForConnection(token)
                     .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
-            // Principal 이름은 /user 라우팅 키로 쓰이므로 식별자(이메일)로!
+            // Principal 이름은 /user 라우팅 키로 쓰이므로 식별자(이메일)로! (UserPrincipal 은 userId 도 보유)
             acc.setUser(new UsernamePasswordAuthenticationToken(
-                    new UserDetailsImpl(user), null, new UserDetailsImpl(user).getAuthorities()
+                    principal, null, principal.getAuthorities()
             ));
         }
         return message;
@@ -0,0 +1,166 @@
+package com.example.ei_backend.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 세션 단위 outbound 역압(backpressure).
+ * - 세션 전송(WebSocketSession#sendMessage)이 slow-write-threshold 이상 진행 중이면 느린 소비자로 판단
+ * - 느린 소비자에게 가는 coalesce-prefixes 목적지(진행률 등) 프레임은 목적지별 최신 1건만 보관하고,
+ *   전송이 풀리면 보관분을 다시 outbound 채널로 보냄 (대체된 이전 프레임은 드롭으로 집계)
+ * - 그 외 프레임은 그대로 두고 send-buffer/time limit(세션 종료)에 맡김
+ *
+ * outbound 채널 인터셉터 + WebSocket 핸들러 데코레이터(세션 전송 추적)로 함께 등록한다.
+ */
+@Component
+@Slf4j
+public class OutboundBackpressure implements ChannelInterceptor, WebSocketHandlerDecoratorFactory {
+
+    private final boolean enabled;
+    private final long slowNanos;
+    private final List<String> coalescePrefixes;
+
+    private final ConcurrentHashMap<String, SessionState> sessions = new ConcurrentHashMap<>();
+    private volatile MessageChannel outboundChannel;
+
+    private final Counter coalesced;
+
+    public OutboundBackpressure(WebSocketProperties properties, MeterRegistry meterRegistry) {
+        WebSocketProperties.Backpressure bp = properties.getBackpressure();
+        this.enabled = bp.isEnabled();
+        this.slowNanos = bp.getSlowWriteThreshold().toNanos();
+        this.coalescePrefixes = List.copyOf(bp.getCoalescePrefixes());
+
+        this.coalesced = Counter.builder("websocket.frames.dropped")
+                .tag("channel", "outbound")
+                .tag("reason", "coalesced")
+                .register(meterRegistry);
+        Gauge.builder("websocket.sessions.slow", this, OutboundBackpressure::slowSessions).register(meterRegistry);
+    }
+
+    /* ===================== outbound 채널 인터셉터 ===================== */
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (!enabled) return message;
+
+        MessageHeaders headers = message.getHeaders();
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+        String destination = SimpMessageHeaderAccessor.getDestination(headers);
+        if (sessionId == null || destination == null || !coalescable(destination)) return message;
+
+        SessionState state = sessions.get(sessionId);
+        if (state == null || !state.isSlow(slowNanos)) return message;
+
+        outboundChannel = channel;
+        if (state.pending.put(destination, message) != null) {
+            coalesced.increment(); // 이전 상태는 최신 상태로 대체
+        }
+        // 보관 직후 전송이 끝났을 수 있음 → 놓치지 않도록 한 번 더 확인
+        if (!state.isSlow(slowNanos)) flush(state);
+        return null;
+    }
+
+    /* ===================== 세션 전송 추적 ===================== */
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                SessionState state = new SessionState();
+                sessions.put(session.getId(), state);
+                super.afterConnectionEstablished(new TrackingSession(session, state));
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                SessionState state = sessions.remove(session.getId());
+                if (state != null && !state.pending.isEmpty()) {
+                    coalesced.increment(state.pending.size());
+                    state.pending.clear();
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    public int slowSessions() {
+        int n = 0;
+        for (SessionState s : sessions.values()) {
+            if (s.isSlow(slowNanos)) n++;
+        }
+        return n;
+    }
+
+    /* ===================== 내부 ===================== */
+
+    private boolean coalescable(String destination) {
+        for (String prefix : coalescePrefixes) {
+            if (destination.startsWith(prefix)) return true;
+        }
+        return false;
+    }
+
+    /** 보관분 재전송 (preSend 를 다시 거치며, 여전히 느리면 다시 보관됨) */
+    private void flush(SessionState state) {
+        MessageChannel channel = outboundChannel;
+        if (channel == null) return;
+        for (String destination : state.pending.keySet()) {
+            Message<?> latest = state.pending.remove(destination);
+            if (latest != null) channel.send(latest);
+        }
+    }
+
+    private static final class SessionState {
+        /** 진행 중인 전송 시작 시각 (0 이면 전송 중 아님) */
+        private volatile long writeStartedNanos;
+        /** 목적지 → 최신 프레임 */
+        private final ConcurrentHashMap<String, Message<?>> pending = new ConcurrentHashMap<>();
+
+        boolean isSlow(long thresholdNanos) {
+            long started = writeStartedNanos;
+            return started != 0 && System.nanoTime() - started >= thresholdNanos;
+        }
+    }
+
+    /** 실제 소켓 전송 시간을 기록하는 세션 래퍼 (전송 동시성 제어는 Spring 의 ConcurrentWebSocketSessionDecorator 가 담당) */
+    private final class TrackingSession extends WebSocketSessionDecorator {
+        private final SessionState state;
+
+        TrackingSession(WebSocketSession delegate, SessionState state) {
+            super(delegate);
+            this.state = state;
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            state.writeStartedNanos = System.nanoTime();
+            try {
+                super.sendMessage(message);
+            } finally {
+                state.writeStartedNanos = 0;
+            }
+            if (!state.pending.isEmpty()) flush(state);
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package com.example.ei_backend.websocket;
 
-import com.example.ei_backend.security.UserDetailsImpl;
+import com.example.ei_backend.security.UserPrincipal;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.WebSocketHandler;
@@ -17,7 +17,7 @@ public class UserPrincipalHandshakeHandler
     protected java.security.Principal determineUser(
             ServerHttpRequest req, WebSocketHandler h, Map<String,Object> attrs) {
 
-        var details = (UserDetailsImpl) attrs.get("userDetails");
+        var details = (UserPrincipal) attrs.get("userDetails");
         if (details == null) {
             // 인터셉터가 userDetails를 못 심었을 때: email 폴백
             String email = (String) attrs.get("email");
@@ -27,7 +27,7 @@ public class UserPrincipalHandshakeHandler
                     email, null, java.util.List.of() // 권한 비워둠(필요시 조회해서 채우기)
             );
         }
-        // UserDetailsImpl#getUsername() 이 이메일을 반환해야 /user 라우팅이 맞습니다.
+        // UserPrincipal#getUsername() 이 이메일을 반환해야 /user 라우팅이 맞습니다. (userId 는 전송 권한 체크에 사용)
         return new org.springframework.security.authentication.UsernamePasswordAuthenticationToken(
                 details, null, details.getAuthorities()
         );
@@ -0,0 +1,113 @@
+package com.example.ei_backend.websocket;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "app.websocket")
+@Getter
+@Setter
+public class WebSocketProperties {
+
+    private Broker broker = new Broker();
+
+    /** 클라이언트 → 서버 (STOMP 프레임 처리) 채널 실행기 */
+    private ChannelPool inbound = new ChannelPool();
+
+    /** 서버 → 클라이언트 (세션 전송) 채널 실행기 */
+    private ChannelPool outbound = new ChannelPool();
+
+    private Transport transport = new Transport();
+
+    private Backpressure backpressure = new Backpressure();
+
+    public enum BrokerMode {
+        /** 인메모리 SimpleBroker (단일 노드 / 로컬 개발용) */
+        SIMPLE,
+        /** 외부 STOMP 브로커(RabbitMQ STOMP, ActiveMQ 등) 릴레이 → 노드 간 팬아웃 */
+        RELAY
+    }
+
+    @Getter
+    @Setter
+    public static class Broker {
+
+        private BrokerMode mode = BrokerMode.SIMPLE;
+
+        /* ---------- RELAY 모드 ---------- */
+
+        private String relayHost = "localhost";
+        private int relayPort = 61613;
+
+        /** 클라이언트 세션이 브로커에 접속할 때 쓰는 계정 */
+        private String clientLogin = "guest";
+        private String clientPasscode = "guest";
+
+        /** 서버 → 브로커 공용(system) 연결 계정 */
+        private String systemLogin = "guest";
+        private String systemPasscode = "guest";
+
+        /** RabbitMQ vhost 등 (없으면 미지정) */
+        private String virtualHost;
+
+        /** system 연결 heartbeat (ms) */
+        private long systemHeartbeatSendInterval = 10_000;
+        private long systemHeartbeatReceiveInterval = 10_000;
+
+        /** 노드 간 사용자 세션 레지스트리 공유 토픽 (어느 노드가 어떤 사용자 세션을 갖고 있는지) */
+        private String userRegistryBroadcast = "/topic/simp-user-registry";
+
+        /** 로컬에 세션이 없는 /user 목적지를 다른 노드로 넘기는 토픽 */
+        private String userDestinationBroadcast = "/topic/unresolved-user-destination";
+    }
+
+    @Getter
+    @Setter
+    public static class ChannelPool {
+
+        private int coreSize = Runtime.getRuntime().availableProcessors() * 2;
+        private int maxSize = Runtime.getRuntime().availableProcessors() * 4;
+
+        /** 대기열 길이 (가득 차면 거절 → 프레임 드롭으로 집계) */
+        private int queueCapacity = 10_000;
+
+        private int keepAliveSeconds = 60;
+
+        /** true 면 풀 스레드를 가상 스레드로 생성 (블로킹 전송이 많을 때 max-size 를 크게 잡아도 부담 적음) */
+        private boolean virtualThreads = false;
+    }
+
+    @Getter
+    @Setter
+    public static class Transport {
+
+        /** 세션 1건 전송이 이 시간을 넘기면 세션 종료 */
+        private Duration sendTimeLimit = Duration.ofSeconds(10);
+
+        /** 느린 세션에 쌓아둘 수 있는 전송 버퍼 상한 (초과 시 세션 종료) */
+        private DataSize sendBufferSizeLimit = DataSize.ofKilobytes(512);
+
+        /** 수신 STOMP 메시지 최대 크기 */
+        private DataSize messageSizeLimit = DataSize.ofKilobytes(64);
+
+        /** 연결 후 첫 메시지(CONNECT)까지 대기 시간 */
+        private Duration timeToFirstMessage = Duration.ofSeconds(60);
+    }
+
+    @Getter
+    @Setter
+    public static class Backpressure {
+
+        private boolean enabled = true;
+
+        /** 한 세션의 전송이 이 시간 이상 진행 중이면 느린 소비자로 판단 */
+        private Duration slowWriteThreshold = Duration.ofMillis(500);
+
+        /** 느린 소비자에게는 목적지별 최신 1건만 남기고 합쳐 보낼 목적지 prefix (진행률 등 최신 상태만 의미 있는 것) */
+        private List<String> coalescePrefixes = List.of("/queue/progress");
+    }
+}
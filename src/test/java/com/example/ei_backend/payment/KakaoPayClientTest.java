@@ -0,0 +1,169 @@
+package com.example.ei_backend.payment;
+
+import com.example.ei_backend.domain.dto.KakaoPayApproveRequestDto;
+import com.example.ei_backend.domain.dto.KakaoPayApproveResponseDto;
+import com.example.ei_backend.domain.dto.KakaoPayOrderRequestDto;
+import com.example.ei_backend.domain.dto.KakaoPayReadyRequestDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JDK HttpServer 로 PG 를 흉내 내어 응답 지연/동시 호출 상한/지표 태그 확인.
+ * /online/v1/payment/approve 는 release 가 열릴 때까지 응답을 붙잡아 둔다.
+ */
+class KakaoPayClientTest {
+
+    private static final String APPROVED = "{\"tid\":\"T-1\",\"amount\":{\"total\":1000}}";
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch arrived = new CountDownLatch(1);
+
+    private HttpServer server;
+    private ExecutorService serverPool;
+    private KakaoPayProperties props;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/online/v1/payment/approve", exchange -> {
+            arrived.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, APPROVED);
+        });
+        server.createContext("/online/v1/payment/order", exchange -> respond(exchange, 500, "{\"code\":-1}"));
+        server.createContext("/online/v1/payment/ready", exchange -> respond(exchange, 200, "<html>maintenance</html>"));
+        serverPool = Executors.newCachedThreadPool();
+        server.setExecutor(serverPool);
+        server.start();
+
+        props = new KakaoPayProperties();
+        props.setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort());
+        registry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        server.stop(0);
+        serverPool.shutdownNow();
+    }
+
+    @Test
+    void 응답_대기_초과는_TIMEOUT_이고_timeout_태그로_기록() {
+        props.setApproveTimeout(Duration.ofMillis(200));
+        KakaoPayClient client = client();
+
+        assertThatThrownBy(() -> client.approve(approveRequest()))
+                .isInstanceOf(PaymentGatewayException.class)
+                .satisfies(e -> assertThat(((PaymentGatewayException) e).getKind())
+                        .isEqualTo(PaymentGatewayException.Kind.TIMEOUT));
+
+        assertThat(callCount("approve", "timeout")).isEqualTo(1);
+        assertThat(registry.get("kakaopay.inflight").gauge().value()).isEqualTo(0.0);
+    }
+
+    @Test
+    void 동시_호출_상한을_넘으면_PG_를_호출하지_않고_BUSY() throws Exception {
+        props.setMaxInFlight(1);
+        props.setBulkheadWait(Duration.ofMillis(50));
+        KakaoPayClient client = client();
+
+        // 첫 호출이 허용량 1개를 쥔 채 PG 응답 대기
+        CompletableFuture<KakaoPayApproveResponseDto> holding =
+                CompletableFuture.supplyAsync(() -> client.approve(approveRequest()));
+        assertThat(arrived.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> client.approve(approveRequest()))
+                .isInstanceOf(PaymentGatewayException.class)
+                .satisfies(e -> assertThat(((PaymentGatewayException) e).getKind())
+                        .isEqualTo(PaymentGatewayException.Kind.BUSY));
+        assertThat(registry.get("kakaopay.bulkhead.rejected").counter().count()).isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(holding.get(5, TimeUnit.SECONDS).getTid()).isEqualTo("T-1");
+        assertThat(callCount("approve", "success")).isEqualTo(1);
+    }
+
+    @Test
+    void 호출별_op_outcome_태그로_지연_기록() {
+        release.countDown();
+        KakaoPayClient client = client();
+
+        client.approve(approveRequest());
+        assertThatThrownBy(() -> client.order(KakaoPayOrderRequestDto.builder()
+                        .cid("TC0ONETIME").tid("T-1").build()))
+                .isInstanceOf(PaymentGatewayException.class)
+                .satisfies(e -> assertThat(((PaymentGatewayException) e).getStatus()).isEqualTo(500));
+
+        assertThat(callCount("approve", "success")).isEqualTo(1);
+        assertThat(callCount("order", "http_5xx")).isEqualTo(1);
+    }
+
+    @Test
+    void 응답_2xx_본문_해석_실패는_PARSE_ERROR() {
+        KakaoPayClient client = client();
+
+        assertThatThrownBy(() -> client.ready(KakaoPayReadyRequestDto.builder().cid("TC0ONETIME").build()))
+                .isInstanceOf(PaymentGatewayException.class)
+                .satisfies(e -> {
+                    PaymentGatewayException pge = (PaymentGatewayException) e;
+                    assertThat(pge.getKind()).isEqualTo(PaymentGatewayException.Kind.PARSE_ERROR);
+                    assertThat(pge.getStatus()).isEqualTo(200);
+                });
+        assertThat(callCount("ready", "parse_error")).isEqualTo(1);
+    }
+
+    /* ===================== 내부 ===================== */
+
+    private KakaoPayClient client() {
+        return new KakaoPayClient(new ObjectMapper(), props, registry, "test-secret");
+    }
+
+    private long callCount(String op, String outcome) {
+        return registry.get("kakaopay.call").tag("op", op).tag("outcome", outcome).timer().count();
+    }
+
+    private static KakaoPayApproveRequestDto approveRequest() {
+        return KakaoPayApproveRequestDto.builder()
+                .cid("TC0ONETIME")
+                .tid("T-1")
+                .partnerOrderId("order-1")
+                .partnerUserId("buyer@x")
+                .pgToken("pg-token")
+                .build();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
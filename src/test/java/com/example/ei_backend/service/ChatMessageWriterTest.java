@@ -0,0 +1,115 @@
+package com.example.ei_backend.service;
+
+import com.example.ei_backend.domain.dto.chat.ChatMessageResponseDto;
+import com.example.ei_backend.websocket.WebSocketProperties.BrokerMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChatMessageWriterTest {
+
+    private static final String BAD = "bad-row";
+
+    private JdbcTemplate jdbcTemplate;
+    private SimpMessagingTemplate messagingTemplate;
+    private ChatRecentMessageCache recentCache;
+    private ChatMessageWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        messagingTemplate = mock(SimpMessagingTemplate.class);
+        recentCache = mock(ChatRecentMessageCache.class);
+
+        // 문제 메시지가 들어간 INSERT 는 제약 위반
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenAnswer(inv -> {
+            Object[] args = inv.getArgument(1);
+            if (Arrays.asList(args).contains(BAD)) throw new DataIntegrityViolationException("constraint");
+            return args.length / 5;
+        });
+
+        TransactionTemplate tx = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        // batch-size 3, 대기 넉넉히 → 아래 3건이 한 배치로 묶임
+        writer = new ChatMessageWriter(jdbcTemplate, tx, messagingTemplate, recentCache, new SimpleMeterRegistry(),
+                "1", BrokerMode.SIMPLE, 3, 2_000, 100);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writer.shutdown();
+    }
+
+    @Test
+    void 다건_INSERT_실패_시_문제_건만_실패() throws Exception {
+        CompletableFuture<ChatMessageResponseDto> ok1 = writer.submit(10L, 1L, true, "m@x", "s@x", "hello");
+        CompletableFuture<ChatMessageResponseDto> bad = writer.submit(10L, 1L, true, "m@x", "s@x", BAD);
+        CompletableFuture<ChatMessageResponseDto> ok2 = writer.submit(20L, 2L, false, "s@x", "m@x", "world");
+
+        ChatMessageResponseDto first = ok1.get(5, TimeUnit.SECONDS);
+        ChatMessageResponseDto second = ok2.get(5, TimeUnit.SECONDS);
+        assertThatThrownBy(() -> bad.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(DataIntegrityViolationException.class);
+
+        assertThat(first.message()).isEqualTo("hello");
+        assertThat(second.message()).isEqualTo("world");
+        assertThat(second.id()).isGreaterThan(first.id()); // 대기열 순 = id 순
+
+        // 다건 1회 실패 + 건별 3회
+        verify(jdbcTemplate, times(4)).update(anyString(), any(Object[].class));
+        verify(recentCache, times(2)).append(any());
+        verify(recentCache, never()).append(argThat(m -> BAD.equals(m.message())));
+        verify(messagingTemplate, never()).convertAndSendToUser(anyString(), eq("/queue/messages"),
+                argThat(m -> m instanceof ChatMessageResponseDto d && BAD.equals(d.message())));
+    }
+
+    @Test
+    void 접수_순서대로_id_부여() throws Exception {
+        List<CompletableFuture<ChatMessageResponseDto>> futures = List.of(
+                writer.submit(1L, 1L, true, "a@x", "b@x", "1"),
+                writer.submit(2L, 1L, true, "a@x", "b@x", "2"),
+                writer.submit(1L, 1L, true, "a@x", "b@x", "3"));
+        long prev = Long.MIN_VALUE;
+        for (CompletableFuture<ChatMessageResponseDto> f : futures) {
+            long id = f.get(5, TimeUnit.SECONDS).id();
+            assertThat(id).isGreaterThan(prev);
+            prev = id;
+        }
+        verify(jdbcTemplate, atLeast(1)).update(anyString(), any(Object[].class));
+    }
+
+    @Test
+    void RELAY_모드에서_node_id_미설정이면_기동_실패() {
+        assertThatThrownBy(() -> ChatMessageWriter.resolveNodeId("", BrokerMode.RELAY))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> ChatMessageWriter.resolveNodeId(null, BrokerMode.RELAY))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(ChatMessageWriter.resolveNodeId("", BrokerMode.SIMPLE)).isZero();
+        assertThat(ChatMessageWriter.resolveNodeId(" 7 ", BrokerMode.RELAY)).isEqualTo(7);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.ei_backend.service;
+
+import com.example.ei_backend.repository.ChatMessageRepository;
+import com.example.ei_backend.websocket.WebSocketProperties.BrokerMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class ChatRecentMessageCacheTest {
+
+    @Test
+    void RELAY_모드에서는_설정과_무관하게_캐시_비활성() {
+        assertThat(ChatRecentMessageCache.resolveEnabled(true, BrokerMode.RELAY)).isFalse();
+        assertThat(ChatRecentMessageCache.resolveEnabled(false, BrokerMode.RELAY)).isFalse();
+        assertThat(ChatRecentMessageCache.resolveEnabled(true, BrokerMode.SIMPLE)).isTrue();
+        assertThat(ChatRecentMessageCache.resolveEnabled(false, BrokerMode.SIMPLE)).isFalse();
+    }
+
+    @Test
+    void RELAY_모드면_조회는_항상_DB_경로로() {
+        ChatMessageRepository repository = mock(ChatMessageRepository.class);
+        ChatRecentMessageCache cache = new ChatRecentMessageCache(repository, mock(ChatMessageArchive.class),
+                new SimpleMeterRegistry(), 200, 64, true, BrokerMode.RELAY);
+
+        assertThat(cache.latest(1L, 20)).isEmpty();
+        assertThat(cache.after(1L, 0L, 20)).isEmpty();
+        verifyNoInteractions(repository);
+    }
+}
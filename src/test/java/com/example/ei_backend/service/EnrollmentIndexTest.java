@@ -0,0 +1,96 @@
+package com.example.ei_backend.service;
+
+import com.example.ei_backend.repository.UserCourseRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EnrollmentIndexTest {
+
+    private static final Long USER = 1L;
+
+    private UserCourseRepository userCourseRepository;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        userCourseRepository = mock(UserCourseRepository.class);
+        registry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void 로딩_중_등록되면_로딩_결과를_설치하지_않고_다음_조회에서_다시_로딩() {
+        EnrollmentIndex index = new EnrollmentIndex(userCourseRepository, registry, 100, 600);
+        // 첫 로딩 조회가 끝나기 전에 코스 9 등록이 반영됨 → 조회 결과에는 9 가 없음
+        when(userCourseRepository.findCourseIdsByUserId(USER))
+                .thenAnswer(inv -> {
+                    index.onEnrolled(USER, 9L);
+                    return List.of(1L);
+                })
+                .thenReturn(List.of(1L, 9L));
+
+        assertThat(index.isEnrolled(USER, 1L)).isTrue();
+        assertThat(index.isEnrolled(USER, 9L)).isTrue();
+
+        verify(userCourseRepository, times(2)).findCourseIdsByUserId(USER);
+        verify(userCourseRepository, never()).existsByUserIdAndCourseId(USER, 9L);
+    }
+
+    @Test
+    void 등록_반영_후에는_DB_조회_없이_인덱스에서_확인() {
+        EnrollmentIndex index = new EnrollmentIndex(userCourseRepository, registry, 100, 600);
+        when(userCourseRepository.findCourseIdsByUserId(USER)).thenReturn(List.of(3L));
+
+        assertThat(index.isEnrolled(USER, 3L)).isTrue();
+        index.onEnrolled(USER, 5L);
+        assertThat(index.isEnrolled(USER, 5L)).isTrue();
+
+        verify(userCourseRepository, times(1)).findCourseIdsByUserId(USER);
+        verify(userCourseRepository, never()).existsByUserIdAndCourseId(USER, 5L);
+    }
+
+    @Test
+    void ttl_이_지나면_다시_로딩() throws InterruptedException {
+        EnrollmentIndex index = new EnrollmentIndex(userCourseRepository, registry, 100, 1);
+        when(userCourseRepository.findCourseIdsByUserId(USER))
+                .thenReturn(List.of(1L))
+                .thenReturn(List.of());
+
+        assertThat(index.isEnrolled(USER, 1L)).isTrue();
+        assertThat(index.isEnrolled(USER, 1L)).isTrue();
+        verify(userCourseRepository, times(1)).findCourseIdsByUserId(USER);
+
+        Thread.sleep(1_100);
+
+        // 재로딩 결과 수강 취소됨 → DB 확인에서도 없음
+        assertThat(index.isEnrolled(USER, 1L)).isFalse();
+        verify(userCourseRepository, times(2)).findCourseIdsByUserId(USER);
+        assertThat(registry.get("enrollment.index").tag("result", "load").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void 인덱스에_없으면_DB_로_확인하고_있으면_반영() {
+        EnrollmentIndex index = new EnrollmentIndex(userCourseRepository, registry, 100, 600);
+        when(userCourseRepository.findCourseIdsByUserId(USER)).thenReturn(List.of());
+        // 다른 인스턴스에서 막 등록된 수강
+        when(userCourseRepository.existsByUserIdAndCourseId(USER, 4L)).thenReturn(true);
+
+        assertThat(index.isEnrolled(USER, 4L)).isTrue();
+        assertThat(index.isEnrolled(USER, 4L)).isTrue();
+        assertThat(index.isEnrolled(USER, 6L)).isFalse();
+
+        verify(userCourseRepository, times(1)).existsByUserIdAndCourseId(USER, 4L);
+        verify(userCourseRepository, times(1)).existsByUserIdAndCourseId(USER, 6L);
+        verify(userCourseRepository, times(1)).findCourseIdsByUserId(USER);
+        assertThat(registry.get("enrollment.index").tag("result", "db_check").counter().count()).isEqualTo(2.0);
+    }
+}
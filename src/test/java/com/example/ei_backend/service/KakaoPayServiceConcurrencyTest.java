@@ -0,0 +1,188 @@
+package com.example.ei_backend.service;
+
+import com.example.ei_backend.domain.dto.KakaoPayApproveResponseDto;
+import com.example.ei_backend.domain.entity.Course;
+import com.example.ei_backend.domain.entity.PaymentStatus;
+import com.example.ei_backend.domain.entity.PendingPayment;
+import com.example.ei_backend.domain.entity.User;
+import com.example.ei_backend.exception.CustomException;
+import com.example.ei_backend.exception.ErrorCode;
+import com.example.ei_backend.payment.KakaoPayClient;
+import com.example.ei_backend.payment.KakaoPayProperties;
+import com.example.ei_backend.payment.PaymentGatewayException;
+import com.example.ei_backend.repository.CourseRepository;
+import com.example.ei_backend.repository.PaymentRepository;
+import com.example.ei_backend.repository.PendingPaymentRepository;
+import com.example.ei_backend.repository.UserCourseRepository;
+import com.example.ei_backend.repository.UserRepository;
+import com.example.ei_backend.util.AppFrontProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 같은 주문에 승인 요청이 몰려도 PG 승인은 1번만 호출되고 모든 요청이 같은 결과를 받는지 확인.
+ * 인스턴스 2개가 주문 상태(조건부 UPDATE)를 공유 → 인스턴스 내 합류와 인스턴스 간 선점을 함께 검증.
+ */
+class KakaoPayServiceConcurrencyTest {
+
+    private static final String ORDER_ID = "order-1";
+    private static final String EMAIL = "buyer@x";
+    private static final int AMOUNT = 33_000;
+    private static final int REQUESTS = 100;
+
+    /** pending_payment 한 행 흉내 (status / approve_result) */
+    private final AtomicReference<PaymentStatus> status = new AtomicReference<>(PaymentStatus.READY);
+    private final AtomicReference<String> approveResult = new AtomicReference<>();
+
+    private KakaoPayClient kakaoPayClient;
+    private ExecutorService pool;
+    private KakaoPayService first;
+    private KakaoPayService second;
+
+    @BeforeEach
+    void setUp() {
+        PendingPayment pending = PendingPayment.builder()
+                .orderId(ORDER_ID)
+                .tid("T-1")
+                .userEmail(EMAIL)
+                .courseId(7L)
+                .amount(AMOUNT)
+                .status(PaymentStatus.READY)
+                .build();
+
+        PendingPaymentRepository pendingPaymentRepository = mock(PendingPaymentRepository.class);
+        when(pendingPaymentRepository.findByOrderId(ORDER_ID)).thenReturn(Optional.of(pending));
+        when(pendingPaymentRepository.transition(eq(ORDER_ID), any(), any(), any())).thenAnswer(inv ->
+                status.compareAndSet(inv.getArgument(1), inv.getArgument(2)) ? 1 : 0);
+        when(pendingPaymentRepository.completeApproval(eq(ORDER_ID), anyString(), any())).thenAnswer(inv -> {
+            if (!status.compareAndSet(PaymentStatus.APPROVING, PaymentStatus.APPROVED)) return 0;
+            approveResult.set(inv.getArgument(1));
+            return 1;
+        });
+        when(pendingPaymentRepository.findStatusByOrderId(ORDER_ID)).thenAnswer(inv -> Optional.of(status.get()));
+        when(pendingPaymentRepository.findApproveResultByOrderId(ORDER_ID))
+                .thenAnswer(inv -> Optional.ofNullable(approveResult.get()));
+
+        User user = mock(User.class);
+        when(user.getId()).thenReturn(1L);
+        Course course = mock(Course.class);
+        when(course.getId()).thenReturn(7L);
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        CourseRepository courseRepository = mock(CourseRepository.class);
+        when(courseRepository.findById(7L)).thenReturn(Optional.of(course));
+        EnrollmentIndex enrollmentIndex = mock(EnrollmentIndex.class);
+        when(enrollmentIndex.isEnrolled(anyLong(), anyLong())).thenReturn(false);
+
+        // PG 응답을 늦춰 나머지 요청이 승인 진행 중에 도착하도록 함
+        kakaoPayClient = mock(KakaoPayClient.class);
+        when(kakaoPayClient.approve(any())).thenAnswer(inv -> {
+            Thread.sleep(300);
+            KakaoPayApproveResponseDto.Amount amount = new KakaoPayApproveResponseDto.Amount();
+            amount.setTotal(AMOUNT);
+            KakaoPayApproveResponseDto body = new KakaoPayApproveResponseDto();
+            body.setTid("T-1");
+            body.setAmount(amount);
+            body.setApprovedAt("2026-01-01T10:00:00");
+            return body;
+        });
+
+        KakaoPayProperties clientProps = new KakaoPayProperties();
+        clientProps.setApproveWait(Duration.ofSeconds(10));
+        TransactionTemplate tx = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+        UserCourseRepository userCourseRepository = mock(UserCourseRepository.class);
+        PaymentRepository paymentRepository = mock(PaymentRepository.class);
+        CourseProgressSummaryService progressSummaryService = mock(CourseProgressSummaryService.class);
+        AppFrontProperties frontProps = mock(AppFrontProperties.class);
+
+        first = new KakaoPayService(userRepository, courseRepository, userCourseRepository, progressSummaryService,
+                enrollmentIndex, pendingPaymentRepository, paymentRepository, frontProps, kakaoPayClient, tx, clientProps);
+        second = new KakaoPayService(userRepository, courseRepository, userCourseRepository, progressSummaryService,
+                enrollmentIndex, pendingPaymentRepository, paymentRepository, frontProps, kakaoPayClient, tx, clientProps);
+
+        pool = Executors.newFixedThreadPool(REQUESTS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void 동시_승인_100건이면_PG_승인은_1번이고_결과는_모두_같다() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            KakaoPayService service = i % 2 == 0 ? first : second;
+            results.add(pool.submit(() -> {
+                start.await();
+                return service.approve(ORDER_ID, "pg-token", EMAIL, 1L);
+            }));
+        }
+        start.countDown();
+
+        List<String> bodies = new ArrayList<>(REQUESTS);
+        for (Future<String> f : results) {
+            bodies.add(f.get(15, TimeUnit.SECONDS));
+        }
+
+        verify(kakaoPayClient, times(1)).approve(any());
+        assertThat(status.get()).isEqualTo(PaymentStatus.APPROVED);
+        assertThat(bodies).hasSize(REQUESTS).containsOnly("{\"message\":\"approved\",\"tid\":\"T-1\"}");
+    }
+
+    @Test
+    void 전송_후_실패는_결과_불명으로_APPROVING_유지() {
+        for (PaymentGatewayException e : List.of(
+                new PaymentGatewayException("approve", PaymentGatewayException.Kind.IO_ERROR, null, null, null),
+                new PaymentGatewayException("approve", PaymentGatewayException.Kind.PARSE_ERROR, 200, "{", null),
+                new PaymentGatewayException("approve", PaymentGatewayException.Kind.HTTP_ERROR, 502, "", null))) {
+            status.set(PaymentStatus.READY);
+            doThrow(e).when(kakaoPayClient).approve(any());
+
+            assertThatThrownBy(() -> first.approve(ORDER_ID, "pg-token", EMAIL, 1L))
+                    .isInstanceOf(CustomException.class)
+                    .satisfies(ex -> assertThat(((CustomException) ex).getErrorCode())
+                            .isEqualTo(ErrorCode.PAYMENT_IN_PROGRESS));
+            // 대사 작업이 PG 주문 조회로 확정하도록 APPROVING 에 남김
+            assertThat(status.get()).isEqualTo(PaymentStatus.APPROVING);
+        }
+    }
+
+    @Test
+    void PG_4xx_거절만_FAILED_로_종결() {
+        doThrow(new PaymentGatewayException("approve", PaymentGatewayException.Kind.HTTP_ERROR, 400, "{}", null))
+                .when(kakaoPayClient).approve(any());
+
+        assertThatThrownBy(() -> first.approve(ORDER_ID, "pg-token", EMAIL, 1L))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(status.get()).isEqualTo(PaymentStatus.FAILED);
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.ei_backend.service;
+
+import com.example.ei_backend.domain.dto.lecture.LectureSummaryDto;
+import com.example.ei_backend.domain.entity.Course;
+import com.example.ei_backend.domain.entity.Lecture;
+import com.example.ei_backend.domain.entity.LectureProgress;
+import com.example.ei_backend.domain.entity.User;
+import com.example.ei_backend.domain.entity.VideoAsset;
+import com.example.ei_backend.mapper.LectureMapper;
+import com.example.ei_backend.repository.CourseRepository;
+import com.example.ei_backend.repository.LectureProgressRepository;
+import com.example.ei_backend.repository.LectureRepository;
+import com.example.ei_backend.repository.UserCourseRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 수강생 강의 목록(listForUser) 쿼리 수 회귀 테스트: 강의 1개와 50개에서 실행 SQL 수가 같아야 한다.
+ * 스키마가 MySQL 전용이라 H2 대신 Testcontainers MySQL 사용 (Docker 가 없으면 건너뜀).
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class LectureQueryServiceQueryCountTest {
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>(DockerImageName.parse("mysql:8.0"));
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("spring.datasource.driver-class-name", MYSQL::getDriverClassName);
+    }
+
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private LectureRepository lectureRepository;
+    @Autowired
+    private LectureProgressRepository progressRepository;
+    @Autowired
+    private UserCourseRepository userCourseRepository;
+
+    private LectureQueryService service;
+    private Statistics statistics;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        CurriculumReadModel readModel =
+                new CurriculumReadModel(courseRepository, lectureRepository, new SimpleMeterRegistry(), 10, 60);
+        service = new LectureQueryService(lectureRepository, progressRepository, userCourseRepository,
+                mock(LectureMapper.class), mock(ProgressWriteBehindBuffer.class), readModel);
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void 강의_수와_무관하게_쿼리_수가_같다() {
+        User user = User.builder().email("count@x").password("pw").name("수강생").build();
+        em.persist(user);
+        Long one = courseWithLectures(user, 1);
+        Long fifty = courseWithLectures(user, 50);
+        userId = user.getId();
+        em.flush();
+        em.clear();
+
+        // 첫 조회: 코스 1 + 강의/영상 1 + 진도 1
+        long coldOne = statementsFor(one);
+        long coldFifty = statementsFor(fifty);
+        assertThat(coldOne).isEqualTo(3);
+        assertThat(coldFifty).isEqualTo(coldOne);
+
+        // 커리큘럼 캐시 적중 이후: 진도 1
+        assertThat(statementsFor(one)).isEqualTo(1);
+        assertThat(statementsFor(fifty)).isEqualTo(1);
+
+        List<LectureSummaryDto> lectures = service.listForUser(userId, fifty);
+        assertThat(lectures).hasSize(50);
+        assertThat(lectures).allSatisfy(l -> assertThat(l.getProgress()).isEqualTo(0.5));
+    }
+
+    /* ===================== 내부 ===================== */
+
+    private long statementsFor(Long courseId) {
+        statistics.clear();
+        service.listForUser(userId, courseId);
+        return statistics.getPrepareStatementCount();
+    }
+
+    /** 강의마다 READY 영상 + 절반 시청 진도 */
+    private Long courseWithLectures(User user, int count) {
+        Course course = Course.builder().title("코스 " + count).price(1000).build();
+        em.persist(course);
+        for (int i = 0; i < count; i++) {
+            Lecture lecture = Lecture.create(course, "강의 " + i, null, i, true);
+            VideoAsset video = VideoAsset.of("videos/" + count + "-" + i + ".mp4");
+            video.markReady("https://cdn.example.com/videos/" + count + "-" + i + ".mp4", 100, 1_000L);
+            lecture.attachVideo(video);
+            em.persist(lecture);
+
+            LectureProgress progress = LectureProgress.start(user, lecture);
+            progress.updateWatched(50, 100, 0.9);
+            em.persist(progress);
+        }
+        return course.getId();
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.ei_backend.service;
+
+import com.example.ei_backend.domain.dto.lecture.CourseProgressWithLectureDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ProgressBroadcasterTest {
+
+    private static final long INTERVAL_MS = 300;
+    private static final String USER = "user@x";
+
+    private SimpMessagingTemplate broker;
+    private SimpleMeterRegistry registry;
+    private ProgressBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broker = mock(SimpMessagingTemplate.class);
+        registry = new SimpleMeterRegistry();
+        broadcaster = new ProgressBroadcaster(broker, registry, INTERVAL_MS);
+    }
+
+    @Test
+    void 구간_안의_갱신은_1프레임만_즉시_전송하고_나머지는_최신값으로_합침() {
+        for (int i = 1; i <= 5; i++) {
+            broadcaster.publish(USER, progress(10L, i * 10));
+        }
+        broadcaster.flushDue(); // 구간이 끝나기 전 → 전송 없음
+
+        CourseProgressWithLectureDto first = sentFrames(1)[0];
+        assertThat(first.getCourseProgress()).isEqualTo(10.0);
+        assertThat(registry.get("progress.broadcast").tag("result", "coalesced").counter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    void 구간이_끝나면_마지막_상태로_trailing_프레임_전송() throws InterruptedException {
+        for (int i = 1; i <= 5; i++) {
+            broadcaster.publish(USER, progress(10L, i * 10));
+        }
+        Thread.sleep(INTERVAL_MS + 50);
+        broadcaster.flushDue();
+        broadcaster.flushDue(); // 대기분이 없으면 다시 보내지 않음
+
+        CourseProgressWithLectureDto[] frames = sentFrames(2);
+        assertThat(frames[0].getCourseProgress()).isEqualTo(10.0);
+        assertThat(frames[1].getCourseProgress()).isEqualTo(50.0);
+    }
+
+    @Test
+    void trailing_전송_직후의_갱신도_다음_구간까지_대기() throws InterruptedException {
+        broadcaster.publish(USER, progress(10L, 10));
+        broadcaster.publish(USER, progress(10L, 20));
+        Thread.sleep(INTERVAL_MS + 50);
+        broadcaster.flushDue();
+        clearInvocations(broker);
+
+        broadcaster.publish(USER, progress(10L, 30));
+        verify(broker, never()).convertAndSendToUser(anyString(), anyString(), any(Object.class));
+
+        Thread.sleep(INTERVAL_MS + 50);
+        broadcaster.flushDue();
+        assertThat(sentFrames(1)[0].getCourseProgress()).isEqualTo(30.0);
+    }
+
+    @Test
+    void 코스가_다르면_각자_구간을_가짐() {
+        broadcaster.publish(USER, progress(10L, 10));
+        broadcaster.publish(USER, progress(20L, 10));
+        broadcaster.publish("other@x", progress(10L, 10));
+
+        verify(broker, times(2)).convertAndSendToUser(eq(USER), eq(ProgressBroadcaster.DESTINATION), any(Object.class));
+        verify(broker, times(1)).convertAndSendToUser(eq("other@x"), eq(ProgressBroadcaster.DESTINATION), any(Object.class));
+    }
+
+    /* ===================== 내부 ===================== */
+
+    private CourseProgressWithLectureDto[] sentFrames(int expected) {
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(broker, times(expected)).convertAndSendToUser(eq(USER), eq(ProgressBroadcaster.DESTINATION), captor.capture());
+        return captor.getAllValues().toArray(new CourseProgressWithLectureDto[0]);
+    }
+
+    private static CourseProgressWithLectureDto progress(Long courseId, double courseProgress) {
+        return new CourseProgressWithLectureDto(courseId, courseProgress, 0, 10, 100L, courseProgress, false);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.ei_backend.service;
+
+import com.example.ei_backend.repository.LectureProgressRepository;
+import com.example.ei_backend.repository.LectureRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProgressWriteBehindBufferTest {
+
+    private static final Long USER = 1L;
+    private static final Long COURSE = 10L;
+    private static final Long LECTURE = 100L;
+
+    private JdbcTemplate jdbcTemplate;
+    private ProgressWriteBehindBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        LectureRepository lectureRepository = mock(LectureRepository.class);
+        LectureRepository.LectureMeta meta = mock(LectureRepository.LectureMeta.class);
+        when(meta.getCourseId()).thenReturn(COURSE);
+        when(meta.getDurationSec()).thenReturn(100);
+        when(lectureRepository.findMetaById(LECTURE)).thenReturn(Optional.of(meta));
+
+        buffer = new ProgressWriteBehindBuffer(jdbcTemplate, lectureRepository, mock(LectureProgressRepository.class),
+                new SimpleMeterRegistry(), 0.9, 500, 600);
+    }
+
+    @Test
+    void 재로딩_전_기록이_실패하면_버퍼_값을_dirty_로_유지하고_다음_flush_에서_기록() {
+        buffer.apply(USER, LECTURE, 30, false);
+        buffer.invalidateCurriculumAfterCommit(); // 다음 하트비트에서 dirty 항목 기록 후 재로딩
+
+        TransientDataAccessResourceException down = new TransientDataAccessResourceException("db down");
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(down);
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenThrow(down);
+
+        assertThatThrownBy(() -> buffer.apply(USER, LECTURE, 40, false))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(buffer.findWatchedSec(USER, LECTURE)).isEqualTo(30);
+
+        // DB 복구 후 주기 flush 가 남아 있던 값을 기록
+        reset(jdbcTemplate);
+        buffer.flushAll();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture());
+        assertThat(rows.getValue()).hasSize(1);
+        assertThat(rows.getValue().get(0)[2]).isEqualTo(30);
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.ei_backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** HashMap 과 같은 연산을 무작위로 번갈아 적용해 결과 비교 (차등 테스트) */
+class LongLongHashMapTest {
+
+    private static final long MISSING = Long.MIN_VALUE;
+
+    @Test
+    void 좁은_키_범위_무작위_연산이_HashMap_과_같음() {
+        // 키 범위를 좁혀 충돌/삭제 후 당겨 채우기(backward shift)가 자주 일어나게 함
+        for (long seed = 1; seed <= 20; seed++) {
+            differential(new SplittableRandom(seed), 200_000, true);
+        }
+    }
+
+    @Test
+    void 넓은_키_범위_무작위_연산이_HashMap_과_같음() {
+        for (long seed = 100; seed < 105; seed++) {
+            differential(new SplittableRandom(seed), 200_000, false);
+        }
+    }
+
+    @Test
+    void 복사본은_원본과_독립() {
+        LongLongHashMap original = new LongLongHashMap(4);
+        for (long k = 1; k <= 100; k++) original.put(k, k * 10);
+
+        LongLongHashMap copy = original.copy();
+        copy.put(1, -1);
+        copy.remove(2);
+        copy.put(1_000, 1);
+
+        assertThat(original.get(1, MISSING)).isEqualTo(10);
+        assertThat(original.get(2, MISSING)).isEqualTo(20);
+        assertThat(original.containsKey(1_000)).isFalse();
+        assertThat(original.size()).isEqualTo(100);
+        assertThat(copy.size()).isEqualTo(100);
+    }
+
+    @Test
+    void 키_0_은_사용할_수_없음() {
+        LongLongHashMap map = new LongLongHashMap(0);
+        assertThatThrownBy(() -> map.put(0, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(map.get(0, MISSING)).isEqualTo(MISSING);
+        assertThat(map.containsKey(0)).isFalse();
+        assertThat(map.remove(0)).isFalse();
+    }
+
+    /** narrow 면 1~512 키만 사용 */
+    private static void differential(SplittableRandom rnd, int ops, boolean narrow) {
+        LongLongHashMap map = new LongLongHashMap(rnd.nextInt(0, 64));
+        Map<Long, Long> expected = new HashMap<>();
+        List<Long> seen = new ArrayList<>();
+
+        for (int i = 0; i < ops; i++) {
+            long key = nextKey(rnd, narrow, seen);
+            switch (rnd.nextInt(10)) {
+                case 0, 1, 2, 3 -> {
+                    long value = rnd.nextLong();
+                    map.put(key, value);
+                    expected.put(key, value);
+                    seen.add(key);
+                }
+                case 4, 5, 6 -> assertThat(map.remove(key)).isEqualTo(expected.remove(key) != null);
+                case 7, 8 -> assertThat(map.get(key, MISSING)).isEqualTo(expected.getOrDefault(key, MISSING));
+                default -> assertThat(map.containsKey(key)).isEqualTo(expected.containsKey(key));
+            }
+            assertThat(map.size()).isEqualTo(expected.size());
+        }
+        for (Map.Entry<Long, Long> e : expected.entrySet()) {
+            assertThat(map.get(e.getKey(), MISSING)).isEqualTo(e.getValue());
+        }
+    }
+
+    private static long nextKey(SplittableRandom rnd, boolean narrow, List<Long> seen) {
+        if (narrow) return rnd.nextLong(1, 513);
+        // 절반은 이미 넣은 키 재사용 (삭제/갱신 경로), 나머지는 음수 포함 임의 키
+        if (!seen.isEmpty() && rnd.nextBoolean()) return seen.get(rnd.nextInt(seen.size()));
+        long k = rnd.nextLong();
+        return k == 0 ? 1 : k;
+    }
+}
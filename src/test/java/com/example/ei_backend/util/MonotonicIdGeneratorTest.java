@@ -0,0 +1,103 @@
+package com.example.ei_backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MonotonicIdGeneratorTest {
+
+    private static final long BASE = 1_760_000_000_000L; // 2025-10
+
+    @Test
+    void 동시_발급해도_중복_없고_스레드별로_증가() throws Exception {
+        MonotonicIdGenerator gen = new MonotonicIdGenerator(3);
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(pool.submit((Callable<long[]>) () -> {
+                    start.await();
+                    long[] ids = new long[perThread];
+                    for (int i = 0; i < perThread; i++) ids[i] = gen.nextId();
+                    return ids;
+                }));
+            }
+            start.countDown();
+
+            Set<Long> all = new HashSet<>();
+            for (Future<long[]> f : futures) {
+                long[] ids = f.get();
+                for (int i = 0; i < ids.length; i++) {
+                    if (i > 0) assertThat(ids[i]).isGreaterThan(ids[i - 1]);
+                    all.add(ids[i]);
+                }
+            }
+            assertThat(all).hasSize(threads * perThread);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void 시계가_뒤로_가도_계속_증가() {
+        AtomicLong clock = new AtomicLong(BASE);
+        MonotonicIdGenerator gen = new MonotonicIdGenerator(1, clock::get);
+
+        long before = gen.nextId();
+        clock.set(BASE - 5_000); // NTP 보정 등으로 5초 역행
+        long afterRollback = gen.nextId();
+        long next = gen.nextId();
+        clock.set(BASE + 1);
+        long recovered = gen.nextId();
+
+        assertThat(afterRollback).isGreaterThan(before);
+        assertThat(next).isGreaterThan(afterRollback);
+        assertThat(recovered).isGreaterThan(next);
+    }
+
+    @Test
+    void ms_당_순번을_넘기면_다음_ms_로_넘어감() {
+        MonotonicIdGenerator gen = new MonotonicIdGenerator(0, () -> BASE); // 시계 고정
+        long prev = gen.nextId();
+        for (int i = 0; i < 1_000; i++) {
+            long id = gen.nextId();
+            assertThat(id).isGreaterThan(prev);
+            prev = id;
+        }
+    }
+
+    @Test
+    void 노드_번호가_id_에_들어가_노드_간_충돌_없음() {
+        MonotonicIdGenerator a = new MonotonicIdGenerator(1, () -> BASE);
+        MonotonicIdGenerator b = new MonotonicIdGenerator(2, () -> BASE);
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < 500; i++) {
+            ids.add(a.nextId());
+            ids.add(b.nextId());
+        }
+        assertThat(ids).hasSize(1_000);
+    }
+
+    @Test
+    void 노드_범위_밖이면_거부() {
+        assertThatThrownBy(() -> new MonotonicIdGenerator(MonotonicIdGenerator.MAX_NODE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new MonotonicIdGenerator(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
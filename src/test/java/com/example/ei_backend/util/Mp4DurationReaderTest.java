@@ -0,0 +1,162 @@
+package com.example.ei_backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.OptionalInt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class Mp4DurationReaderTest {
+
+    private static final byte[] FTYP = box("ftyp", "isom".getBytes(StandardCharsets.US_ASCII), new byte[12]);
+
+    @Test
+    void mvhd_v0_의_재생_길이() throws IOException {
+        byte[] file = concat(FTYP, moov(mvhdV0(1_000, 125_400)));
+
+        Mp4DurationReader.Result result = Mp4DurationReader.read(new ArraySource(file, 0, new byte[0]), 4 * 1024);
+
+        assertThat(result.durationSec()).isEqualTo(OptionalInt.of(125));
+        assertThat(result.reads()).isEqualTo(1);
+    }
+
+    @Test
+    void mvhd_v1_의_64bit_duration() throws IOException {
+        // 32bit 를 넘는 duration (90kHz 로 100000초)
+        byte[] file = concat(FTYP, moov(mvhdV1(90_000, 90_000L * 100_000)));
+
+        Mp4DurationReader.Result result = Mp4DurationReader.read(new ArraySource(file, 0, new byte[0]), 4 * 1024);
+
+        assertThat(result.durationSec()).isEqualTo(OptionalInt.of(100_000));
+    }
+
+    @Test
+    void moov_가_끝에_있으면_mdat_본문은_건너뛴다() throws IOException {
+        int payload = 1_000_000;
+        byte[] head = concat(FTYP, header(8 + payload, "mdat"));
+        byte[] tail = moov(mvhdV0(600, 600 * 42));
+
+        Mp4DurationReader.Result result = Mp4DurationReader.read(new ArraySource(head, payload, tail), 4 * 1024);
+
+        assertThat(result.durationSec()).isEqualTo(OptionalInt.of(42));
+        assertThat(result.reads()).isEqualTo(2);
+        assertThat(result.bytesRead()).isLessThan(16 * 1024L);
+    }
+
+    @Test
+    void largesize_mdat_뒤의_moov() throws IOException {
+        // 4GB 를 넘는 mdat (size=1 + 64bit largesize), 본문은 읽지 않으므로 실제로 만들지 않음
+        long payload = 5L * 1024 * 1024 * 1024;
+        ByteBuffer mdat = ByteBuffer.allocate(16).putInt(1).put(ascii("mdat")).putLong(16 + payload);
+        byte[] head = concat(FTYP, mdat.array());
+        byte[] tail = moov(mvhdV1(1_000, 3_723_000));
+
+        Mp4DurationReader.Result result = Mp4DurationReader.read(new ArraySource(head, payload, tail), 4 * 1024);
+
+        assertThat(result.durationSec()).isEqualTo(OptionalInt.of(3_723));
+        assertThat(result.bytesRead()).isLessThan(16 * 1024L);
+    }
+
+    @Test
+    void moov_가_없거나_duration_을_알_수_없으면_empty() throws IOException {
+        byte[] noMoov = concat(FTYP, box("free", new byte[32]));
+        byte[] unknown = concat(FTYP, moov(mvhdV0(1_000, 0xFFFFFFFFL)));
+
+        assertThat(Mp4DurationReader.read(new ArraySource(noMoov, 0, new byte[0]), 4 * 1024).durationSec())
+                .isEqualTo(OptionalInt.empty());
+        assertThat(Mp4DurationReader.read(new ArraySource(unknown, 0, new byte[0]), 4 * 1024).durationSec())
+                .isEqualTo(OptionalInt.empty());
+    }
+
+    @Test
+    void mvhd_가_잘려_있으면_IOException() {
+        byte[] whole = concat(FTYP, moov(mvhdV0(1_000, 5_000)));
+
+        // mvhd 의 timescale 직전(48바이트)까지만 전달됨
+        assertThatThrownBy(() -> Mp4DurationReader.read(new TruncatedSource(whole, 48), 64))
+                .isInstanceOf(IOException.class);
+    }
+
+    /* ===================== 픽스처 ===================== */
+
+    /** head + (gap 만큼의 0) + tail 로 이뤄진 가상 파일 (gap 은 메모리에 만들지 않음) */
+    private record ArraySource(byte[] head, long gap, byte[] tail) implements Mp4DurationReader.RangeSource {
+        @Override
+        public long size() {
+            return head.length + gap + tail.length;
+        }
+
+        @Override
+        public byte[] read(long offset, int length) {
+            int n = (int) Math.max(0, Math.min(length, size() - offset));
+            byte[] out = new byte[n];
+            long tailStart = head.length + gap;
+            for (int i = 0; i < n; i++) {
+                long p = offset + i;
+                if (p < head.length) out[i] = head[(int) p];
+                else if (p >= tailStart) out[i] = tail[(int) (p - tailStart)];
+            }
+            return out;
+        }
+    }
+
+    /** size 는 원본 길이로 알리지만 실제로는 available 바이트까지만 돌려주는 소스 (전송 중 끊김) */
+    private record TruncatedSource(byte[] data, int available) implements Mp4DurationReader.RangeSource {
+        @Override
+        public long size() {
+            return data.length;
+        }
+
+        @Override
+        public byte[] read(long offset, int length) {
+            int n = (int) Math.max(0, Math.min(length, available - offset));
+            byte[] out = new byte[n];
+            System.arraycopy(data, (int) offset, out, 0, n);
+            return out;
+        }
+    }
+
+    private static byte[] moov(byte[] mvhd) {
+        return box("moov", mvhd, box("trak", new byte[24]));
+    }
+
+    private static byte[] mvhdV0(int timescale, long duration) {
+        ByteBuffer b = ByteBuffer.allocate(100);
+        b.putInt(0);                    // version 0 + flags
+        b.putInt(0).putInt(0);          // creation/modification
+        b.putInt(timescale).putInt((int) duration);
+        return box("mvhd", b.array());
+    }
+
+    private static byte[] mvhdV1(int timescale, long duration) {
+        ByteBuffer b = ByteBuffer.allocate(112);
+        b.putInt(1 << 24);              // version 1 + flags
+        b.putLong(0).putLong(0);        // creation/modification
+        b.putInt(timescale).putLong(duration);
+        return box("mvhd", b.array());
+    }
+
+    private static byte[] box(String type, byte[]... payloads) {
+        byte[] body = concat(payloads);
+        return concat(header(8 + body.length, type), body);
+    }
+
+    private static byte[] header(int size, String type) {
+        return ByteBuffer.allocate(8).putInt(size).put(ascii(type)).array();
+    }
+
+    private static byte[] ascii(String s) {
+        return s.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] p : parts) out.writeBytes(p);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.ei_backend.websocket;
+
+import com.example.ei_backend.domain.entity.User;
+import com.example.ei_backend.repository.UserRepository;
+import com.example.ei_backend.security.JwtPrincipalResolver;
+import com.example.ei_backend.security.JwtTokenProvider;
+import com.example.ei_backend.security.TokenVersionRegistry;
+import com.example.ei_backend.security.UserPrincipal;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.security.Principal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class JwtStompChannelInterceptorTest {
+
+    private static final String TOKEN = "access-token";
+    private static final String EMAIL = "user@x";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private UserRepository userRepository;
+    private TokenVersionRegistry tokenVersionRegistry;
+    private JwtStompChannelInterceptor interceptor;
+    private final MessageChannel channel = mock(MessageChannel.class);
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = mock(JwtTokenProvider.class);
+        userRepository = mock(UserRepository.class);
+        tokenVersionRegistry = mock(TokenVersionRegistry.class);
+        when(jwtTokenProvider.validateToken(TOKEN)).thenReturn(true);
+
+        JwtPrincipalResolver resolver = new JwtPrincipalResolver(jwtTokenProvider, userRepository, tokenVersionRegistry);
+        interceptor = new JwtStompChannelInterceptor(jwtTokenProvider, resolver);
+    }
+
+    @Test
+    void 핸드셰이크에서_인증된_세션은_토큰을_다시_검증하지_않음() {
+        Principal handshake = new UsernamePasswordAuthenticationToken(
+                new UserPrincipal(1L, EMAIL, List.of("ROLE_MEMBER")), null, List.of());
+
+        Message<?> result = interceptor.preSend(connect(handshake), channel);
+
+        assertThat(userOf(result)).isSameAs(handshake);
+        verifyNoInteractions(jwtTokenProvider, userRepository, tokenVersionRegistry);
+    }
+
+    @Test
+    void 클레임에_uid_ver_가_있으면_DB_조회_없이_principal_구성() {
+        when(jwtTokenProvider.parseClaims(TOKEN)).thenReturn(claims(1L, 3));
+        when(tokenVersionRegistry.isCurrent(1L, 3)).thenReturn(true);
+
+        Message<?> result = interceptor.preSend(connect(null), channel);
+
+        UserPrincipal principal = principalOf(result);
+        assertThat(principal.getUserId()).isEqualTo(1L);
+        assertThat(principal.getEmail()).isEqualTo(EMAIL);
+        assertThat(principal.getUser()).isNull();
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void 버전이_지난_토큰의_CONNECT_는_거절() {
+        when(jwtTokenProvider.parseClaims(TOKEN)).thenReturn(claims(1L, 2));
+        when(tokenVersionRegistry.isCurrent(1L, 2)).thenReturn(false);
+
+        assertThatThrownBy(() -> interceptor.preSend(connect(null), channel))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(userRepository, never()).findByEmail(any());
+    }
+
+    @Test
+    void uid_ver_없는_구버전_토큰은_이메일로_사용자_조회() {
+        when(jwtTokenProvider.parseClaims(TOKEN)).thenReturn(claims(null, null));
+        User user = mock(User.class);
+        when(user.getId()).thenReturn(7L);
+        when(user.getEmail()).thenReturn(EMAIL);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+
+        Message<?> result = interceptor.preSend(connect(null), channel);
+
+        UserPrincipal principal = principalOf(result);
+        assertThat(principal.getUserId()).isEqualTo(7L);
+        assertThat(principal.getUser()).isSameAs(user);
+        verify(tokenVersionRegistry, never()).isCurrent(any(), anyInt());
+    }
+
+    @Test
+    void 구버전_토큰이라도_사용자가_없으면_거절() {
+        when(jwtTokenProvider.parseClaims(TOKEN)).thenReturn(claims(null, null));
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> interceptor.preSend(connect(null), channel))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /* ===================== 내부 ===================== */
+
+    private static Message<byte[]> connect(Principal user) {
+        StompHeaderAccessor acc = StompHeaderAccessor.create(StompCommand.CONNECT);
+        acc.setNativeHeader("Authorization", "Bearer " + TOKEN);
+        if (user != null) acc.setUser(user);
+        acc.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], acc.getMessageHeaders());
+    }
+
+    private static Claims claims(Long userId, Integer version) {
+        Claims claims = Jwts.claims().setSubject(EMAIL);
+        claims.put("roles", List.of("ROLE_MEMBER"));
+        if (userId != null) claims.put(JwtTokenProvider.CLAIM_USER_ID, userId);
+        if (version != null) claims.put(JwtTokenProvider.CLAIM_TOKEN_VERSION, version);
+        return claims;
+    }
+
+    private static Principal userOf(Message<?> message) {
+        StompHeaderAccessor acc = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        assertThat(acc).isNotNull();
+        return acc.getUser();
+    }
+
+    private static UserPrincipal principalOf(Message<?> message) {
+        Principal user = userOf(message);
+        assertThat(user).isInstanceOf(UsernamePasswordAuthenticationToken.class);
+        return (UserPrincipal) ((UsernamePasswordAuthenticationToken) user).getPrincipal();
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.ei_backend.websocket;
+
+import com.example.ei_backend.config.WebSocketConfig;
+import com.example.ei_backend.security.JwtPrincipalResolver;
+import com.example.ei_backend.security.JwtTokenProvider;
+import com.example.ei_backend.security.UserPrincipal;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.websocket.servlet.WebSocketMessagingAutoConfiguration;
+import org.springframework.boot.autoconfigure.websocket.servlet.WebSocketServletAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.testcontainers.containers.RabbitMQContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * RELAY 모드 노드 간 전달 확인: RabbitMQ(STOMP) 하나에 API 노드 2개를 붙이고
+ * 한 노드에서 보낸 /user, /topic 메시지가 다른 노드에 연결된 세션까지 도착하는지 본다.
+ * 노드는 WebSocketConfig 만 띄운 최소 컨텍스트 (토큰 검증은 "토큰 = 이메일" 로 대체), Docker 가 없으면 건너뜀.
+ */
+@Tag("relay")
+@Testcontainers(disabledWithoutDocker = true)
+class StompRelayCrossNodeTest {
+
+    private static final long DELIVERY_TIMEOUT_SECONDS = 15;
+
+    @Container
+    static final RabbitMQContainer RABBIT = new RabbitMQContainer(DockerImageName.parse("rabbitmq:3.13-management"))
+            .withPluginsEnabled("rabbitmq_stomp")
+            .withExposedPorts(5672, 61613);
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+    private static WebSocketStompClient stompClient;
+    private static final List<StompSession> sessions = new ArrayList<>();
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode();
+        nodeB = startNode();
+        stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new StringMessageConverter());
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        sessions.forEach(StompSession::disconnect);
+        if (nodeA != null) nodeA.close();
+        if (nodeB != null) nodeB.close();
+    }
+
+    @Test
+    void 다른_노드에_연결된_사용자에게_user_목적지_전달() throws Exception {
+        BlockingQueue<String> inbox = subscribe(nodeA, "alice@x", "/user/queue/notify");
+        SimpMessagingTemplate fromB = nodeB.getBean(SimpMessagingTemplate.class);
+
+        String received = awaitDelivery(inbox, () -> fromB.convertAndSendToUser("alice@x", "/queue/notify", "hello"));
+
+        assertThat(received).isEqualTo("hello");
+    }
+
+    @Test
+    void 토픽은_모든_노드의_구독자에게_전달() throws Exception {
+        BlockingQueue<String> onA = subscribe(nodeA, "carol@x", "/topic/chat.room.1");
+        BlockingQueue<String> onB = subscribe(nodeB, "dave@x", "/topic/chat.room.1");
+        SimpMessagingTemplate fromA = nodeA.getBean(SimpMessagingTemplate.class);
+
+        Runnable send = () -> fromA.convertAndSend("/topic/chat.room.1", "room-message");
+
+        assertThat(awaitDelivery(onA, send)).isEqualTo("room-message");
+        assertThat(awaitDelivery(onB, send)).isEqualTo("room-message");
+    }
+
+    /* ===================== 내부 ===================== */
+
+    /** 명령행 인자로 넘겨 application.yml 의 SIMPLE 기본값보다 우선하게 함 */
+    private static ConfigurableApplicationContext startNode() {
+        return new SpringApplicationBuilder(RelayNode.class).run(
+                "--server.port=0",
+                "--app.websocket.broker.mode=RELAY",
+                "--app.websocket.broker.relay-host=" + RABBIT.getHost(),
+                "--app.websocket.broker.relay-port=" + RABBIT.getMappedPort(61613),
+                "--app.websocket.broker.client-login=" + RABBIT.getAdminUsername(),
+                "--app.websocket.broker.client-passcode=" + RABBIT.getAdminPassword(),
+                "--app.websocket.broker.system-login=" + RABBIT.getAdminUsername(),
+                "--app.websocket.broker.system-passcode=" + RABBIT.getAdminPassword());
+    }
+
+    /** 토큰(= 이메일)으로 해당 노드에 연결 후 구독, 받은 본문을 큐로 모음 */
+    private static BlockingQueue<String> subscribe(ConfigurableApplicationContext node, String email,
+                                                   String destination) throws Exception {
+        int port = ((ServletWebServerApplicationContext) node).getWebServer().getPort();
+        StompSession session = stompClient
+                .connectAsync("ws://127.0.0.1:" + port + "/ws-chat?token=" + email, new StompSessionHandlerAdapter() {})
+                .get(10, TimeUnit.SECONDS);
+        sessions.add(session);
+
+        BlockingQueue<String> inbox = new LinkedBlockingQueue<>();
+        session.subscribe(destination, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return String.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                inbox.add((String) payload);
+            }
+        });
+        return inbox;
+    }
+
+    /**
+     * 구독이 브로커에 반영되기까지 비동기라 도착할 때까지 재전송.
+     * 노드 간 전달이 안 되면 시간 안에 한 건도 오지 않아 null.
+     */
+    private static String awaitDelivery(BlockingQueue<String> inbox, Runnable send) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(DELIVERY_TIMEOUT_SECONDS);
+        while (System.nanoTime() < deadline) {
+            try {
+                send.run();
+            } catch (RuntimeException brokerNotReady) {
+                // system 연결 수립 전 → 다음 시도
+            }
+            String received = inbox.poll(300, TimeUnit.MILLISECONDS);
+            if (received != null) return received;
+        }
+        return null;
+    }
+
+    @SpringBootConfiguration
+    @ImportAutoConfiguration({
+            PropertyPlaceholderAutoConfiguration.class,
+            ServletWebServerFactoryAutoConfiguration.class,
+            DispatcherServletAutoConfiguration.class,
+            WebSocketServletAutoConfiguration.class,
+            JacksonAutoConfiguration.class,
+            WebSocketMessagingAutoConfiguration.class
+    })
+    @EnableConfigurationProperties(WebSocketProperties.class)
+    @Import({WebSocketConfig.class, UserPrincipalHandshakeHandler.class, OutboundBackpressure.class})
+    static class RelayNode {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        JwtHandshakeInterceptor jwtHandshakeInterceptor() {
+            return new JwtHandshakeInterceptor(tokenProvider(), principalResolver());
+        }
+
+        @Bean
+        JwtStompChannelInterceptor jwtStompChannelInterceptor() {
+            return new JwtStompChannelInterceptor(tokenProvider(), principalResolver());
+        }
+
+        /* 토큰 검증 빈(@Value jwt.secret)은 띄우지 않고 인터셉터에만 목으로 주입 */
+
+        private static JwtTokenProvider tokenProvider() {
+            JwtTokenProvider provider = mock(JwtTokenProvider.class);
+            when(provider.validateToken(anyString())).thenReturn(true);
+            return provider;
+        }
+
+        private static JwtPrincipalResolver principalResolver() {
+            JwtPrincipalResolver resolver = mock(JwtPrincipalResolver.class);
+            when(resolver.resolveForConnection(anyString())).thenAnswer(inv -> {
+                String email = inv.getArgument(0);
+                return Optional.of(new UserPrincipal((long) email.hashCode(), email, List.of()));
+            });
+            return resolver;
+        }
+    }
+}